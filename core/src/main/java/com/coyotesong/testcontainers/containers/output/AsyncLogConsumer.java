@@ -0,0 +1,362 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import com.coyotesong.testcontainers.containers.startup.StartupListener;
+import com.coyotesong.testcontainers.containers.startup.StartupPhase;
+import com.coyotesong.testcontainers.containers.startup.StartupTimings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous TestContainer log consumer.
+ * <p>
+ * Frames are copied into a bounded ring buffer and forwarded to the delegate
+ * consumer by a single background thread. This keeps decoding, filtering and
+ * logging off the docker-java callback thread so a chatty container does not
+ * stall frame delivery to other consumers, e.g., a LogMessageWaitStrategy.
+ * <p>
+ * The overflow policy determines what happens when the buffer is full. The
+ * number of dropped frames is available via {@link #getDroppedOldestCount()}
+ * and {@link #getDroppedNewestCount()}.
+ * <p>
+ * The {@link OutputFrame#END} frame sent when the container's log stream closes
+ * is never dropped. The calling thread waits until every queued frame has been
+ * delivered and then stops the background thread, as {@link #close()} would.
+ * Any later frames are delivered synchronously.
+ * <p>
+ * Startup events are forwarded to a delegate that is a {@link StartupListener}, e.g.,
+ * a SelectiveLogConsumer at the SOME logging level. The queued frames are delivered
+ * before a failed startup is reported so the delegate can log them.
+ */
+public class AsyncLogConsumer implements Consumer<OutputFrame>, StartupListener, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncLogConsumer.class);
+
+    /** Default buffer capacity */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Default time to wait for the buffer to drain on close */
+    public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Policy used when the buffer is full */
+    public enum OverflowPolicy {
+        /** Block the caller until there is room in the buffer */
+        BLOCK,
+        /** Discard the oldest queued frame */
+        DROP_OLDEST,
+        /** Discard the new frame */
+        DROP_NEWEST,
+    }
+
+    private final Consumer<OutputFrame> delegate;
+
+    private final OverflowPolicy policy;
+
+    private final OutputFrame[] ring;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final Condition drained = lock.newCondition();
+
+    private final AtomicLong droppedOldest = new AtomicLong();
+
+    private final AtomicLong droppedNewest = new AtomicLong();
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    private final Thread worker;
+
+    private int head;
+
+    private int count;
+
+    private boolean inFlight;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param name container name, used to name the background thread
+     * @param delegate consumer that receives the frames
+     * @param capacity maximum number of queued frames
+     * @param policy overflow policy
+     */
+    public AsyncLogConsumer(String name, Consumer<OutputFrame> delegate, int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+        this.ring = new OutputFrame[capacity];
+
+        this.worker = new Thread(this::drain, "log-consumer-" + name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Convenience constructor
+     *
+     * @param name container name
+     * @param delegate consumer that receives the frames
+     */
+    public AsyncLogConsumer(String name, Consumer<OutputFrame> delegate) {
+        this(name, delegate, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Get overflow policy
+     *
+     * @return OverflowPolicy enum
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return policy;
+    }
+
+    /**
+     * Get buffer capacity
+     *
+     * @return maximum number of queued frames
+     */
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * Get number of frames discarded by the DROP_OLDEST policy
+     *
+     * @return number of dropped frames
+     */
+    public long getDroppedOldestCount() {
+        return droppedOldest.get();
+    }
+
+    /**
+     * Get number of frames discarded by the DROP_NEWEST policy
+     *
+     * @return number of dropped frames
+     */
+    public long getDroppedNewestCount() {
+        return droppedNewest.get();
+    }
+
+    /**
+     * Get number of frames forwarded to the delegate
+     *
+     * @return number of delivered frames
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (closed) {
+            // the worker is gone - fall back to synchronous delivery
+            delegate.accept(frame);
+            return;
+        }
+
+        final boolean end = (frame.getType() == OutputFrame.OutputType.END);
+        boolean direct = false;
+
+        lock.lock();
+        try {
+            if (count == ring.length) {
+                if (end || policy == OverflowPolicy.BLOCK) {
+                    while (count == ring.length && !closed) {
+                        notFull.awaitUninterruptibly();
+                    }
+                } else if (policy == OverflowPolicy.DROP_OLDEST) {
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                    count--;
+                    droppedOldest.incrementAndGet();
+                } else {
+                    droppedNewest.incrementAndGet();
+                    return;
+                }
+            }
+
+            if (closed) {
+                direct = true;
+            } else {
+                ring[(head + count) % ring.length] = frame;
+                count++;
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (direct) {
+            // closed while we were waiting for room in the buffer
+            delegate.accept(frame);
+        } else if (end) {
+            // the container has stopped - wait for everything to reach the delegate, then stop the worker
+            close(DEFAULT_CLOSE_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void phaseCompleted(String containerName, StartupPhase phase, Duration duration) {
+        if (delegate instanceof StartupListener) {
+            ((StartupListener) delegate).phaseCompleted(containerName, phase, duration);
+        }
+    }
+
+    @Override
+    public void startupCompleted(String containerName, StartupTimings timings) {
+        if (delegate instanceof StartupListener) {
+            ((StartupListener) delegate).startupCompleted(containerName, timings);
+        }
+    }
+
+    @Override
+    public void startupFailed(String containerName, StartupTimings timings, Throwable cause) {
+        if (delegate instanceof StartupListener) {
+            flush(DEFAULT_CLOSE_TIMEOUT);
+            ((StartupListener) delegate).startupFailed(containerName, timings, cause);
+        }
+    }
+
+    /**
+     * Wait until every queued frame has been delivered
+     *
+     * @param timeout maximum time to wait
+     * @return 'true' if the buffer drained before the timeout
+     */
+    public boolean flush(Duration timeout) {
+        if (Thread.currentThread() == worker) {
+            // called by the delegate - waiting would deadlock
+            return false;
+        }
+
+        long nanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while ((count > 0 || inFlight) && worker.isAlive()) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = drained.awaitNanos(nanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until every queued frame has been delivered
+     */
+    public void flush() {
+        flush(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Drain the buffer and stop the background thread.
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT);
+    }
+
+    /**
+     * Drain the buffer and stop the background thread.
+     *
+     * @param timeout maximum time to wait for the buffer to drain
+     */
+    public void close(Duration timeout) {
+        if (closed) {
+            return;
+        }
+
+        if (!flush(timeout)) {
+            final int queued;
+            lock.lock();
+            try {
+                queued = count;
+            } finally {
+                lock.unlock();
+            }
+            LOG.warn("{} log frames were still queued when consumer was closed", queued);
+        }
+
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (Thread.currentThread() != worker) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Background thread: forward frames to the delegate until closed.
+     */
+    private void drain() {
+        while (true) {
+            final OutputFrame frame;
+            lock.lock();
+            try {
+                while (count == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (count == 0) {
+                    drained.signalAll();
+                    return;
+                }
+                frame = ring[head];
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                count--;
+                inFlight = true;
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                delegate.accept(frame);
+            } catch (RuntimeException e) {
+                LOG.warn("log consumer failed: {}", e.getMessage(), e);
+            } finally {
+                delivered.incrementAndGet();
+                lock.lock();
+                try {
+                    inFlight = false;
+                    if (count == 0) {
+                        drained.signalAll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
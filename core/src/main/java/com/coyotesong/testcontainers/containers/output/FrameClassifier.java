@@ -0,0 +1,33 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * Classifies container log frames.
+ * <p>
+ * Implementations work on the raw frame bytes so frames that will be
+ * discarded never need to be decoded into a String.
+ */
+@FunctionalInterface
+public interface FrameClassifier {
+    /**
+     * Is this log message noise, e.g., an embedded DEBUG or INFO statement?
+     *
+     * @param bytes frame content
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @return 'true' if the message is noise
+     */
+    boolean isNoise(byte[] bytes, int offset, int length);
+
+    /**
+     * Is this log frame noise?
+     *
+     * @param frame log frame
+     * @return 'true' if the frame is noise
+     */
+    default boolean isNoise(OutputFrame frame) {
+        final byte[] bytes = frame.getBytes();
+        return bytes != null && isNoise(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,28 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import java.util.List;
+
+/**
+ * Service provider for container-specific frame classifiers.
+ * <p>
+ * Providers are listed in
+ * 'META-INF/services/com.coyotesong.testcontainers.containers.output.FrameClassifierProvider'
+ * and are registered the first time {@link FrameClassifiers} is used. A SelectiveLogConsumer
+ * created before the container class has been loaded therefore still finds the container's
+ * classifier. Explicit calls to {@link FrameClassifiers#register} take precedence.
+ */
+public interface FrameClassifierProvider {
+    /**
+     * Get container names and/or docker image names
+     *
+     * @return names
+     */
+    List<String> getNames();
+
+    /**
+     * Get classifier
+     *
+     * @return frame classifier
+     */
+    FrameClassifier getClassifier();
+}
@@ -0,0 +1,124 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of per-container frame classifiers.
+ * <p>
+ * Classifiers are registered under a container name or docker image name.
+ * Lookups by image name ignore the tag and digest so a single registration
+ * covers every version of the image.
+ * <p>
+ * Container modules contribute their classifiers via {@link FrameClassifierProvider}.
+ */
+public final class FrameClassifiers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FrameClassifiers.class);
+
+    /**
+     * Default noise markers. These are the embedded log statements
+     * written by PostgreSQL-derived databases.
+     */
+    public static final PatternFrameClassifier DEFAULT = new PatternFrameClassifier(
+        ": DEBUG:  ",
+        ": NOTICE:  ",
+        ": INFO:  ",
+        " LOG: "
+    );
+
+    private static final Map<String, FrameClassifier> REGISTRY = new ConcurrentHashMap<>();
+
+    private static volatile boolean providersLoaded;
+
+    private FrameClassifiers() {}
+
+    /**
+     * Register classifier
+     *
+     * @param classifier frame classifier
+     * @param names container names and/or docker image names
+     * @param <T> classifier type
+     * @return the classifier
+     */
+    public static <T extends FrameClassifier> T register(T classifier, String... names) {
+        loadProviders();
+        for (String name : names) {
+            REGISTRY.put(unversioned(name), classifier);
+        }
+        return classifier;
+    }
+
+    /**
+     * Remove registration
+     *
+     * @param name container name or docker image name
+     */
+    public static void unregister(String name) {
+        loadProviders();
+        REGISTRY.remove(unversioned(name));
+    }
+
+    /**
+     * Find classifier for container
+     *
+     * @param name container name or docker image name
+     * @return registered classifier or the default classifier
+     */
+    public static FrameClassifier lookup(String name) {
+        if (name == null) {
+            return DEFAULT;
+        }
+        loadProviders();
+        return REGISTRY.getOrDefault(unversioned(name), DEFAULT);
+    }
+
+    /**
+     * Register the classifiers contributed by FrameClassifierProviders, once
+     */
+    private static void loadProviders() {
+        if (providersLoaded) {
+            return;
+        }
+        synchronized (REGISTRY) {
+            if (providersLoaded) {
+                return;
+            }
+            try {
+                for (FrameClassifierProvider provider : ServiceLoader.load(FrameClassifierProvider.class)) {
+                    final FrameClassifier classifier = provider.getClassifier();
+                    for (String name : provider.getNames()) {
+                        REGISTRY.putIfAbsent(unversioned(name), classifier);
+                    }
+                }
+            } catch (ServiceConfigurationError e) {
+                LOG.warn("unable to load frame classifier providers: {}", e.getMessage());
+            }
+            providersLoaded = true;
+        }
+    }
+
+    /**
+     * Strip tag and digest from docker image name
+     *
+     * @param name docker image name
+     * @return name without tag or digest
+     */
+    static String unversioned(String name) {
+        String s = name;
+        final int digest = s.indexOf('@');
+        if (digest >= 0) {
+            s = s.substring(0, digest);
+        }
+        final int tag = s.lastIndexOf(':');
+        if (tag > s.lastIndexOf('/')) {
+            s = s.substring(0, tag);
+        }
+        return s;
+    }
+}
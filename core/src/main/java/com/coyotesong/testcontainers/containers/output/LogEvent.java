@@ -0,0 +1,158 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.slf4j.event.Level;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Log event parsed from a container log frame.
+ * <p>
+ * Events are mutable and reused: a {@link LogFormat} records the positions of the
+ * timestamp, source and message within the frame bytes and nothing is decoded until
+ * one of the getters is called. An event is only valid until the next frame is parsed
+ * into it.
+ */
+public final class LogEvent {
+
+    private String containerName;
+
+    private OutputFrame.OutputType type;
+
+    private byte[] bytes;
+
+    private Level level;
+
+    private int timestampOffset;
+
+    private int timestampLength;
+
+    private int sourceOffset;
+
+    private int sourceLength;
+
+    private int messageOffset;
+
+    private int messageLength;
+
+    /**
+     * Prepare the event for a new frame
+     *
+     * @param containerName container name
+     * @param type output type
+     * @param bytes frame content
+     */
+    public void reset(String containerName, OutputFrame.OutputType type, byte[] bytes) {
+        this.containerName = containerName;
+        this.type = type;
+        this.bytes = bytes;
+        this.level = null;
+        this.timestampLength = 0;
+        this.sourceLength = 0;
+        this.messageOffset = 0;
+        this.messageLength = 0;
+    }
+
+    void setLevel(Level level) {
+        this.level = level;
+    }
+
+    void setTimestamp(int offset, int length) {
+        this.timestampOffset = offset;
+        this.timestampLength = length;
+    }
+
+    void setSource(int offset, int length) {
+        this.sourceOffset = offset;
+        this.sourceLength = length;
+    }
+
+    void setMessage(int offset, int length) {
+        this.messageOffset = offset;
+        this.messageLength = length;
+    }
+
+    /**
+     * Get container name
+     *
+     * @return container name
+     */
+    public String getContainerName() {
+        return containerName;
+    }
+
+    /**
+     * Get output type
+     *
+     * @return STDOUT or STDERR
+     */
+    public OutputFrame.OutputType getType() {
+        return type;
+    }
+
+    /**
+     * Get severity
+     *
+     * @return SLF4J level
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Does the event have a timestamp?
+     *
+     * @return 'true' if the event has a timestamp
+     */
+    public boolean hasTimestamp() {
+        return timestampLength > 0;
+    }
+
+    /**
+     * Get timestamp, exactly as written by the container
+     *
+     * @return timestamp or null
+     */
+    public String getTimestamp() {
+        return hasTimestamp() ? new String(bytes, timestampOffset, timestampLength, StandardCharsets.US_ASCII) : null;
+    }
+
+    /**
+     * Does the event have a source?
+     *
+     * @return 'true' if the event has a source
+     */
+    public boolean hasSource() {
+        return sourceLength > 0;
+    }
+
+    /**
+     * Get source, e.g., the thread or component that wrote the message
+     *
+     * @return source or null
+     */
+    public String getSource() {
+        return hasSource() ? new String(bytes, sourceOffset, sourceLength, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Get message, without the line ending
+     *
+     * @return message
+     */
+    public String getMessage() {
+        return new String(bytes, messageOffset, messageLength, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "LogEvent[container=%s, level=%s, timestamp=%s, source=%s, message=%s]",
+            containerName,
+            level,
+            getTimestamp(),
+            getSource(),
+            getMessage()
+        );
+    }
+}
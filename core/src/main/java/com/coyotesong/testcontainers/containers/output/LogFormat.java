@@ -0,0 +1,21 @@
+package com.coyotesong.testcontainers.containers.output;
+
+/**
+ * Parser for a container log format.
+ * <p>
+ * Implementations work on the raw frame bytes, without regular expressions or
+ * allocation, since they run for every frame.
+ */
+@FunctionalInterface
+public interface LogFormat {
+    /**
+     * Parse a log line
+     *
+     * @param bytes frame content
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @param event event to update. It has already been reset for this frame.
+     * @return 'true' if the line is in this format. The event is undefined otherwise.
+     */
+    boolean parse(byte[] bytes, int offset, int length, LogEvent event);
+}
@@ -0,0 +1,27 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import java.util.List;
+
+/**
+ * Service provider for container-specific log formats.
+ * <p>
+ * Providers are listed in
+ * 'META-INF/services/com.coyotesong.testcontainers.containers.output.LogFormatProvider'
+ * and are registered the first time {@link LogFormats} is used, like
+ * {@link FrameClassifierProvider}. Explicit calls to {@link LogFormats#register} take precedence.
+ */
+public interface LogFormatProvider {
+    /**
+     * Get container names and/or docker image names
+     *
+     * @return names
+     */
+    List<String> getNames();
+
+    /**
+     * Get log format
+     *
+     * @return log format
+     */
+    LogFormat getFormat();
+}
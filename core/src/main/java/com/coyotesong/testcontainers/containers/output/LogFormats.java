@@ -0,0 +1,440 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Known container log formats and the registry of per-container formats.
+ * <p>
+ * Formats are registered under a container name or docker image name, like
+ * {@link FrameClassifiers}. The parsers scan the raw bytes once, left to right,
+ * and only record positions in the {@link LogEvent}.
+ * <p>
+ * Container modules contribute their formats via {@link LogFormatProvider}.
+ */
+public final class LogFormats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogFormats.class);
+
+    /**
+     * Generic {@code timestamp [zone] [source] level message} format, e.g.,
+     * <pre>
+     * 2023-09-26 10:00:01.123 UTC [123] LOG:  database system is ready
+     * 2023-09-26T10:00:01.123Z INFO [main] started
+     * </pre>
+     */
+    public static final LogFormat GENERIC = LogFormats::parseGeneric;
+
+    /**
+     * Vertica vertica.log format, e.g.,
+     * <pre>
+     * 2023-09-26 10:00:01.123 Init Session:0x7f3a2c0016e0 &lt;INFO&gt; @v_vmart_node0001: 00000/3316: message
+     * </pre>
+     */
+    public static final LogFormat VERTICA = LogFormats::parseVertica;
+
+    /**
+     * SAP HANA trace format, e.g.,
+     * <pre>
+     * [28]{-1}[-1/-1] 2023-09-26 10:00:01.123456 i Basis      TraceContext.cpp(01241) : message
+     * </pre>
+     */
+    public static final LogFormat HANA = LogFormats::parseHana;
+
+    private static final byte[][] KEYWORDS = {
+        bytes("TRACE"),
+        bytes("DEBUG"),
+        bytes("INFO"),
+        bytes("LOG"),
+        bytes("NOTICE"),
+        bytes("WARN"),
+        bytes("WARNING"),
+        bytes("ERROR"),
+        bytes("FATAL"),
+        bytes("PANIC"),
+        bytes("SEVERE"),
+    };
+
+    private static final Level[] KEYWORD_LEVELS = {
+        Level.TRACE,
+        Level.DEBUG,
+        Level.INFO,
+        Level.INFO,
+        Level.INFO,
+        Level.WARN,
+        Level.WARN,
+        Level.ERROR,
+        Level.ERROR,
+        Level.ERROR,
+        Level.ERROR,
+    };
+
+    private static final Map<String, LogFormat> REGISTRY = new ConcurrentHashMap<>();
+
+    private static volatile boolean providersLoaded;
+
+    private LogFormats() {}
+
+    /**
+     * Register format
+     *
+     * @param format log format
+     * @param names container names and/or docker image names
+     * @param <T> format type
+     * @return the format
+     */
+    public static <T extends LogFormat> T register(T format, String... names) {
+        loadProviders();
+        for (String name : names) {
+            REGISTRY.put(FrameClassifiers.unversioned(name), format);
+        }
+        return format;
+    }
+
+    /**
+     * Remove registration
+     *
+     * @param name container name or docker image name
+     */
+    public static void unregister(String name) {
+        loadProviders();
+        REGISTRY.remove(FrameClassifiers.unversioned(name));
+    }
+
+    /**
+     * Find format for container
+     *
+     * @param name container name or docker image name
+     * @return registered format or the generic format
+     */
+    public static LogFormat lookup(String name) {
+        if (name == null) {
+            return GENERIC;
+        }
+        loadProviders();
+        return REGISTRY.getOrDefault(FrameClassifiers.unversioned(name), GENERIC);
+    }
+
+    /**
+     * Register the formats contributed by LogFormatProviders, once
+     */
+    private static void loadProviders() {
+        if (providersLoaded) {
+            return;
+        }
+        synchronized (REGISTRY) {
+            if (providersLoaded) {
+                return;
+            }
+            try {
+                for (LogFormatProvider provider : ServiceLoader.load(LogFormatProvider.class)) {
+                    final LogFormat format = provider.getFormat();
+                    for (String name : provider.getNames()) {
+                        REGISTRY.putIfAbsent(FrameClassifiers.unversioned(name), format);
+                    }
+                }
+            } catch (ServiceConfigurationError e) {
+                LOG.warn("unable to load log format providers: {}", e.getMessage());
+            }
+            providersLoaded = true;
+        }
+    }
+
+    /**
+     * Map a severity keyword to an SLF4J level. The comparison ignores case and
+     * DEBUG1 to DEBUG5 are treated as DEBUG.
+     *
+     * @param b bytes
+     * @param start offset of the keyword
+     * @param end offset after the keyword
+     * @return SLF4J level or null if this is not a severity keyword
+     */
+    static Level level(byte[] b, int start, int end) {
+        int length = end - start;
+        if (length == 6 && (b[end - 1] >= '1' && b[end - 1] <= '5')) {
+            length = 5; // DEBUGn
+        }
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            final byte[] keyword = KEYWORDS[k];
+            if (keyword.length != length) {
+                continue;
+            }
+            int j = 0;
+            while (j < length && (b[start + j] & 0xDF) == keyword[j]) {
+                j++;
+            }
+            if (j == length) {
+                return (length != end - start && KEYWORD_LEVELS[k] != Level.DEBUG) ? null : KEYWORD_LEVELS[k];
+            }
+        }
+        return null;
+    }
+
+    private static boolean parseGeneric(byte[] b, int offset, int length, LogEvent event) {
+        final int end = trimEnd(b, offset, offset + length);
+        int i = timestamp(b, offset, end);
+        if (i < 0) {
+            return false;
+        }
+        int timestampEnd = i;
+        i = skipSpaces(b, i, end);
+        int t = tokenEnd(b, i, end);
+
+        // time zone name, e.g., 'UTC'
+        if (t - i >= 1 && t - i <= 5 && isUpperAlpha(b, i, t) && level(b, i, t) == null) {
+            timestampEnd = t;
+            i = skipSpaces(b, t, end);
+            t = tokenEnd(b, i, end);
+        }
+        event.setTimestamp(offset, timestampEnd - offset);
+
+        // the level may be preceded by a bracketed source, e.g., '[123] LOG:' or '[main] INFO'
+        for (int token = 0; token < 2 && i < end; token++) {
+            int start = i;
+            int stop = t;
+            while (stop > start && b[stop - 1] == ':') {
+                stop--;
+            }
+            final boolean bracketed = stop - start > 1 && b[start] == '[' && b[stop - 1] == ']';
+            if (bracketed) {
+                start++;
+                stop--;
+            }
+            final Level level = level(b, start, stop);
+            if (level != null) {
+                event.setLevel(level);
+                i = skipSpaces(b, t, end);
+                // bracketed source after the level, e.g., 'INFO [main] started'
+                t = tokenEnd(b, i, end);
+                if (!event.hasSource() && t - i > 2 && b[i] == '[' && b[t - 1] == ']') {
+                    event.setSource(i + 1, t - i - 2);
+                    i = skipSpaces(b, t, end);
+                }
+                event.setMessage(i, end - i);
+                return true;
+            }
+            if (!bracketed || event.hasSource()) {
+                return false;
+            }
+            event.setSource(start, stop - start);
+            i = skipSpaces(b, t, end);
+            t = tokenEnd(b, i, end);
+        }
+        return false;
+    }
+
+    private static boolean parseVertica(byte[] b, int offset, int length, LogEvent event) {
+        final int end = trimEnd(b, offset, offset + length);
+        int i = timestamp(b, offset, end);
+        if (i < 0 || i >= end || b[i] != ' ') {
+            return false;
+        }
+        event.setTimestamp(offset, i - offset);
+        i++;
+
+        final int lt = indexOf(b, (byte) '<', i, end);
+        final int gt = (lt < 0) ? -1 : indexOf(b, (byte) '>', lt + 1, end);
+        if (gt < 0) {
+            return false;
+        }
+        final Level level = level(b, lt + 1, gt);
+        if (level == null) {
+            return false;
+        }
+        event.setLevel(level);
+
+        // thread name, without the thread address or the [component]
+        int sourceEnd = lt;
+        for (int k = i; k < lt; k++) {
+            if (b[k] == '[' || (b[k] == ':' && k + 2 < lt && b[k + 1] == '0' && b[k + 2] == 'x')) {
+                sourceEnd = k;
+                break;
+            }
+        }
+        while (sourceEnd > i && b[sourceEnd - 1] == ' ') {
+            sourceEnd--;
+        }
+        event.setSource(i, sourceEnd - i);
+
+        i = skipSpaces(b, gt + 1, end);
+        event.setMessage(i, end - i);
+        return true;
+    }
+
+    private static boolean parseHana(byte[] b, int offset, int length, LogEvent event) {
+        final int end = trimEnd(b, offset, offset + length);
+        int i = offset;
+
+        // [pid]{connection}[transaction/update] prefix
+        while (i < end && (b[i] == '[' || b[i] == '{')) {
+            final int close = indexOf(b, (byte) (b[i] == '[' ? ']' : '}'), i + 1, end);
+            if (close < 0) {
+                return false;
+            }
+            i = close + 1;
+        }
+        i = skipSpaces(b, i, end);
+
+        final int start = i;
+        i = timestamp(b, i, end);
+        if (i < 0) {
+            return false;
+        }
+        event.setTimestamp(start, i - start);
+
+        i = skipSpaces(b, i, end);
+        if (i + 1 >= end || b[i + 1] != ' ') {
+            return false;
+        }
+        final Level level;
+        switch (b[i]) {
+            case 'd':
+                level = Level.DEBUG;
+                break;
+            case 'i':
+                level = Level.INFO;
+                break;
+            case 'w':
+                level = Level.WARN;
+                break;
+            case 'e':
+            case 'f':
+                level = Level.ERROR;
+                break;
+            default:
+                return false;
+        }
+        event.setLevel(level);
+
+        // component, then 'File.cpp(01234) : message'
+        i = skipSpaces(b, i + 2, end);
+        final int componentEnd = tokenEnd(b, i, end);
+        event.setSource(i, componentEnd - i);
+
+        i = componentEnd;
+        int message = -1;
+        for (int k = i; k + 2 < end; k++) {
+            if (b[k] == ' ' && b[k + 1] == ':' && b[k + 2] == ' ') {
+                message = k + 3;
+                break;
+            }
+        }
+        i = skipSpaces(b, (message < 0) ? i : message, end);
+        event.setMessage(i, end - i);
+        return true;
+    }
+
+    /**
+     * Match an ISO 8601-like timestamp: {@code yyyy-MM-dd[ T]HH:mm:ss[.fraction][Z|+hh[:mm]]}
+     *
+     * @param b bytes
+     * @param i offset of the timestamp
+     * @param end end of the line
+     * @return offset after the timestamp, or -1 if there is no timestamp
+     */
+    static int timestamp(byte[] b, int i, int end) {
+        if (
+            !digits(b, i, 4, end) ||
+            !is(b, i + 4, '-', end) ||
+            !digits(b, i + 5, 2, end) ||
+            !is(b, i + 7, '-', end) ||
+            !digits(b, i + 8, 2, end) ||
+            !(is(b, i + 10, ' ', end) || is(b, i + 10, 'T', end)) ||
+            !digits(b, i + 11, 2, end) ||
+            !is(b, i + 13, ':', end) ||
+            !digits(b, i + 14, 2, end) ||
+            !is(b, i + 16, ':', end) ||
+            !digits(b, i + 17, 2, end)
+        ) {
+            return -1;
+        }
+        i += 19;
+        if ((is(b, i, '.', end) || is(b, i, ',', end)) && digits(b, i + 1, 1, end)) {
+            i += 2;
+            while (i < end && isDigit(b[i])) {
+                i++;
+            }
+        }
+        if (is(b, i, 'Z', end)) {
+            i++;
+        } else if ((is(b, i, '+', end) || is(b, i, '-', end)) && digits(b, i + 1, 2, end)) {
+            i += 3;
+            if (is(b, i, ':', end) && digits(b, i + 1, 2, end)) {
+                i += 3;
+            } else if (digits(b, i, 2, end)) {
+                i += 2;
+            }
+        }
+        return i;
+    }
+
+    private static int trimEnd(byte[] b, int offset, int end) {
+        while (end > offset && (b[end - 1] == '\n' || b[end - 1] == '\r')) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int skipSpaces(byte[] b, int i, int end) {
+        while (i < end && (b[i] == ' ' || b[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int tokenEnd(byte[] b, int i, int end) {
+        while (i < end && b[i] != ' ' && b[i] != '\t') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(byte[] b, byte c, int i, int end) {
+        for (; i < end; i++) {
+            if (b[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean is(byte[] b, int i, char c, int end) {
+        return i < end && b[i] == c;
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean digits(byte[] b, int i, int n, int end) {
+        if (i + n > end) {
+            return false;
+        }
+        for (int k = i; k < i + n; k++) {
+            if (!isDigit(b[k])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUpperAlpha(byte[] b, int i, int end) {
+        for (; i < end; i++) {
+            if (b[i] < 'A' || b[i] > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
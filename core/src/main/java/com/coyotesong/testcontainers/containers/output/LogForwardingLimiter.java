@@ -0,0 +1,198 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.util.Arrays;
+
+/**
+ * Applies {@link LogForwardingLimits} to a stream of frames and counts the frames
+ * that were suppressed.
+ * <p>
+ * The checks are applied in order: duplicate collapsing, sampling, rate limiting.
+ * A collapsed duplicate is not sampled and does not take a token. Each check is a
+ * few comparisons, or a byte comparison of two lines of equal length, so the cost
+ * per frame is bounded no matter how fast the container writes.
+ * <p>
+ * The counters are cumulative. The 'take' methods return the number of frames
+ * suppressed since the last call so the caller can report them once the stream
+ * recovers, e.g., "previous line repeated 4,312 times".
+ * <p>
+ * Instances are thread-safe.
+ */
+public class LogForwardingLimiter {
+
+    /** Returned by {@link #collapse(OutputFrame)} when the frame repeats the previous line */
+    public static final long DUPLICATE = -1L;
+
+    private static final int TYPES = OutputType.values().length;
+
+    private final LogForwardingLimits limits;
+
+    private final TokenBucket[] buckets = new TokenBucket[TYPES];
+
+    private final byte[][] previous = new byte[TYPES][];
+
+    private final long[] repeats = new long[TYPES];
+
+    private final long[] sampleCounters = new long[TYPES];
+
+    private final long[] pendingRateLimited = new long[TYPES];
+
+    private final long[] collapsed = new long[TYPES];
+
+    private final long[] sampledOut = new long[TYPES];
+
+    private final long[] rateLimited = new long[TYPES];
+
+    /**
+     * Constructor
+     *
+     * @param limits limits
+     */
+    public LogForwardingLimiter(LogForwardingLimits limits) {
+        this.limits = limits;
+        for (OutputType type : OutputType.values()) {
+            if (limits.getRate(type) > 0) {
+                buckets[type.ordinal()] = new TokenBucket(limits.getRate(type), limits.getBurst(type));
+            }
+        }
+    }
+
+    /**
+     * Get limits
+     *
+     * @return limits
+     */
+    public LogForwardingLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Check whether the frame repeats the previous line of the same output type
+     *
+     * @param frame frame
+     * @return {@link #DUPLICATE} if the frame should be suppressed, otherwise the number
+     * of times the previous line was repeated (usually zero)
+     */
+    public synchronized long collapse(OutputFrame frame) {
+        if (!limits.isCollapseDuplicates()) {
+            return 0L;
+        }
+        final int i = frame.getType().ordinal();
+        final byte[] bytes = frame.getBytes();
+        if (bytes != null && previous[i] != null && Arrays.equals(bytes, previous[i])) {
+            repeats[i]++;
+            collapsed[i]++;
+            return DUPLICATE;
+        }
+        previous[i] = bytes;
+        final long count = repeats[i];
+        repeats[i] = 0L;
+        return count;
+    }
+
+    /**
+     * Apply sampling and the rate limit
+     *
+     * @param type output type
+     * @return 'true' if the frame should be forwarded
+     */
+    public synchronized boolean tryAcquire(OutputType type) {
+        final int i = type.ordinal();
+        final int n = limits.getSampling(type);
+        if (n > 1 && (sampleCounters[i]++ % n) != 0) {
+            sampledOut[i]++;
+            return false;
+        }
+        final TokenBucket bucket = buckets[i];
+        if (bucket != null && !bucket.tryAcquire(System.nanoTime())) {
+            rateLimited[i]++;
+            pendingRateLimited[i]++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get and reset the number of pending repeats of the previous line, e.g., when the
+     * log stream ends.
+     *
+     * @param type output type
+     * @return number of repeats not yet reported
+     */
+    public synchronized long takeRepeats(OutputType type) {
+        final int i = type.ordinal();
+        final long count = repeats[i];
+        repeats[i] = 0L;
+        previous[i] = null;
+        return count;
+    }
+
+    /**
+     * Get and reset the number of frames suppressed by the rate limit since the last call
+     *
+     * @param type output type
+     * @return number of frames not yet reported
+     */
+    public synchronized long takeRateLimited(OutputType type) {
+        final int i = type.ordinal();
+        final long count = pendingRateLimited[i];
+        pendingRateLimited[i] = 0L;
+        return count;
+    }
+
+    /**
+     * Get number of frames collapsed as duplicates of the previous line
+     *
+     * @param type output type
+     * @return number of frames
+     */
+    public synchronized long getCollapsedCount(OutputType type) {
+        return collapsed[type.ordinal()];
+    }
+
+    /**
+     * Get number of frames skipped by sampling
+     *
+     * @param type output type
+     * @return number of frames
+     */
+    public synchronized long getSampledOutCount(OutputType type) {
+        return sampledOut[type.ordinal()];
+    }
+
+    /**
+     * Get number of frames suppressed by the rate limit
+     *
+     * @param type output type
+     * @return number of frames
+     */
+    public synchronized long getRateLimitedCount(OutputType type) {
+        return rateLimited[type.ordinal()];
+    }
+
+    /**
+     * Get number of suppressed frames
+     *
+     * @param type output type
+     * @return number of frames collapsed, sampled out or rate limited
+     */
+    public synchronized long getSuppressedCount(OutputType type) {
+        final int i = type.ordinal();
+        return collapsed[i] + sampledOut[i] + rateLimited[i];
+    }
+
+    /**
+     * Get number of suppressed frames of all output types
+     *
+     * @return number of frames collapsed, sampled out or rate limited
+     */
+    public synchronized long getSuppressedCount() {
+        long total = 0L;
+        for (int i = 0; i < TYPES; i++) {
+            total += collapsed[i] + sampledOut[i] + rateLimited[i];
+        }
+        return total;
+    }
+}
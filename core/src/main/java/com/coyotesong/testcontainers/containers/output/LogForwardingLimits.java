@@ -0,0 +1,199 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.util.Arrays;
+
+/**
+ * Limits on the frames forwarded by a {@link SelectiveLogConsumer}.
+ * <p>
+ * A container in a crash or retry loop can write the same lines thousands of times
+ * per second. These limits bound the cost of forwarding them to the logging backend:
+ * <ul>
+ *     <li>a token-bucket rate limit, per output type</li>
+ *     <li>sampling, i.e., forwarding every n-th frame, per output type</li>
+ *     <li>collapsing consecutive duplicate lines into a single "previous line repeated" message</li>
+ * </ul>
+ * Instances are immutable. The 'with' methods return a modified copy.
+ */
+public final class LogForwardingLimits {
+
+    private static final int TYPES = OutputType.values().length;
+
+    /** No limits */
+    public static final LogForwardingLimits UNLIMITED = new LogForwardingLimits(new double[TYPES], new int[TYPES], ones(), false);
+
+    private final double[] rates;
+
+    private final int[] bursts;
+
+    private final int[] sampling;
+
+    private final boolean collapseDuplicates;
+
+    /**
+     * Constructor
+     *
+     * @param rates frames per second, indexed by OutputType ordinal. Zero means no limit.
+     * @param bursts bucket capacity, indexed by OutputType ordinal
+     * @param sampling forward every n-th frame, indexed by OutputType ordinal
+     * @param collapseDuplicates collapse consecutive duplicate lines
+     */
+    private LogForwardingLimits(double[] rates, int[] bursts, int[] sampling, boolean collapseDuplicates) {
+        this.rates = rates;
+        this.bursts = bursts;
+        this.sampling = sampling;
+        this.collapseDuplicates = collapseDuplicates;
+    }
+
+    /**
+     * Get rate limit
+     *
+     * @param type output type
+     * @return frames per second, or zero if there is no limit
+     */
+    public double getRate(OutputType type) {
+        return rates[type.ordinal()];
+    }
+
+    /**
+     * Get burst size, i.e., the number of frames that may be forwarded at once
+     * before the rate limit applies
+     *
+     * @param type output type
+     * @return burst size
+     */
+    public int getBurst(OutputType type) {
+        return bursts[type.ordinal()];
+    }
+
+    /**
+     * Get sampling interval
+     *
+     * @param type output type
+     * @return n, where every n-th frame is forwarded. One means every frame.
+     */
+    public int getSampling(OutputType type) {
+        return sampling[type.ordinal()];
+    }
+
+    /**
+     * Are consecutive duplicate lines collapsed?
+     *
+     * @return 'true' if duplicates are collapsed
+     */
+    public boolean isCollapseDuplicates() {
+        return collapseDuplicates;
+    }
+
+    /**
+     * Is any limit set?
+     *
+     * @return 'false' if every frame is forwarded
+     */
+    public boolean isLimited() {
+        if (collapseDuplicates) {
+            return true;
+        }
+        for (int i = 0; i < TYPES; i++) {
+            if (rates[i] > 0 || sampling[i] > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Specify rate limit
+     *
+     * @param type output type
+     * @param framesPerSecond sustained rate, or zero for no limit
+     * @param burst number of frames that may be forwarded at once
+     * @return new limits
+     */
+    public LogForwardingLimits withRateLimit(OutputType type, double framesPerSecond, int burst) {
+        if (framesPerSecond < 0 || Double.isNaN(framesPerSecond)) {
+            throw new IllegalArgumentException("framesPerSecond must not be negative");
+        }
+        if (framesPerSecond > 0 && burst < 1) {
+            throw new IllegalArgumentException("burst must be positive");
+        }
+        final double[] r = rates.clone();
+        final int[] b = bursts.clone();
+        r[type.ordinal()] = framesPerSecond;
+        b[type.ordinal()] = (framesPerSecond > 0) ? burst : 0;
+        return new LogForwardingLimits(r, b, sampling, collapseDuplicates);
+    }
+
+    /**
+     * Specify sampling
+     *
+     * @param type output type
+     * @param everyNth forward every n-th frame. One means every frame.
+     * @return new limits
+     */
+    public LogForwardingLimits withSampling(OutputType type, int everyNth) {
+        if (everyNth < 1) {
+            throw new IllegalArgumentException("everyNth must be positive");
+        }
+        final int[] s = sampling.clone();
+        s[type.ordinal()] = everyNth;
+        return new LogForwardingLimits(rates, bursts, s, collapseDuplicates);
+    }
+
+    /**
+     * Specify duplicate collapsing
+     *
+     * @param collapseDuplicates collapse consecutive duplicate lines
+     * @return new limits
+     */
+    public LogForwardingLimits withCollapseDuplicates(boolean collapseDuplicates) {
+        return new LogForwardingLimits(rates, bursts, sampling, collapseDuplicates);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LogForwardingLimits)) {
+            return false;
+        }
+        final LogForwardingLimits that = (LogForwardingLimits) o;
+        return (
+            collapseDuplicates == that.collapseDuplicates &&
+            Arrays.equals(rates, that.rates) &&
+            Arrays.equals(bursts, that.bursts) &&
+            Arrays.equals(sampling, that.sampling)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(rates);
+        result = 31 * result + Arrays.hashCode(bursts);
+        result = 31 * result + Arrays.hashCode(sampling);
+        return 31 * result + (collapseDuplicates ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LogForwardingLimits[");
+        for (OutputType type : OutputType.values()) {
+            final int i = type.ordinal();
+            if (rates[i] > 0) {
+                sb.append(type).append(" rate=").append(rates[i]).append("/s burst=").append(bursts[i]).append(", ");
+            }
+            if (sampling[i] > 1) {
+                sb.append(type).append(" sampling=1/").append(sampling[i]).append(", ");
+            }
+        }
+        return sb.append("collapseDuplicates=").append(collapseDuplicates).append(']').toString();
+    }
+
+    private static int[] ones() {
+        final int[] values = new int[TYPES];
+        Arrays.fill(values, 1);
+        return values;
+    }
+}
@@ -0,0 +1,321 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Precompiled multi-pattern literal matcher.
+ * <p>
+ * This is an Aho-Corasick automaton flattened into a dense DFA over UTF-8 bytes.
+ * A single pass over the input finds every occurrence of every pattern with no
+ * backtracking, no regex and no String allocation. The state is a plain int so
+ * callers can also feed the input incrementally, e.g., one OutputFrame at a time.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class MultiPatternMatcher {
+
+    private static final int ALPHABET = 256;
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    /** Initial automaton state */
+    public static final int INITIAL_STATE = 0;
+
+    private final List<String> patterns;
+
+    /** delta[state * 256 + byte] = next state */
+    private final int[] delta;
+
+    /** pattern ids that end in each state, including those reached via failure links */
+    private final int[][] outputs;
+
+    /** states with ids at or above this value are accepting states */
+    private final int firstAccepting;
+
+    /** bytes that leave the initial state */
+    private final boolean[] startBytes = new boolean[ALPHABET];
+
+    /**
+     * Constructor
+     *
+     * @param patterns literal patterns
+     */
+    private MultiPatternMatcher(List<String> patterns) {
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+
+        // build the trie
+        final List<int[]> trie = new ArrayList<>();
+        final List<int[]> out = new ArrayList<>();
+        trie.add(newNode());
+        out.add(NO_MATCHES);
+
+        for (int id = 0; id < patterns.size(); id++) {
+            final byte[] bytes = patterns.get(id).getBytes(StandardCharsets.UTF_8);
+            if (bytes.length == 0) {
+                throw new IllegalArgumentException("patterns must not be empty");
+            }
+            int state = INITIAL_STATE;
+            for (byte b : bytes) {
+                final int c = b & 0xFF;
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newNode());
+                    out.add(NO_MATCHES);
+                }
+                state = trie.get(state)[c];
+            }
+            out.set(state, append(out.get(state), id));
+        }
+
+        // breadth-first: compute failure links and fill in the missing transitions
+        final int[] fail = new int[trie.size()];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        final int[] root = trie.get(INITIAL_STATE);
+        for (int c = 0; c < ALPHABET; c++) {
+            if (root[c] < 0) {
+                root[c] = INITIAL_STATE;
+            } else {
+                fail[root[c]] = INITIAL_STATE;
+                queue.add(root[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            final int[] node = trie.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                final int next = node[c];
+                if (next < 0) {
+                    node[c] = trie.get(fail[state])[c];
+                } else {
+                    fail[next] = trie.get(fail[state])[c];
+                    out.set(next, merge(out.get(next), out.get(fail[next])));
+                    queue.add(next);
+                }
+            }
+        }
+
+        // renumber the states so every accepting state has an id >= firstAccepting.
+        // The scan loop then detects a match with a single comparison.
+        final int states = trie.size();
+        final int[] renumber = new int[states];
+        int id = 0;
+        for (int state = 0; state < states; state++) {
+            if (out.get(state).length == 0) {
+                renumber[state] = id++;
+            }
+        }
+        this.firstAccepting = id;
+        for (int state = 0; state < states; state++) {
+            if (out.get(state).length > 0) {
+                renumber[state] = id++;
+            }
+        }
+
+        this.delta = new int[states * ALPHABET];
+        this.outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            final int[] node = trie.get(state);
+            final int base = renumber[state] * ALPHABET;
+            for (int c = 0; c < ALPHABET; c++) {
+                delta[base + c] = renumber[node[c]];
+            }
+            outputs[renumber[state]] = out.get(state);
+        }
+        for (int c = 0; c < ALPHABET; c++) {
+            startBytes[c] = (delta[INITIAL_STATE * ALPHABET + c] != INITIAL_STATE);
+        }
+    }
+
+    /**
+     * Compile patterns
+     *
+     * @param patterns literal patterns
+     * @return compiled matcher
+     */
+    public static MultiPatternMatcher compile(Collection<String> patterns) {
+        return new MultiPatternMatcher(new ArrayList<>(patterns));
+    }
+
+    /**
+     * Compile patterns
+     *
+     * @param patterns literal patterns
+     * @return compiled matcher
+     */
+    public static MultiPatternMatcher compile(String... patterns) {
+        return compile(Arrays.asList(patterns));
+    }
+
+    /**
+     * Get patterns
+     *
+     * @return patterns, in the order of their ids
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Get number of automaton states
+     *
+     * @return number of states
+     */
+    public int getStateCount() {
+        return outputs.length;
+    }
+
+    /**
+     * Advance the automaton by one byte
+     *
+     * @param state current state
+     * @param b input byte
+     * @return next state
+     */
+    public int next(int state, byte b) {
+        return delta[(state << 8) | (b & 0xFF)];
+    }
+
+    /**
+     * Get ids of the patterns that end in this state
+     *
+     * @param state automaton state
+     * @return pattern ids, possibly empty. Callers must not modify the array.
+     */
+    public int[] matches(int state) {
+        return (state < firstAccepting) ? NO_MATCHES : outputs[state];
+    }
+
+    /**
+     * Is this an accepting state, i.e., does at least one pattern end in it?
+     *
+     * @param state automaton state
+     * @return 'true' if matches(state) is not empty
+     */
+    public boolean isAccepting(int state) {
+        return state >= firstAccepting;
+    }
+
+    /**
+     * Advance the automaton until it reaches an accepting state or the input is exhausted.
+     * This lets incremental callers skip quickly over input that cannot match.
+     * <p>
+     * The result packs the position and the state into a long to avoid allocation.
+     * Use {@link #positionOf(long)} and {@link #stateOf(long)} to unpack it.
+     *
+     * @param state current state
+     * @param bytes input
+     * @param offset offset of the first byte
+     * @param end offset after the last byte
+     * @return position after the byte that reached an accepting state (or end), and the new state
+     */
+    public long scan(int state, byte[] bytes, int offset, int end) {
+        int i = offset;
+        while (i < end) {
+            if (state == INITIAL_STATE) {
+                while (i < end && !startBytes[bytes[i] & 0xFF]) {
+                    i++;
+                }
+                if (i == end) {
+                    break;
+                }
+            }
+            state = delta[(state << 8) | (bytes[i++] & 0xFF)];
+            if (state >= firstAccepting) {
+                break;
+            }
+        }
+        return ((long) i << 32) | state;
+    }
+
+    /**
+     * Get the position from the result of scan()
+     *
+     * @param result result of scan()
+     * @return position after the last byte consumed
+     */
+    public static int positionOf(long result) {
+        return (int) (result >>> 32);
+    }
+
+    /**
+     * Get the state from the result of scan()
+     *
+     * @param result result of scan()
+     * @return automaton state
+     */
+    public static int stateOf(long result) {
+        return (int) result;
+    }
+
+    /**
+     * Does the input contain any pattern?
+     *
+     * @param bytes input
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @return 'true' if at least one pattern occurs in the input
+     */
+    public boolean containsAny(byte[] bytes, int offset, int length) {
+        int state = INITIAL_STATE;
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (state == INITIAL_STATE) {
+                // fast skip - no dependency on the previous state
+                while (i < end && !startBytes[bytes[i] & 0xFF]) {
+                    i++;
+                }
+                if (i == end) {
+                    break;
+                }
+            }
+            state = delta[(state << 8) | (bytes[i++] & 0xFF)];
+            if (state >= firstAccepting) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Does the input contain any pattern?
+     *
+     * @param bytes input, may be null
+     * @return 'true' if at least one pattern occurs in the input
+     */
+    public boolean containsAny(byte[] bytes) {
+        return bytes != null && containsAny(bytes, 0, bytes.length);
+    }
+
+    private static int[] newNode() {
+        final int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private static int[] append(int[] ids, int id) {
+        final int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        int[] result = a;
+        for (int id : b) {
+            if (Arrays.stream(result).noneMatch(x -> x == id)) {
+                result = append(result, id);
+            }
+        }
+        return result;
+    }
+}
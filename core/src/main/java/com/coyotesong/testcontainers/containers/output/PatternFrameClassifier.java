@@ -0,0 +1,94 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Frame classifier backed by a precompiled multi-pattern matcher.
+ * <p>
+ * A frame is noise if it contains any of the noise markers. All markers
+ * are checked in a single pass over the frame bytes.
+ * <p>
+ * For a few markers, the JIT-vectorised String.contains() is faster than the
+ * automaton (see FrameClassifierBenchmark), so up to {@link #MAX_SCAN_MARKERS}
+ * markers are found with one contains() scan each. The frame is viewed as
+ * ISO-8859-1, which maps each byte to one char, and the markers as their UTF-8
+ * bytes, so both paths match exactly the same byte sequences.
+ */
+public class PatternFrameClassifier implements FrameClassifier {
+
+    /** Largest marker set that is scanned with String.contains() */
+    public static final int MAX_SCAN_MARKERS = 4;
+
+    private final MultiPatternMatcher matcher;
+
+    /** markers as ISO-8859-1 views of their UTF-8 bytes, or null to use the automaton */
+    private final String[] scan;
+
+    /**
+     * Constructor
+     *
+     * @param markers noise markers
+     */
+    public PatternFrameClassifier(Collection<String> markers) {
+        this.matcher = MultiPatternMatcher.compile(markers);
+        if (markers.size() <= MAX_SCAN_MARKERS) {
+            this.scan = new String[markers.size()];
+            int i = 0;
+            for (String marker : markers) {
+                scan[i++] = new String(marker.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+            }
+        } else {
+            this.scan = null;
+        }
+    }
+
+    /**
+     * Convenience constructor
+     *
+     * @param markers noise markers
+     */
+    public PatternFrameClassifier(String... markers) {
+        this(Arrays.asList(markers));
+    }
+
+    /**
+     * Get noise markers
+     *
+     * @return noise markers
+     */
+    public List<String> getMarkers() {
+        return matcher.getPatterns();
+    }
+
+    /**
+     * Create new classifier containing these markers and additional markers
+     *
+     * @param markers additional noise markers
+     * @return new classifier
+     */
+    public PatternFrameClassifier withMarkers(String... markers) {
+        final Set<String> all = new LinkedHashSet<>(getMarkers());
+        all.addAll(Arrays.asList(markers));
+        return new PatternFrameClassifier(new ArrayList<>(all));
+    }
+
+    @Override
+    public boolean isNoise(byte[] bytes, int offset, int length) {
+        if (scan == null) {
+            return matcher.containsAny(bytes, offset, length);
+        }
+        final String s = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        for (String marker : scan) {
+            if (s.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,10 +1,18 @@
 package com.coyotesong.testcontainers.containers.output;
 
+import com.coyotesong.testcontainers.containers.startup.StartupListener;
+import com.coyotesong.testcontainers.containers.startup.StartupPhase;
+import com.coyotesong.testcontainers.containers.startup.StartupTimings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
 import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
@@ -12,10 +20,39 @@ import java.util.function.Consumer;
  *
  * The ALL and NONE logging levels are self-explanatory.
  *
- * The SOME logging level attempts to skip log messages until
- * the docker container is successfully started.
+ * The SOME logging level skips log messages until the docker container
+ * is successfully started. The consumer learns about the container's
+ * lifecycle as a {@link StartupListener} - the containers in this project
+ * register it automatically in withLogConsumer(). While the container is
+ * starting the frames are kept in a bounded ring buffer. The buffer is
+ * discarded when the container starts, and logged if the startup fails or
+ * times out. Without lifecycle events every frame is filtered as below.
+ *
+ * After startup, embedded log statements are identified by a {@link FrameClassifier}.
+ * The default classifier is the one registered for the container name in {@link FrameClassifiers}.
+ * This is the same filter that is used without lifecycle events. Once the container
+ * has started the ring buffer is released, and the only per-frame cost of tracking
+ * the startup is one volatile read.
+ *
+ * The consumer runs on the docker-java callback thread by default. Use
+ * {@link #toAsync(int, AsyncLogConsumer.OverflowPolicy)} to move the work
+ * to a background thread.
+ *
+ * In structured mode each frame is parsed with a {@link LogFormat} and logged at
+ * the SLF4J level of its severity, with the container name, source and timestamp
+ * in the MDC. At the SOME logging level events below WARN are logged at DEBUG.
+ * Frames that are not in the expected format are handled as in the default mode.
+ *
+ * {@link LogForwardingLimits} bound the cost of a container in a crash or retry
+ * loop. Frames can be rate limited and sampled per output type, and consecutive
+ * duplicate lines collapsed. The limits are applied before any other work and the
+ * suppressed frames are counted by the {@link LogForwardingLimiter}.
+ *
+ * A capture consumer, e.g., a {@link SpillFileLogConsumer}, receives every frame
+ * before the logging level and limits are applied. The full log is captured and
+ * the console output filtered in a single pass.
  */
-public class SelectiveLogConsumer implements Consumer<OutputFrame> {
+public class SelectiveLogConsumer implements Consumer<OutputFrame>, StartupListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(SelectiveLogConsumer.class);
 
@@ -29,9 +66,62 @@ public class SelectiveLogConsumer implements Consumer<OutputFrame> {
         NONE,
     }
 
+    /** Default number of frames kept while the container is starting */
+    public static final int DEFAULT_STARTUP_BUFFER = 1000;
+
+    /** Startup state, as reported by the container's StartupTimer */
+    private enum StartupState {
+        /** no lifecycle events received */
+        UNTRACKED,
+        /** container is starting - frames are buffered at the SOME logging level */
+        STARTING,
+        /** container has started, or failed to start */
+        STARTED,
+    }
+
+    /** MDC key for the container name */
+    public static final String MDC_CONTAINER = "container";
+
+    /** MDC key for the output type, i.e., STDOUT or STDERR */
+    public static final String MDC_STREAM = "stream";
+
+    /** MDC key for the source of a structured log event, e.g., a thread or component */
+    public static final String MDC_SOURCE = "source";
+
+    /** MDC key for the timestamp of a structured log event */
+    public static final String MDC_TIMESTAMP = "timestamp";
+
     private final String name;
 
-    private LoggingLevel level = LoggingLevel.NONE;
+    // the fields are volatile since they may change while the docker-java callback thread is delivering frames
+
+    private volatile LoggingLevel level = LoggingLevel.NONE;
+
+    private volatile FrameClassifier classifier;
+
+    private volatile LogFormat format;
+
+    private volatile LogForwardingLimiter limiter;
+
+    private volatile Consumer<OutputFrame> capture;
+
+    private volatile StartupState startup = StartupState.UNTRACKED;
+
+    /** guards the startup buffer and the transitions out of STARTING */
+    private final Object startupLock = new Object();
+
+    private int startupCapacity = DEFAULT_STARTUP_BUFFER;
+
+    private OutputFrame[] startupFrames;
+
+    private int startupHead;
+
+    private int startupCount;
+
+    private long startupOverwritten;
+
+    /** parsed events are reused - each thread delivering frames has its own */
+    private final ThreadLocal<LogEvent> events = ThreadLocal.withInitial(LogEvent::new);
 
     /**
      * Contructor
@@ -42,6 +132,7 @@ public class SelectiveLogConsumer implements Consumer<OutputFrame> {
     public SelectiveLogConsumer(String name, LoggingLevel level) {
         this.name = name;
         this.level = level;
+        this.classifier = FrameClassifiers.lookup(name);
     }
 
     /**
@@ -81,38 +172,386 @@ public class SelectiveLogConsumer implements Consumer<OutputFrame> {
         this.level = level;
     }
 
+    /**
+     * Get classifier used to identify noise at the SOME logging level
+     *
+     * @return frame classifier
+     */
+    public FrameClassifier getClassifier() {
+        return classifier;
+    }
+
+    /**
+     * Set classifier used to identify noise at the SOME logging level
+     *
+     * @param classifier frame classifier
+     */
+    public void setClassifier(FrameClassifier classifier) {
+        this.classifier = classifier;
+    }
+
+    /**
+     * Use classifier to identify noise at the SOME logging level
+     *
+     * @param classifier frame classifier
+     * @return this object
+     */
+    public SelectiveLogConsumer withClassifier(FrameClassifier classifier) {
+        setClassifier(classifier);
+        return this;
+    }
+
+    /**
+     * Get format used in structured mode
+     *
+     * @return log format, or null if structured mode is disabled
+     */
+    public LogFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Set format used in structured mode
+     *
+     * @param format log format, or null to disable structured mode
+     */
+    public void setFormat(LogFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Enable structured mode using the given format
+     *
+     * @param format log format
+     * @return this object
+     */
+    public SelectiveLogConsumer withFormat(LogFormat format) {
+        setFormat(format);
+        return this;
+    }
+
+    /**
+     * Enable structured mode using the format registered for the container in {@link LogFormats}
+     *
+     * @return this object
+     */
+    public SelectiveLogConsumer withStructuredLogging() {
+        return withFormat(LogFormats.lookup(name));
+    }
+
+    /**
+     * Get limits on the forwarded frames
+     *
+     * @return limits
+     */
+    public LogForwardingLimits getLimits() {
+        return (limiter == null) ? LogForwardingLimits.UNLIMITED : limiter.getLimits();
+    }
+
+    /**
+     * Set limits on the forwarded frames. The suppressed frame counters are reset.
+     *
+     * @param limits limits
+     */
+    public void setLimits(LogForwardingLimits limits) {
+        this.limiter = (limits == null || !limits.isLimited()) ? null : new LogForwardingLimiter(limits);
+    }
+
+    /**
+     * Use limits on the forwarded frames
+     *
+     * @param limits limits
+     * @return this object
+     */
+    public SelectiveLogConsumer withLimits(LogForwardingLimits limits) {
+        setLimits(limits);
+        return this;
+    }
+
+    /**
+     * Limit the rate of forwarded frames
+     *
+     * @param type output type
+     * @param framesPerSecond sustained rate, or zero for no limit
+     * @param burst number of frames that may be forwarded at once
+     * @return this object
+     */
+    public SelectiveLogConsumer withRateLimit(OutputType type, double framesPerSecond, int burst) {
+        return withLimits(getLimits().withRateLimit(type, framesPerSecond, burst));
+    }
+
+    /**
+     * Forward every n-th frame
+     *
+     * @param type output type
+     * @param everyNth sampling interval. One means every frame.
+     * @return this object
+     */
+    public SelectiveLogConsumer withSampling(OutputType type, int everyNth) {
+        return withLimits(getLimits().withSampling(type, everyNth));
+    }
+
+    /**
+     * Collapse consecutive duplicate lines into a "previous line repeated" message
+     *
+     * @return this object
+     */
+    public SelectiveLogConsumer withDuplicateCollapsing() {
+        return withLimits(getLimits().withCollapseDuplicates(true));
+    }
+
+    /**
+     * Get the limiter, e.g., to read the suppressed frame counters
+     *
+     * @return limiter, or null if no limits are set
+     */
+    public LogForwardingLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Get number of frames suppressed by the limits
+     *
+     * @return number of frames collapsed, sampled out or rate limited
+     */
+    public long getSuppressedCount() {
+        final LogForwardingLimiter current = limiter;
+        return (current == null) ? 0L : current.getSuppressedCount();
+    }
+
+    /**
+     * Get capture consumer
+     *
+     * @return consumer that receives every frame, or null
+     */
+    public Consumer<OutputFrame> getCapture() {
+        return capture;
+    }
+
+    /**
+     * Set capture consumer
+     *
+     * @param capture consumer that receives every frame, e.g., a {@link SpillFileLogConsumer}, or null
+     */
+    public void setCapture(Consumer<OutputFrame> capture) {
+        this.capture = capture;
+    }
+
+    /**
+     * Capture every frame, regardless of the logging level and limits
+     *
+     * @param capture consumer that receives every frame, e.g., a {@link SpillFileLogConsumer}
+     * @return this object
+     */
+    public SelectiveLogConsumer withCapture(Consumer<OutputFrame> capture) {
+        setCapture(capture);
+        return this;
+    }
+
+    /**
+     * Set number of frames kept while the container is starting
+     *
+     * @param capacity maximum number of frames. The oldest frames are discarded first.
+     * @return this object
+     */
+    public SelectiveLogConsumer withStartupBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        synchronized (startupLock) {
+            this.startupCapacity = capacity;
+        }
+        return this;
+    }
+
+    /**
+     * Is the container starting, i.e., are frames buffered at the SOME logging level?
+     *
+     * @return 'true' between the first startup phase and the end of the startup
+     */
+    public boolean isStarting() {
+        return startup == StartupState.STARTING;
+    }
+
+    /**
+     * The container is starting. Later frames are buffered at the SOME logging level.
+     *
+     * @param containerName container name
+     * @param phase completed phase
+     * @param duration time spent in the phase
+     */
+    @Override
+    public void phaseCompleted(String containerName, StartupPhase phase, Duration duration) {
+        if (startup == StartupState.STARTING) {
+            return;
+        }
+        synchronized (startupLock) {
+            if (startupFrames == null || startupFrames.length != startupCapacity) {
+                startupFrames = new OutputFrame[startupCapacity];
+            }
+            clearStartupFrames();
+            startup = StartupState.STARTING;
+        }
+    }
+
+    /**
+     * The container has started. The buffered frames are discarded.
+     *
+     * @param containerName container name
+     * @param timings timings of all phases
+     */
+    @Override
+    public void startupCompleted(String containerName, StartupTimings timings) {
+        synchronized (startupLock) {
+            releaseStartupFrames();
+        }
+    }
+
+    /**
+     * The container failed to start, or timed out. The buffered frames are logged.
+     *
+     * @param containerName container name
+     * @param timings timings of the phases completed before the failure
+     * @param cause reason for the failure
+     */
+    @Override
+    public void startupFailed(String containerName, StartupTimings timings, Throwable cause) {
+        // frames that arrive meanwhile wait for the lock so the log stays in order
+        synchronized (startupLock) {
+            if (startup == StartupState.STARTING && level != LoggingLevel.NONE) {
+                LOG.warn("{} failed to start - logging the last {} startup frames", name, startupCount);
+                if (startupOverwritten > 0) {
+                    LOG.warn("{} earlier startup frames were discarded", startupOverwritten);
+                }
+                for (int i = 0; i < startupCount; i++) {
+                    forward(startupFrames[(startupHead + i) % startupFrames.length], LoggingLevel.ALL);
+                }
+            }
+            releaseStartupFrames();
+        }
+    }
+
+    /**
+     * Keep a frame while the container is starting
+     *
+     * @param frame log frame
+     * @return 'false' if the container is no longer starting
+     */
+    private boolean buffer(OutputFrame frame) {
+        synchronized (startupLock) {
+            if (startup != StartupState.STARTING) {
+                return false;
+            }
+            if (frame.getType() == OutputType.END) {
+                return true;
+            }
+            if (startupCount == startupFrames.length) {
+                startupFrames[startupHead] = frame;
+                startupHead = (startupHead + 1) % startupFrames.length;
+                startupOverwritten++;
+            } else {
+                startupFrames[(startupHead + startupCount) % startupFrames.length] = frame;
+                startupCount++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Leave the STARTING state. The buffer is reallocated if the container is restarted.
+     */
+    private void releaseStartupFrames() {
+        clearStartupFrames();
+        startupFrames = null;
+        startup = StartupState.STARTED;
+    }
+
+    private void clearStartupFrames() {
+        if (startupFrames != null) {
+            Arrays.fill(startupFrames, null);
+        }
+        startupHead = 0;
+        startupCount = 0;
+        startupOverwritten = 0L;
+    }
+
+    /**
+     * Wrap this consumer in an asynchronous, bounded-queue dispatcher
+     *
+     * @param capacity maximum number of queued frames
+     * @param policy overflow policy
+     * @return asynchronous log consumer
+     */
+    public AsyncLogConsumer toAsync(int capacity, AsyncLogConsumer.OverflowPolicy policy) {
+        return new AsyncLogConsumer(name, this, capacity, policy);
+    }
+
+    /**
+     * Wrap this consumer in an asynchronous dispatcher using the default capacity
+     * and the BLOCK overflow policy.
+     *
+     * @return asynchronous log consumer
+     */
+    public AsyncLogConsumer toAsync() {
+        return toAsync(AsyncLogConsumer.DEFAULT_CAPACITY, AsyncLogConsumer.OverflowPolicy.BLOCK);
+    }
+
     @Override
     public void accept(OutputFrame frame) {
-        // should message prepend image name? Or rely on user and MDC?
-        final String s = frame.getUtf8StringWithoutLineEnding();
+        final Consumer<OutputFrame> fullCapture = capture;
+        if (fullCapture != null) {
+            fullCapture.accept(frame);
+        }
+        final LoggingLevel current = level;
+        if (current == LoggingLevel.NONE) {
+            return;
+        }
+        // while starting, the only cost per frame is a store into the ring buffer
+        if (current == LoggingLevel.SOME && startup == StartupState.STARTING && buffer(frame)) {
+            return;
+        }
+        final LogForwardingLimiter currentLimiter = limiter;
+        if (currentLimiter != null && !admit(currentLimiter, frame)) {
+            return;
+        }
+        forward(frame, current);
+    }
 
-        switch (level) {
+    /**
+     * Log a frame
+     *
+     * @param frame log frame
+     * @param current logging level
+     */
+    private void forward(OutputFrame frame, LoggingLevel current) {
+        final LogFormat currentFormat = format;
+        if (currentFormat != null && acceptStructured(frame, current, currentFormat)) {
+            return;
+        }
+        // should message prepend image name? Or rely on user and MDC?
+        switch (current) {
             case ALL:
                 switch (frame.getType()) {
                     case STDOUT:
-                        LOG.info(s);
+                        LOG.info(frame.getUtf8StringWithoutLineEnding());
                         break;
                     case STDERR:
-                        LOG.warn(s);
+                        LOG.warn(frame.getUtf8StringWithoutLineEnding());
                 }
                 break;
             case SOME:
-                // strip out embedded log statements
-                // we could be more intelligent and use a regex that considers timestamps, etc.
-                final boolean ignore =
-                    s.contains(": DEBUG:  ") |
-                    s.contains(": NOTICE:  ") |
-                    s.contains(": INFO:  ") |
-                    s.contains(" LOG: ");
                 switch (frame.getType()) {
                     case STDOUT:
                         LOG.info(frame.getUtf8StringWithoutLineEnding());
                         break;
                     case STDERR:
-                        if (ignore) {
-                            LOG.debug(s);
+                        // strip out embedded log statements - a single pass over the raw bytes
+                        if (classifier.isNoise(frame)) {
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug(frame.getUtf8StringWithoutLineEnding());
+                            }
                         } else {
-                            LOG.warn(s);
+                            LOG.warn(frame.getUtf8StringWithoutLineEnding());
                         }
                 }
                 break;
@@ -120,4 +559,115 @@ public class SelectiveLogConsumer implements Consumer<OutputFrame> {
             // do nothing
         }
     }
+
+    /**
+     * Apply the limits, reporting any suppressed frames once the stream recovers
+     *
+     * @param limiter limiter
+     * @param frame log frame
+     * @return 'true' if the frame should be logged
+     */
+    private boolean admit(LogForwardingLimiter limiter, OutputFrame frame) {
+        final OutputType type = frame.getType();
+        if (type == OutputType.END) {
+            reportRepeats(OutputType.STDOUT, limiter.takeRepeats(OutputType.STDOUT));
+            reportRepeats(OutputType.STDERR, limiter.takeRepeats(OutputType.STDERR));
+            return true;
+        }
+        final long repeats = limiter.collapse(frame);
+        if (repeats == LogForwardingLimiter.DUPLICATE) {
+            return false;
+        }
+        reportRepeats(type, repeats);
+        if (!limiter.tryAcquire(type)) {
+            return false;
+        }
+        final long suppressed = limiter.takeRateLimited(type);
+        if (suppressed > 0) {
+            notice(type, String.format("%,d %s frames suppressed by rate limit", suppressed, type));
+        }
+        return true;
+    }
+
+    private void reportRepeats(OutputType type, long repeats) {
+        if (repeats > 0) {
+            notice(type, String.format("previous line repeated %,d times", repeats));
+        }
+    }
+
+    /**
+     * Log a message about suppressed frames at the level used for the output type
+     *
+     * @param type output type
+     * @param message message
+     */
+    private void notice(OutputType type, String message) {
+        if (type == OutputType.STDERR) {
+            LOG.warn(message);
+        } else {
+            LOG.info(message);
+        }
+    }
+
+    /**
+     * Parse and log frame in structured mode
+     *
+     * @param frame log frame
+     * @param current logging level
+     * @param format log format
+     * @return 'true' if the frame was in the expected format
+     */
+    private boolean acceptStructured(OutputFrame frame, LoggingLevel current, LogFormat format) {
+        final byte[] bytes = frame.getBytes();
+        if (bytes == null) {
+            return false;
+        }
+        final LogEvent event = events.get();
+        event.reset(name, frame.getType(), bytes);
+        if (!format.parse(bytes, 0, bytes.length, event)) {
+            return false;
+        }
+
+        Level target = event.getLevel();
+        if (current == LoggingLevel.SOME && target.toInt() < Level.WARN.toInt()) {
+            target = Level.DEBUG;
+        }
+        if (!LOG.isEnabledForLevel(target)) {
+            return true;
+        }
+
+        MDC.put(MDC_CONTAINER, name);
+        MDC.put(MDC_STREAM, frame.getType().name());
+        if (event.hasSource()) {
+            MDC.put(MDC_SOURCE, event.getSource());
+        }
+        if (event.hasTimestamp()) {
+            MDC.put(MDC_TIMESTAMP, event.getTimestamp());
+        }
+        try {
+            final String message = event.getMessage();
+            switch (target) {
+                case ERROR:
+                    LOG.error(message);
+                    break;
+                case WARN:
+                    LOG.warn(message);
+                    break;
+                case INFO:
+                    LOG.info(message);
+                    break;
+                case DEBUG:
+                    LOG.debug(message);
+                    break;
+                default:
+                    LOG.trace(message);
+            }
+        } finally {
+            MDC.remove(MDC_CONTAINER);
+            MDC.remove(MDC_STREAM);
+            MDC.remove(MDC_SOURCE);
+            MDC.remove(MDC_TIMESTAMP);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,563 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * TestContainer log consumer that captures the full container log to memory-mapped
+ * spill files.
+ * <p>
+ * The raw frame bytes are appended to a segment file, and a compact index entry
+ * (timestamp, offset, type and length) to a companion index file. Both files are
+ * memory-mapped, so the log does not occupy the heap, and the frames can be read
+ * back by time range, e.g., to attach the log around a failure to a test report.
+ * <p>
+ * A new segment is started when the current one is full. If a maximum number of
+ * segments is set the oldest segment is deleted on rotation.
+ * <p>
+ * If a segment can't be created, e.g., because the disk is full, the capture is
+ * disabled with a warning and later frames are ignored. The container and the other
+ * log consumers are not affected.
+ * <p>
+ * Segment files are named {@code <name>-<sequence>.log} and {@code <name>-<sequence>.idx}.
+ * The index file starts with a 16 byte header: the number of entries and the number of
+ * data bytes, as big-endian ints, followed by 8 reserved bytes. Each 16 byte entry holds
+ * the timestamp in epoch milliseconds (long), the data offset (int), and the output type
+ * ordinal (top 4 bits) and frame length (low 28 bits). Timestamps never decrease within
+ * a consumer.
+ * <p>
+ * Use {@link SelectiveLogConsumer#withCapture(Consumer)} to capture the full log
+ * and filter the console output in a single pass.
+ */
+public class SpillFileLogConsumer implements Consumer<OutputFrame>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillFileLogConsumer.class);
+
+    /** Default segment size */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /** Largest segment size - the frame length is stored in 28 bits */
+    public static final int MAX_SEGMENT_SIZE = (1 << 28) - 1;
+
+    private static final int HEADER_SIZE = 16;
+
+    private static final int ENTRY_SIZE = 16;
+
+    private static final int LENGTH_MASK = (1 << 28) - 1;
+
+    /** one index entry per 64 data bytes, on average, before the segment is rotated */
+    private static final int BYTES_PER_ENTRY = 64;
+
+    private static final int MIN_ENTRIES = 1024;
+
+    private final Path directory;
+
+    private final String name;
+
+    private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    private int maxSegments;
+
+    private boolean deleteOnClose;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private int sequence;
+
+    private long lastTimestamp;
+
+    private long frameCount;
+
+    private long byteCount;
+
+    private boolean closed;
+
+    private boolean disabled;
+
+    /**
+     * Constructor
+     *
+     * @param directory directory for the segment files. It is created if necessary.
+     * @param name container name, used to name the segment files
+     */
+    public SpillFileLogConsumer(Path directory, String name) {
+        this.directory = directory;
+        this.name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * Set segment size. Only affects segments created after this call.
+     *
+     * @param segmentSize maximum number of data bytes per segment
+     * @return this object
+     */
+    public synchronized SpillFileLogConsumer withSegmentSize(int segmentSize) {
+        if (segmentSize < 1 || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be between 1 and " + MAX_SEGMENT_SIZE);
+        }
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    /**
+     * Set maximum number of segments kept on disk
+     *
+     * @param maxSegments maximum number of segments, or zero to keep every segment
+     * @return this object
+     */
+    public synchronized SpillFileLogConsumer withMaxSegments(int maxSegments) {
+        if (maxSegments < 0) {
+            throw new IllegalArgumentException("maxSegments must not be negative");
+        }
+        this.maxSegments = maxSegments;
+        return this;
+    }
+
+    /**
+     * Delete the segment files when the consumer is closed
+     *
+     * @param deleteOnClose 'true' to delete the files
+     * @return this object
+     */
+    public synchronized SpillFileLogConsumer withDeleteOnClose(boolean deleteOnClose) {
+        this.deleteOnClose = deleteOnClose;
+        return this;
+    }
+
+    /**
+     * Get segment size
+     *
+     * @return maximum number of data bytes per segment
+     */
+    public synchronized int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Get maximum number of segments kept on disk
+     *
+     * @return maximum number of segments, or zero if every segment is kept
+     */
+    public synchronized int getMaxSegments() {
+        return maxSegments;
+    }
+
+    /**
+     * Get number of captured frames, including frames in deleted segments
+     *
+     * @return number of frames
+     */
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Get number of captured bytes, including bytes in deleted segments
+     *
+     * @return number of bytes
+     */
+    public synchronized long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Is the capture disabled after an I/O error?
+     *
+     * @return 'true' if later frames are ignored
+     */
+    public synchronized boolean isDisabled() {
+        return disabled;
+    }
+
+    /**
+     * Get the segment files currently on disk, oldest first
+     *
+     * @return data file of each segment. The index file has the same name with an '.idx' extension.
+     */
+    public synchronized List<Path> getSegmentFiles() {
+        final List<Path> files = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            files.add(segment.dataFile);
+        }
+        return files;
+    }
+
+    @Override
+    public synchronized void accept(OutputFrame frame) {
+        final byte[] bytes = frame.getBytes();
+        if (closed || disabled || bytes == null || frame.getType() == OutputType.END) {
+            return;
+        }
+        // the index must be ordered by time even if the wall clock steps backwards
+        final long timestamp = Math.max(lastTimestamp, System.currentTimeMillis());
+        lastTimestamp = timestamp;
+
+        int length = bytes.length;
+        if (length > segmentSize) {
+            LOG.warn("{}: truncating {} byte frame to the segment size", name, length);
+            length = segmentSize;
+        }
+
+        try {
+            Segment segment = segments.peekLast();
+            if (segment == null || !segment.hasRoom(length)) {
+                segment = rotate();
+            }
+            segment.append(timestamp, frame.getType(), bytes, length);
+        } catch (IOException e) {
+            // don't fail the caller, e.g., a SelectiveLogConsumer that hasn't logged this frame yet
+            LOG.warn("{}: disabling log capture: {}", name, e.toString());
+            disabled = true;
+            return;
+        }
+        frameCount++;
+        byteCount += length;
+    }
+
+    /**
+     * Read the captured frames in a time range
+     *
+     * @param from start of the range, inclusive. Null means the first captured frame.
+     * @param to end of the range, exclusive. Null means no upper bound.
+     * @return frames, oldest first
+     */
+    public synchronized List<CapturedFrame> read(Instant from, Instant to) {
+        final List<CapturedFrame> frames = new ArrayList<>();
+        final long start = (from == null) ? Long.MIN_VALUE : from.toEpochMilli();
+        final long end = (to == null) ? Long.MAX_VALUE : to.toEpochMilli();
+        for (Segment segment : segments) {
+            if (segment.count == 0 || segment.lastTimestamp < start || segment.firstTimestamp >= end) {
+                continue;
+            }
+            for (int i = segment.search(start); i < segment.count; i++) {
+                final long timestamp = segment.timestamp(i);
+                if (timestamp >= end) {
+                    break;
+                }
+                frames.add(segment.frame(i));
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Read all captured frames that are still on disk
+     *
+     * @return frames, oldest first
+     */
+    public List<CapturedFrame> read() {
+        return read(null, null);
+    }
+
+    /**
+     * Write the raw bytes of the captured frames in a time range, e.g., to a test report
+     *
+     * @param out output stream
+     * @param from start of the range, inclusive. Null means the first captured frame.
+     * @param to end of the range, exclusive. Null means no upper bound.
+     * @return number of bytes written
+     * @throws IOException error writing to the output stream
+     */
+    public long writeTo(OutputStream out, Instant from, Instant to) throws IOException {
+        // the frames in a segment are contiguous and never modified, so each segment's
+        // range is written straight from the mapped file without holding the lock
+        final List<ByteBuffer> ranges = new ArrayList<>();
+        final long start = (from == null) ? Long.MIN_VALUE : from.toEpochMilli();
+        final long end = (to == null) ? Long.MAX_VALUE : to.toEpochMilli();
+        synchronized (this) {
+            for (Segment segment : segments) {
+                if (segment.count == 0 || segment.lastTimestamp < start || segment.firstTimestamp >= end) {
+                    continue;
+                }
+                final int first = segment.search(start);
+                final int last = (end == Long.MAX_VALUE) ? segment.count : segment.search(end);
+                if (first < last) {
+                    ranges.add(segment.range(first, last));
+                }
+            }
+        }
+
+        final WritableByteChannel channel = Channels.newChannel(out);
+        long written = 0L;
+        for (ByteBuffer range : ranges) {
+            written += range.remaining();
+            while (range.hasRemaining()) {
+                channel.write(range);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Flush the segments to disk. The files can then be read by another process.
+     */
+    public synchronized void flush() {
+        for (Segment segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Close the consumer. Later frames are ignored. The segment files are kept unless
+     * deleteOnClose is set, and can still be read until then.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (deleteOnClose) {
+            while (!segments.isEmpty()) {
+                segments.removeFirst().delete();
+            }
+        } else {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SpillFileLogConsumer[" + directory.resolve(name) + ", segments=" + segments.size() + "]";
+    }
+
+    private Segment rotate() throws IOException {
+        final Segment current = segments.peekLast();
+        if (current != null) {
+            current.force();
+        }
+        if (maxSegments > 0) {
+            while (segments.size() >= maxSegments) {
+                segments.removeFirst().delete();
+            }
+        }
+        Files.createDirectories(directory);
+        final String prefix = String.format("%s-%05d", name, sequence++);
+        final Segment segment = new Segment(
+            directory.resolve(prefix + ".log"),
+            directory.resolve(prefix + ".idx"),
+            segmentSize,
+            Math.max(MIN_ENTRIES, segmentSize / BYTES_PER_ENTRY)
+        );
+        segments.addLast(segment);
+        return segment;
+    }
+
+    /**
+     * A captured frame
+     */
+    public static final class CapturedFrame {
+
+        private final long timestamp;
+
+        private final OutputType type;
+
+        private final byte[] bytes;
+
+        private CapturedFrame(long timestamp, OutputType type, byte[] bytes) {
+            this.timestamp = timestamp;
+            this.type = type;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Get time the frame was captured
+         *
+         * @return timestamp
+         */
+        public Instant getTimestamp() {
+            return Instant.ofEpochMilli(timestamp);
+        }
+
+        /**
+         * Get output type
+         *
+         * @return output type
+         */
+        public OutputType getType() {
+            return type;
+        }
+
+        /**
+         * Get raw frame bytes
+         *
+         * @return bytes. Callers must not modify the array.
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Convert to an OutputFrame, e.g., to replay the log through another consumer
+         *
+         * @return output frame
+         */
+        public OutputFrame toOutputFrame() {
+            return new OutputFrame(type, bytes);
+        }
+
+        @Override
+        public String toString() {
+            return getTimestamp() + " " + type + ": " + new OutputFrame(type, bytes).getUtf8StringWithoutLineEnding();
+        }
+    }
+
+    /**
+     * A memory-mapped data file and its index
+     */
+    private static final class Segment {
+
+        private final Path dataFile;
+
+        private final Path indexFile;
+
+        private final MappedByteBuffer data;
+
+        private final MappedByteBuffer index;
+
+        private final int capacity;
+
+        private final int maxEntries;
+
+        private int length;
+
+        private int count;
+
+        private long firstTimestamp;
+
+        private long lastTimestamp;
+
+        Segment(Path dataFile, Path indexFile, int capacity, int maxEntries) throws IOException {
+            this.dataFile = dataFile;
+            this.indexFile = indexFile;
+            this.capacity = capacity;
+            this.maxEntries = maxEntries;
+            this.data = map(dataFile, capacity);
+            this.index = map(indexFile, HEADER_SIZE + (long) maxEntries * ENTRY_SIZE);
+        }
+
+        private static MappedByteBuffer map(Path path, long size) throws IOException {
+            try (
+                FileChannel channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+            ) {
+                // the mapping remains valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+
+        boolean hasRoom(int frameLength) {
+            return count < maxEntries && length + frameLength <= capacity;
+        }
+
+        void append(long timestamp, OutputType type, byte[] bytes, int frameLength) {
+            final ByteBuffer target = data.duplicate();
+            target.position(length);
+            target.put(bytes, 0, frameLength);
+
+            final int entry = HEADER_SIZE + count * ENTRY_SIZE;
+            index.putLong(entry, timestamp);
+            index.putInt(entry + 8, length);
+            index.putInt(entry + 12, (type.ordinal() << 28) | frameLength);
+
+            if (count == 0) {
+                firstTimestamp = timestamp;
+            }
+            lastTimestamp = timestamp;
+            length += frameLength;
+            count++;
+            index.putInt(0, count);
+            index.putInt(4, length);
+        }
+
+        long timestamp(int i) {
+            return index.getLong(HEADER_SIZE + i * ENTRY_SIZE);
+        }
+
+        /**
+         * Find the first entry at or after the timestamp
+         *
+         * @param timestamp epoch milliseconds
+         * @return entry number, or count if there is none
+         */
+        int search(long timestamp) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (timestamp(mid) < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Get the data of a run of entries
+         *
+         * @param first first entry, inclusive
+         * @param last last entry, exclusive
+         * @return read-only view of the mapped data
+         */
+        ByteBuffer range(int first, int last) {
+            final int offset = index.getInt(HEADER_SIZE + first * ENTRY_SIZE + 8);
+            final int limit = (last == count) ? length : index.getInt(HEADER_SIZE + last * ENTRY_SIZE + 8);
+            final ByteBuffer range = data.asReadOnlyBuffer();
+            range.limit(limit).position(offset);
+            return range;
+        }
+
+        CapturedFrame frame(int i) {
+            final int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            final int offset = index.getInt(entry + 8);
+            final int typeAndLength = index.getInt(entry + 12);
+            final byte[] bytes = new byte[typeAndLength & LENGTH_MASK];
+            final ByteBuffer source = data.duplicate();
+            source.position(offset);
+            source.get(bytes);
+            return new CapturedFrame(timestamp(i), OutputType.values()[typeAndLength >>> 28], bytes);
+        }
+
+        void force() {
+            data.force();
+            index.force();
+        }
+
+        void delete() {
+            // the mapping is released when the buffers are collected
+            try {
+                Files.deleteIfExists(dataFile);
+                Files.deleteIfExists(indexFile);
+            } catch (IOException e) {
+                LOG.warn("unable to delete log segment {}: {}", dataFile, e.getMessage());
+            }
+        }
+    }
+
+}
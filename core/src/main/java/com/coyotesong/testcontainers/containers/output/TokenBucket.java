@@ -0,0 +1,52 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter.
+ * <p>
+ * The bucket starts full. Each permit takes one token and tokens are refilled
+ * continuously at the given rate, up to the burst size. The bucket is refilled
+ * lazily when a permit is requested so there is no background thread.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+
+    private final double capacity;
+
+    private double tokens;
+
+    private long last;
+
+    /**
+     * Constructor
+     *
+     * @param permitsPerSecond sustained rate
+     * @param burst bucket capacity
+     */
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.last = System.nanoTime();
+    }
+
+    /**
+     * Take a permit if one is available
+     *
+     * @param now current System.nanoTime()
+     * @return 'true' if a permit was taken
+     */
+    boolean tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - last) * tokensPerNano);
+        last = now;
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,311 @@
+package com.coyotesong.testcontainers.containers.reuse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprint of a container's configuration.
+ * <p>
+ * Two containers with the same fingerprint are interchangeable - a test can use a
+ * running instance of one in place of the other. The fingerprint covers the container
+ * class, image, environment, exposed ports, command, labels, tmpfs mounts and the
+ * content of every file copied into the container, e.g., HANA's password.json.
+ * Containers can add properties that are not visible to GenericContainer, e.g., JDBC
+ * URL parameters, by implementing {@link Contributor}.
+ * <p>
+ * Values are canonicalized (maps are sorted) before they are hashed.
+ */
+public final class ContainerFingerprint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContainerFingerprint.class);
+
+    private static final AtomicLong UNIQUE = new AtomicLong();
+
+    /**
+     * Container that adds its own properties to the fingerprint
+     */
+    public interface Contributor {
+        /**
+         * Add properties to fingerprint
+         *
+         * @param builder fingerprint builder
+         */
+        void contributeTo(Builder builder);
+    }
+
+    private final String description;
+
+    private final String hash;
+
+    private ContainerFingerprint(String description) {
+        this.description = description;
+        this.hash = sha256(description.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create fingerprint of container
+     *
+     * @param container container. It does not need to be started.
+     * @return fingerprint
+     */
+    public static ContainerFingerprint of(GenericContainer<?> container) {
+        final Builder builder = builder()
+            .add("class", container.getClass().getName())
+            .add("image", imageName(container))
+            .add("env", container.getEnvMap())
+            .add("exposedPorts", container.getExposedPorts())
+            .add("portBindings", container.getPortBindings())
+            .add("command", Arrays.asList(container.getCommandParts()))
+            .add("labels", container.getLabels())
+            .add("tmpfs", container.getTmpFsMapping())
+            .add("shmSize", container.getShmSize())
+            .add("workingDirectory", container.getWorkingDirectory());
+
+        for (Map.Entry<MountableFile, String> entry : copiedFiles(container).entrySet()) {
+            builder.add("file:" + entry.getValue(), contentHash(Paths.get(entry.getKey().getResolvedPath())));
+        }
+        final Map<Transferable, String> transferables = transferables(container);
+        if (transferables == null) {
+            // the copied content is unknown - the fingerprint must not match any other container
+            builder.add("transferables", unique());
+        } else {
+            for (Map.Entry<Transferable, String> entry : transferables.entrySet()) {
+                builder.add("file:" + entry.getValue(), sha256(entry.getKey().getBytes()));
+            }
+        }
+
+        if (container instanceof Contributor) {
+            ((Contributor) container).contributeTo(builder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create empty builder, e.g., for a stand-in container
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get canonical description of the configuration. This is intended for diagnostics
+     * and may contain secrets.
+     *
+     * @return description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Get SHA-256 hash of the configuration
+     *
+     * @return hex string
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContainerFingerprint)) {
+            return false;
+        }
+        return hash.equals(((ContainerFingerprint) o).hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerFingerprint[" + hash.substring(0, 12) + "]";
+    }
+
+    /**
+     * Get image name without resolving (pulling) the image
+     */
+    private static String imageName(GenericContainer<?> container) {
+        final RemoteDockerImage image = container.getImage();
+        try {
+            final Field field = RemoteDockerImage.class.getDeclaredField("imageNameFuture");
+            field.setAccessible(true);
+            final Future<?> future = (Future<?>) field.get(image);
+            if (future.isDone()) {
+                return ((DockerImageName) future.get()).asCanonicalNameString();
+            }
+        } catch (ReflectiveOperationException | ExecutionException | RuntimeException e) {
+            LOG.debug("unable to read image name: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // includes the pull policy and substitutor - still stable within a JVM
+        return String.valueOf(image);
+    }
+
+    /**
+     * Get files copied into the container with withCopyFileToContainer(MountableFile, ...)
+     */
+    @SuppressWarnings("deprecation") // GenericContainer has no replacement accessor for the copied files
+    private static Map<MountableFile, String> copiedFiles(GenericContainer<?> container) {
+        return container.getCopyToFileContainerPathMap();
+    }
+
+    /**
+     * Get content copied into the container with withCopyToContainer(Transferable, ...).
+     * GenericContainer only exposes these to its own package.
+     *
+     * @return copied content, or null if it can't be read
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Transferable, String> transferables(GenericContainer<?> container) {
+        try {
+            final Field field = GenericContainer.class.getDeclaredField("copyToTransferableContainerPathMap");
+            field.setAccessible(true);
+            final Map<Transferable, String> map = (Map<Transferable, String>) field.get(container);
+            return (map == null) ? Collections.emptyMap() : map;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("unable to read copied content - the container will not be shared: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get a value that is never repeated within this JVM
+     */
+    private static String unique() {
+        return "unreadable:" + UNIQUE.incrementAndGet();
+    }
+
+    /**
+     * Hash file content. Directories are hashed recursively, in name order.
+     */
+    private static String contentHash(Path path) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            try (Stream<Path> paths = Files.walk(path)) {
+                final Iterable<Path> sorted = paths.sorted()::iterator;
+                for (Path p : sorted) {
+                    digest.update(path.relativize(p).toString().getBytes(StandardCharsets.UTF_8));
+                    if (Files.isRegularFile(p)) {
+                        try (InputStream is = Files.newInputStream(p)) {
+                            int n;
+                            while ((n = is.read(buffer)) > 0) {
+                                digest.update(buffer, 0, n);
+                            }
+                        }
+                    }
+                }
+            }
+            return hex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            // the fingerprint will differ from every other container
+            LOG.debug("unable to hash '{}': {}", path, e.getMessage());
+            return unique();
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return hex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        final char[] digits = "0123456789abcdef".toCharArray();
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = digits[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = digits[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Fingerprint builder
+     */
+    public static final class Builder {
+
+        private final Map<String, String> properties = new TreeMap<>();
+
+        private Builder() {}
+
+        /**
+         * Add property. Maps are sorted by key, collections keep their order.
+         *
+         * @param key property name
+         * @param value property value, may be null
+         * @return this object
+         */
+        public Builder add(String key, Object value) {
+            properties.put(key, canonical(value));
+            return this;
+        }
+
+        /**
+         * Create fingerprint
+         *
+         * @return fingerprint
+         */
+        public ContainerFingerprint build() {
+            final StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            }
+            return new ContainerFingerprint(sb.toString());
+        }
+
+        private static String canonical(Object value) {
+            if (value instanceof Map) {
+                final Map<String, String> sorted = new TreeMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    sorted.put(String.valueOf(entry.getKey()), canonical(entry.getValue()));
+                }
+                return sorted.toString();
+            }
+            if (value instanceof Collection) {
+                final StringBuilder sb = new StringBuilder("[");
+                for (Object element : (Collection<?>) value) {
+                    sb.append(canonical(element)).append(',');
+                }
+                return sb.append(']').toString();
+            }
+            return Objects.toString(value);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.coyotesong.testcontainers.containers.reuse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerState;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.lifecycle.Startable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Registry of running containers that can be shared by tests.
+ * <p>
+ * A test acquires a lease on a container with a given fingerprint. If a compatible
+ * container is already running it is handed back, otherwise a new container is
+ * created and started. Leases are reference-counted. A container that has not been
+ * leased for the idle timeout is stopped by a background reaper, so a test class that
+ * runs shortly after another one skips the container's startup entirely.
+ * <p>
+ * Containers are shared within a JVM, e.g., a Gradle test worker. Containers that are
+ * still running when the JVM exits are stopped by a shutdown hook when using the
+ * default registry.
+ * <p>
+ * The registry works with any Startable so it can be exercised with a stand-in
+ * container that does not require docker.
+ */
+public class WarmContainerRegistry implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmContainerRegistry.class);
+
+    /** Default idle timeout */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static WarmContainerRegistry defaultRegistry;
+
+    private final Duration idleTimeout;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final ScheduledExecutorService reaper;
+
+    private final AtomicLong starts = new AtomicLong();
+
+    private final AtomicLong reuses = new AtomicLong();
+
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param idleTimeout how long an unused container is kept running
+     */
+    public WarmContainerRegistry(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "warm-container-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the JVM-wide registry. Its idle timeout may be set with the system property
+     * 'testcontainers.warm.idleTimeout', e.g., 'PT10M'.
+     *
+     * @return default registry
+     */
+    public static synchronized WarmContainerRegistry getDefault() {
+        if (defaultRegistry == null) {
+            final String timeout = System.getProperty("testcontainers.warm.idleTimeout");
+            final WarmContainerRegistry registry = new WarmContainerRegistry(
+                (timeout == null) ? DEFAULT_IDLE_TIMEOUT : Duration.parse(timeout)
+            );
+            Runtime.getRuntime().addShutdownHook(new Thread(registry::close, "warm-container-shutdown"));
+            defaultRegistry = registry;
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Get idle timeout
+     *
+     * @return idle timeout
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Get number of containers started by this registry
+     *
+     * @return number of starts
+     */
+    public long getStartCount() {
+        return starts.get();
+    }
+
+    /**
+     * Get number of leases served by a running container
+     *
+     * @return number of reuses
+     */
+    public long getReuseCount() {
+        return reuses.get();
+    }
+
+    /**
+     * Get number of tracked containers, leased or idle
+     *
+     * @return number of containers
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Lease a container, starting it if there is no compatible running container.
+     * If a compatible container is running then the argument is discarded without
+     * being started.
+     *
+     * @param container container
+     * @param <T> container type
+     * @return lease
+     */
+    public <T extends GenericContainer<?>> Lease<T> acquire(T container) {
+        return acquire(ContainerFingerprint.of(container), () -> container);
+    }
+
+    /**
+     * Lease a container, starting it if there is no compatible running container.
+     *
+     * @param fingerprint container fingerprint
+     * @param factory creates a new container. It is only called if there is no compatible running container.
+     * @param <T> container type
+     * @return lease
+     */
+    public <T extends Startable> Lease<T> acquire(ContainerFingerprint fingerprint, Supplier<? extends T> factory) {
+        final Entry entry;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("registry is closed");
+            }
+            entry = entries.computeIfAbsent(fingerprint.getHash(), h -> new Entry(fingerprint));
+            entry.refCount++;
+            entry.cancelReaper();
+        }
+
+        // start outside the registry lock - other fingerprints are not blocked
+        synchronized (entry) {
+            try {
+                if (entry.container != null && !isRunning(entry.container)) {
+                    LOG.warn("warm container {} is no longer running - restarting", fingerprint);
+                    stopQuietly(entry.container);
+                    entry.container = null;
+                }
+                if (entry.container == null) {
+                    final Startable container = factory.get();
+                    container.start();
+                    entry.container = container;
+                    starts.incrementAndGet();
+                } else {
+                    reuses.incrementAndGet();
+                    LOG.debug("reusing warm container {}", fingerprint);
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    entry.refCount--;
+                    if (entry.refCount == 0 && entry.container == null) {
+                        entries.remove(fingerprint.getHash(), entry);
+                    }
+                }
+                throw e;
+            }
+
+            @SuppressWarnings("unchecked")
+            final T container = (T) entry.container;
+            return new Lease<>(entry, container);
+        }
+    }
+
+    /**
+     * Stop every container, leased or not
+     */
+    @Override
+    public void close() {
+        final List<Entry> stopping;
+        synchronized (this) {
+            closed = true;
+            stopping = new ArrayList<>(entries.values());
+            entries.clear();
+        }
+        reaper.shutdownNow();
+        for (Entry entry : stopping) {
+            entry.cancelReaper();
+            synchronized (entry) {
+                if (entry.container != null) {
+                    stopQuietly(entry.container);
+                    entry.container = null;
+                }
+            }
+        }
+    }
+
+    private void release(Entry entry) {
+        synchronized (this) {
+            if (--entry.refCount > 0 || closed || entries.get(entry.fingerprint.getHash()) != entry) {
+                return;
+            }
+            if (!idleTimeout.isZero() && !idleTimeout.isNegative()) {
+                final long generation = ++entry.generation;
+                entry.reaperTask = reaper.schedule(
+                    () -> reap(entry, generation),
+                    idleTimeout.toMillis(),
+                    TimeUnit.MILLISECONDS
+                );
+                return;
+            }
+            entries.remove(entry.fingerprint.getHash());
+        }
+        stop(entry);
+    }
+
+    /**
+     * Reaper: stop a container that is still idle
+     */
+    private void reap(Entry entry, long generation) {
+        synchronized (this) {
+            if (entry.refCount > 0 || entry.generation != generation || entries.get(entry.fingerprint.getHash()) != entry) {
+                return;
+            }
+            entries.remove(entry.fingerprint.getHash());
+        }
+        LOG.debug("stopping idle warm container {}", entry.fingerprint);
+        stop(entry);
+    }
+
+    private static void stop(Entry entry) {
+        synchronized (entry) {
+            if (entry.container != null) {
+                stopQuietly(entry.container);
+                entry.container = null;
+            }
+        }
+    }
+
+    private static boolean isRunning(Startable container) {
+        return !(container instanceof ContainerState) || ((ContainerState) container).isRunning();
+    }
+
+    private static void stopQuietly(Startable container) {
+        try {
+            container.stop();
+        } catch (RuntimeException e) {
+            LOG.warn("unable to stop container: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Container and its lease state
+     */
+    private static final class Entry {
+
+        private final ContainerFingerprint fingerprint;
+
+        private Startable container;
+
+        /** guarded by the registry */
+        private int refCount;
+
+        /** guarded by the registry */
+        private long generation;
+
+        /** guarded by the registry */
+        private ScheduledFuture<?> reaperTask;
+
+        private Entry(ContainerFingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void cancelReaper() {
+            generation++;
+            if (reaperTask != null) {
+                reaperTask.cancel(false);
+                reaperTask = null;
+            }
+        }
+    }
+
+    /**
+     * Lease on a running container. The container is released when the lease is closed.
+     *
+     * @param <T> container type
+     */
+    public final class Lease<T extends Startable> implements AutoCloseable {
+
+        private final Entry entry;
+
+        private final T container;
+
+        private boolean released;
+
+        private Lease(Entry entry, T container) {
+            this.entry = entry;
+            this.container = container;
+        }
+
+        /**
+         * Get container
+         *
+         * @return running container
+         */
+        public T get() {
+            return container;
+        }
+
+        /**
+         * Get fingerprint
+         *
+         * @return container fingerprint
+         */
+        public ContainerFingerprint getFingerprint() {
+            return entry.fingerprint;
+        }
+
+        /**
+         * Release the container. It is stopped once it has been idle for the idle timeout.
+         */
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                release(entry);
+            }
+        }
+    }
+}
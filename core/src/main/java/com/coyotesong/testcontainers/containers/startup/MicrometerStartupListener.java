@@ -0,0 +1,80 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Micrometer binding for container startup timings.
+ * <p>
+ * Micrometer is an optional dependency. This class may only be loaded when
+ * micrometer-core is on the classpath.
+ * <p>
+ * Meters:
+ * <ul>
+ *     <li>{@value #PHASE_TIMER}, tagged with 'container' and 'phase'</li>
+ *     <li>{@value #STARTUP_TIMER}, tagged with 'container' and 'outcome' ('success' or 'failure')</li>
+ * </ul>
+ */
+public class MicrometerStartupListener implements StartupListener {
+
+    /** Timer for the individual phases */
+    public static final String PHASE_TIMER = "testcontainers.startup.phase";
+
+    /** Timer for the entire startup */
+    public static final String STARTUP_TIMER = "testcontainers.startup";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor
+     *
+     * @param registry meter registry
+     */
+    public MicrometerStartupListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Record the startup timings of every container in the registry
+     *
+     * @param registry meter registry
+     * @return the registered listener
+     */
+    public static MicrometerStartupListener register(MeterRegistry registry) {
+        final MicrometerStartupListener listener = new MicrometerStartupListener(registry);
+        StartupListeners.register(listener);
+        return listener;
+    }
+
+    @Override
+    public void phaseCompleted(String containerName, StartupPhase phase, Duration duration) {
+        Timer.builder(PHASE_TIMER)
+            .description("container startup phase")
+            .tag("container", containerName)
+            .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+            .register(registry)
+            .record(duration);
+    }
+
+    @Override
+    public void startupCompleted(String containerName, StartupTimings timings) {
+        record(containerName, "success", timings.getTotal());
+    }
+
+    @Override
+    public void startupFailed(String containerName, StartupTimings timings, Throwable cause) {
+        record(containerName, "failure", timings.getTotal());
+    }
+
+    private void record(String containerName, String outcome, Duration duration) {
+        Timer.builder(STARTUP_TIMER)
+            .description("container startup")
+            .tag("container", containerName)
+            .tag("outcome", outcome)
+            .register(registry)
+            .record(duration);
+    }
+}
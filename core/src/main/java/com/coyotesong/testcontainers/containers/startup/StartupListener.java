@@ -0,0 +1,41 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import java.time.Duration;
+
+/**
+ * Listener notified as a container moves through its startup phases.
+ * <p>
+ * Listeners may be added to an individual container, registered with
+ * {@link StartupListeners#register(StartupListener)}, or discovered with the
+ * ServiceLoader via {@code META-INF/services/com.coyotesong.testcontainers.containers.startup.StartupListener}.
+ * <p>
+ * Listeners are called on the thread that starts the container and must not block.
+ */
+public interface StartupListener {
+    /**
+     * A startup phase has completed. A phase may be reported more than once,
+     * e.g., when the container is created again after a failed start attempt.
+     *
+     * @param containerName container name
+     * @param phase completed phase
+     * @param duration time spent in the phase
+     */
+    default void phaseCompleted(String containerName, StartupPhase phase, Duration duration) {}
+
+    /**
+     * The container has started
+     *
+     * @param containerName container name
+     * @param timings timings of all phases
+     */
+    default void startupCompleted(String containerName, StartupTimings timings) {}
+
+    /**
+     * The container failed to start
+     *
+     * @param containerName container name
+     * @param timings timings of the phases completed before the failure
+     * @param cause reason for the failure
+     */
+    default void startupFailed(String containerName, StartupTimings timings, Throwable cause) {}
+}
@@ -0,0 +1,79 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JVM-wide startup listeners.
+ * <p>
+ * These listeners are notified by every container in addition to the container's own
+ * listeners. Listeners provided via the ServiceLoader are loaded the first time they
+ * are needed.
+ */
+public final class StartupListeners {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupListeners.class);
+
+    private static final List<StartupListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile boolean discovered;
+
+    private StartupListeners() {}
+
+    /**
+     * Register a JVM-wide listener
+     *
+     * @param listener listener
+     */
+    public static void register(StartupListener listener) {
+        discover();
+        if (!LISTENERS.contains(listener)) {
+            LISTENERS.add(listener);
+        }
+    }
+
+    /**
+     * Unregister a JVM-wide listener
+     *
+     * @param listener listener
+     */
+    public static void unregister(StartupListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Get the JVM-wide listeners, including any provided via the ServiceLoader
+     *
+     * @return listeners
+     */
+    public static List<StartupListener> getListeners() {
+        discover();
+        return LISTENERS;
+    }
+
+    private static void discover() {
+        if (discovered) {
+            return;
+        }
+        synchronized (StartupListeners.class) {
+            if (!discovered) {
+                final List<StartupListener> found = new ArrayList<>();
+                try {
+                    for (StartupListener listener : ServiceLoader.load(StartupListener.class)) {
+                        found.add(listener);
+                    }
+                } catch (ServiceConfigurationError e) {
+                    LOG.warn("unable to load startup listeners: {}", e.getMessage());
+                }
+                LISTENERS.addAll(found);
+                discovered = true;
+            }
+        }
+    }
+}
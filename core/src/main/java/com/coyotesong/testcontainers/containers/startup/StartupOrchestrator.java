@@ -0,0 +1,436 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.lifecycle.Startable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts a set of containers concurrently, respecting their dependencies.
+ * <p>
+ * Each container is started as soon as all of its dependencies have started, with
+ * at most 'parallelism' containers starting at once. Dependencies are the ones given
+ * to {@link #add(String, Startable, Startable...)} plus the container's own
+ * {@link Startable#getDependencies()}. The containers are started on virtual threads
+ * when running on Java 21 or later, and on a fixed pool of daemon threads otherwise.
+ * <p>
+ * The first failure stops the run: containers that are still starting are interrupted,
+ * containers that have not been started are skipped, and the containers that did start
+ * are stopped. The failure is rethrown as a ContainerLaunchException.
+ * <p>
+ * The orchestrator is itself a Startable. {@link #stop()} stops the containers in the
+ * reverse order of their dependencies. {@link #getReport()} returns the time each
+ * container took to start and the critical path.
+ * <p>
+ * Anything that implements Startable can be orchestrated, so the scheduling can be
+ * tested with stub containers.
+ */
+public class StartupOrchestrator implements Startable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    /** Default maximum number of containers starting at once */
+    public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final Map<Startable, Node> nodes = new IdentityHashMap<>();
+
+    private final List<Node> order = new ArrayList<>();
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private boolean virtualThreads = true;
+
+    private final List<Node> started = new ArrayList<>();
+
+    private StartupReport report;
+
+    /**
+     * Add a container
+     *
+     * @param name name used in the report and error messages
+     * @param startable container
+     * @param dependencies containers that must be started first. They are added if necessary.
+     * @return this object
+     */
+    public synchronized StartupOrchestrator add(String name, Startable startable, Startable... dependencies) {
+        final Node node = node(startable, name);
+        for (Startable dependency : dependencies) {
+            node.dependencies.add(node(dependency, null));
+        }
+        return this;
+    }
+
+    /**
+     * Add a container, named after its class
+     *
+     * @param startable container
+     * @param dependencies containers that must be started first. They are added if necessary.
+     * @return this object
+     */
+    public StartupOrchestrator add(Startable startable, Startable... dependencies) {
+        return add(null, startable, dependencies);
+    }
+
+    /**
+     * Set maximum number of containers starting at once
+     *
+     * @param parallelism maximum number of concurrent starts
+     * @return this object
+     */
+    public synchronized StartupOrchestrator withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Use virtual threads when running on Java 21 or later
+     *
+     * @param virtualThreads 'false' to always use platform threads
+     * @return this object
+     */
+    public synchronized StartupOrchestrator withVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Get maximum number of containers starting at once
+     *
+     * @return parallelism
+     */
+    public synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the report of the most recent start()
+     *
+     * @return report, or null if start() has not completed
+     */
+    public synchronized StartupReport getReport() {
+        return report;
+    }
+
+    /**
+     * Start all containers
+     *
+     * @throws ContainerLaunchException a container failed to start
+     * @throws IllegalStateException the dependencies contain a cycle
+     */
+    @Override
+    public synchronized void start() {
+        addImplicitDependencies();
+        final Map<Node, List<Node>> dependents = new IdentityHashMap<>();
+        final Map<Node, Integer> pending = new IdentityHashMap<>();
+        final Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : order) {
+            dependents.put(node, new ArrayList<>());
+        }
+        for (Node node : order) {
+            pending.put(node, node.dependencies.size());
+            for (Node dependency : node.dependencies) {
+                dependents.get(dependency).add(node);
+            }
+            if (node.dependencies.isEmpty()) {
+                ready.add(node);
+            }
+        }
+        checkForCycles(dependents, pending);
+
+        for (Node node : order) {
+            node.reset();
+        }
+        started.clear();
+        report = null;
+        final BlockingQueue<Node> completions = new LinkedBlockingQueue<>();
+        final Map<Node, Future<?>> inFlight = new IdentityHashMap<>();
+        final ExecutorService executor = newExecutor();
+        final long begin = System.nanoTime();
+        Throwable failure = null;
+        try {
+            while (started.size() < order.size()) {
+                while (!ready.isEmpty() && inFlight.size() < parallelism) {
+                    final Node node = ready.remove();
+                    inFlight.put(node, executor.submit(() -> run(node, completions)));
+                }
+                final Node node = completions.take();
+                inFlight.remove(node);
+                if (node.failure != null) {
+                    failure = node.failure;
+                    break;
+                }
+                started.add(node);
+                for (Node dependent : dependents.get(node)) {
+                    if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } finally {
+            for (Future<?> future : inFlight.values()) {
+                future.cancel(true);
+            }
+            executor.shutdown();
+        }
+
+        if (failure != null) {
+            awaitCancelled(inFlight.keySet(), completions);
+            stop();
+            final Node culprit = findCulprit(failure);
+            throw new ContainerLaunchException(
+                (culprit == null) ? "startup interrupted" : (culprit.name + " failed to start"),
+                failure
+            );
+        }
+        report = newReport(System.nanoTime() - begin);
+        LOG.debug("{}", report);
+    }
+
+    /**
+     * Stop the started containers, dependents first
+     */
+    @Override
+    public synchronized void stop() {
+        for (int i = started.size() - 1; i >= 0; i--) {
+            final Node node = started.get(i);
+            try {
+                node.startable.stop();
+            } catch (RuntimeException e) {
+                LOG.warn("unable to stop {}: {}", node.name, e.getMessage());
+            }
+        }
+        started.clear();
+    }
+
+    private Node node(Startable startable, String name) {
+        Node node = nodes.get(startable);
+        if (node == null) {
+            node = new Node(startable, (name == null) ? defaultName(startable) : name);
+            nodes.put(startable, node);
+            order.add(node);
+        } else if (name != null) {
+            node.name = name;
+        }
+        return node;
+    }
+
+    private void addImplicitDependencies() {
+        // the list grows while we iterate - dependencies of dependencies are added too
+        for (int i = 0; i < order.size(); i++) {
+            final Node node = order.get(i);
+            for (Startable dependency : node.startable.getDependencies()) {
+                node.dependencies.add(node(dependency, null));
+            }
+        }
+    }
+
+    private void checkForCycles(Map<Node, List<Node>> dependents, Map<Node, Integer> pending) {
+        final Map<Node, Integer> remaining = new IdentityHashMap<>(pending);
+        final Deque<Node> queue = new ArrayDeque<>();
+        for (Node node : order) {
+            if (remaining.get(node) == 0) {
+                queue.add(node);
+            }
+        }
+        int visited = 0;
+        while (!queue.isEmpty()) {
+            final Node node = queue.remove();
+            visited++;
+            for (Node dependent : dependents.get(node)) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        if (visited < order.size()) {
+            final List<String> cycle = new ArrayList<>();
+            for (Node node : order) {
+                if (remaining.get(node) > 0) {
+                    cycle.add(node.name);
+                }
+            }
+            throw new IllegalStateException("dependency cycle among " + cycle);
+        }
+    }
+
+    private static void run(Node node, BlockingQueue<Node> completions) {
+        if (!node.claimed.compareAndSet(false, true)) {
+            // cancelled before it started
+            return;
+        }
+        node.begin = System.nanoTime();
+        try {
+            node.startable.start();
+        } catch (Throwable t) {
+            node.failure = t;
+        } finally {
+            node.end = System.nanoTime();
+            completions.add(node);
+        }
+    }
+
+    /**
+     * Wait briefly for interrupted starts to finish so the containers that did start can be stopped.
+     */
+    private void awaitCancelled(Set<Node> cancelled, BlockingQueue<Node> completions) {
+        final Set<Node> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Node node : cancelled) {
+            // a start that has not begun never will, one that has will report its completion
+            if (!node.claimed.compareAndSet(false, true)) {
+                remaining.add(node);
+            }
+        }
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        try {
+            while (!remaining.isEmpty()) {
+                final long timeout = deadline - System.nanoTime();
+                final Node node = (timeout <= 0) ? null : completions.poll(timeout, TimeUnit.NANOSECONDS);
+                if (node == null) {
+                    break;
+                }
+                remaining.remove(node);
+                if (node.failure == null) {
+                    started.add(node);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Node node : remaining) {
+            LOG.warn("{} is still starting", node.name);
+        }
+    }
+
+    private Node findCulprit(Throwable failure) {
+        for (Node node : order) {
+            if (node.failure == failure) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private StartupReport newReport(long wallClock) {
+        final List<Node> byCompletion = new ArrayList<>(started);
+        final Map<String, Duration> durations = new LinkedHashMap<>();
+        for (Node node : byCompletion) {
+            durations.put(node.name, Duration.ofNanos(node.end - node.begin));
+        }
+
+        // walk back from the last container to finish via the dependency that finished last
+        final List<String> path = new ArrayList<>();
+        long pathNanos = 0L;
+        Node node = byCompletion.isEmpty() ? null : byCompletion.get(byCompletion.size() - 1);
+        while (node != null) {
+            path.add(node.name);
+            pathNanos += node.end - node.begin;
+            Node gate = null;
+            for (Node dependency : node.dependencies) {
+                if (gate == null || dependency.end - gate.end > 0) {
+                    gate = dependency;
+                }
+            }
+            node = gate;
+        }
+        Collections.reverse(path);
+        return new StartupReport(durations, path, Duration.ofNanos(pathNanos), Duration.ofNanos(wallClock));
+    }
+
+    private ExecutorService newExecutor() {
+        if (virtualThreads) {
+            try {
+                // Java 21+ - the start() calls mostly wait on docker so virtual threads are a good fit
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Java 8 - 20
+            }
+        }
+        return Executors.newFixedThreadPool(
+            Math.min(parallelism, Math.max(1, order.size())),
+            r -> {
+                final Thread thread = new Thread(r, "container-startup-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    private String defaultName(Startable startable) {
+        // not the image name - resolving it may pull the image
+        final String base = startable.getClass().getSimpleName();
+        String name = base;
+        for (int n = 2; isNameUsed(name); n++) {
+            name = base + "-" + n;
+        }
+        return name;
+    }
+
+    private boolean isNameUsed(String name) {
+        for (Node node : order) {
+            if (node.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A container and its dependencies
+     */
+    private static final class Node {
+
+        private final Startable startable;
+
+        private String name;
+
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+
+        private volatile long begin;
+
+        private volatile long end;
+
+        private volatile Throwable failure;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Node(Startable startable, String name) {
+            this.startable = startable;
+            this.name = name;
+        }
+
+        void reset() {
+            begin = 0L;
+            end = 0L;
+            failure = null;
+            claimed.set(false);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+/**
+ * Phases of a container's startup, in the order they occur.
+ */
+public enum StartupPhase {
+    /** Resolve the image, pulling it if it is not available locally */
+    PULL,
+
+    /** Create the container */
+    CREATE,
+
+    /** Copy files into the container */
+    COPY,
+
+    /** Start the container */
+    START,
+
+    /** Wait for the container's wait strategy */
+    WAIT,
+
+    /** Execute the test query once the wait strategy has succeeded. Not recorded if the query fails. */
+    FIRST_QUERY
+}
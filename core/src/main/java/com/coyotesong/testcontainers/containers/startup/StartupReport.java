@@ -0,0 +1,111 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable summary of a {@link StartupOrchestrator} run.
+ * <p>
+ * The critical path is the chain of dependencies that determined the wall-clock time:
+ * it ends with the last container to finish starting, and each earlier entry is the
+ * dependency that finished last before the next one could start. Starting more
+ * containers in parallel cannot make the run faster than the critical path.
+ */
+public final class StartupReport {
+
+    private final Map<String, Duration> durations;
+
+    private final List<String> criticalPath;
+
+    private final Duration criticalPathDuration;
+
+    private final Duration wallClock;
+
+    /**
+     * Constructor
+     *
+     * @param durations start() duration of each container, in completion order
+     * @param criticalPath names on the critical path, first to last
+     * @param criticalPathDuration sum of the durations on the critical path
+     * @param wallClock elapsed time of the whole run
+     */
+    StartupReport(Map<String, Duration> durations, List<String> criticalPath, Duration criticalPathDuration, Duration wallClock) {
+        this.durations = Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+        this.criticalPath = Collections.unmodifiableList(criticalPath);
+        this.criticalPathDuration = criticalPathDuration;
+        this.wallClock = wallClock;
+    }
+
+    /**
+     * Get start() duration of a container
+     *
+     * @param name container name
+     * @return duration or null if the container was not started
+     */
+    public Duration getDuration(String name) {
+        return durations.get(name);
+    }
+
+    /**
+     * Get start() durations of all started containers
+     *
+     * @return durations, in completion order
+     */
+    public Map<String, Duration> getDurations() {
+        return durations;
+    }
+
+    /**
+     * Get containers on the critical path
+     *
+     * @return names, first to last
+     */
+    public List<String> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Get sum of the start() durations on the critical path
+     *
+     * @return duration
+     */
+    public Duration getCriticalPathDuration() {
+        return criticalPathDuration;
+    }
+
+    /**
+     * Get sum of the start() durations of all containers, i.e., the time a sequential start would take
+     *
+     * @return duration
+     */
+    public Duration getSequentialDuration() {
+        Duration total = Duration.ZERO;
+        for (Duration duration : durations.values()) {
+            total = total.plus(duration);
+        }
+        return total;
+    }
+
+    /**
+     * Get elapsed time of the whole run
+     *
+     * @return duration
+     */
+    public Duration getWallClock() {
+        return wallClock;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StartupReport[wallClock=").append(wallClock.toMillis()).append(" ms");
+        sb.append(", sequential=").append(getSequentialDuration().toMillis()).append(" ms");
+        sb.append(", criticalPath=").append(criticalPathDuration.toMillis()).append(" ms ").append(criticalPath);
+        for (Map.Entry<String, Duration> entry : durations.entrySet()) {
+            sb.append(", ").append(entry.getKey()).append('=').append(entry.getValue().toMillis()).append(" ms");
+        }
+        return sb.append(']').toString();
+    }
+}
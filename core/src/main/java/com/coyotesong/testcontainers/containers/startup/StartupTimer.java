@@ -0,0 +1,257 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the duration of each startup phase of a single container.
+ * <p>
+ * The container calls {@link #begin()} and {@link #completed()} or {@link #failed(Throwable)}
+ * around start(), and {@link #phaseCompleted(StartupPhase)} from the GenericContainer
+ * lifecycle hooks. Each phase is measured from the end of the previous one. Work that
+ * happens inside another phase, e.g., copying files between creating and starting the
+ * container, is recorded with {@link #timeNested(StartupPhase, Runnable)} and subtracted
+ * from the enclosing phase.
+ * <p>
+ * The timer does nothing outside of begin() and completed(), e.g., when files are
+ * copied into a running container.
+ */
+public class StartupTimer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimer.class);
+
+    private final String containerName;
+
+    private final List<StartupListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<StartupPhase, Long> phases = new EnumMap<>(StartupPhase.class);
+
+    private final Map<StartupPhase, Long> pending = new EnumMap<>(StartupPhase.class);
+
+    private boolean active;
+
+    private long begin;
+
+    private long end;
+
+    private long mark;
+
+    private long nested;
+
+    /**
+     * Constructor
+     *
+     * @param containerName container name reported to the listeners
+     */
+    public StartupTimer(String containerName) {
+        this.containerName = containerName;
+    }
+
+    /**
+     * Get container name
+     *
+     * @return container name
+     */
+    public String getContainerName() {
+        return containerName;
+    }
+
+    /**
+     * Add a listener for this container. JVM-wide listeners are always notified.
+     *
+     * @param listener listener
+     */
+    public void addListener(StartupListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener for this container
+     *
+     * @param listener listener
+     */
+    public void removeListener(StartupListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Is the container starting?
+     *
+     * @return 'true' between begin() and completed() or failed()
+     */
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    /**
+     * The container is starting. Any previous timings are discarded.
+     */
+    public synchronized void begin() {
+        phases.clear();
+        pending.clear();
+        begin = System.nanoTime();
+        end = 0L;
+        mark = begin;
+        nested = 0L;
+        active = true;
+    }
+
+    /**
+     * Start measuring the next phase now, e.g., to exclude the time spent starting
+     * dependencies and in configure().
+     */
+    public synchronized void mark() {
+        mark = System.nanoTime();
+        nested = 0L;
+    }
+
+    /**
+     * A phase has completed. Its duration is the time since the previous phase completed,
+     * excluding nested phases.
+     *
+     * @param phase completed phase
+     */
+    public void phaseCompleted(StartupPhase phase) {
+        final Map<StartupPhase, Long> completed = new EnumMap<>(StartupPhase.class);
+        synchronized (this) {
+            if (!active) {
+                return;
+            }
+            final long now = System.nanoTime();
+            completed.putAll(pending);
+            completed.put(phase, Math.max(0L, now - mark - nested));
+            phases.merge(phase, completed.get(phase), Long::sum);
+            pending.clear();
+            mark = now;
+            nested = 0L;
+        }
+        final long start = System.nanoTime();
+        for (Map.Entry<StartupPhase, Long> entry : completed.entrySet()) {
+            notifyPhaseCompleted(entry.getKey(), Duration.ofNanos(entry.getValue()));
+        }
+        // the listeners' own overhead, e.g., registering a meter, is not part of the next phase
+        synchronized (this) {
+            nested += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Run and time a phase. The phase starts when this method is called.
+     *
+     * @param phase phase
+     * @param task work performed in the phase
+     */
+    public void time(StartupPhase phase, Runnable task) {
+        mark();
+        task.run();
+        phaseCompleted(phase);
+    }
+
+    /**
+     * Run and time work that happens inside another phase. The listeners are notified
+     * of the nested phase when the enclosing phase completes.
+     *
+     * @param phase nested phase
+     * @param task work performed in the nested phase
+     */
+    public void timeNested(StartupPhase phase, Runnable task) {
+        final long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            synchronized (this) {
+                if (active) {
+                    phases.merge(phase, elapsed, Long::sum);
+                    pending.merge(phase, elapsed, Long::sum);
+                    nested += elapsed;
+                }
+            }
+        }
+    }
+
+    /**
+     * The container has started
+     */
+    public void completed() {
+        final StartupTimings timings = finish();
+        if (timings == null) {
+            return;
+        }
+        LOG.debug("{}", timings);
+        for (StartupListener listener : getAllListeners()) {
+            try {
+                listener.startupCompleted(containerName, timings);
+            } catch (RuntimeException e) {
+                LOG.warn("startup listener {} failed: {}", listener, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The container failed to start
+     *
+     * @param cause reason for the failure
+     */
+    public void failed(Throwable cause) {
+        final StartupTimings timings = finish();
+        if (timings == null) {
+            return;
+        }
+        for (StartupListener listener : getAllListeners()) {
+            try {
+                listener.startupFailed(containerName, timings, cause);
+            } catch (RuntimeException e) {
+                LOG.warn("startup listener {} failed: {}", listener, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get timings of the current or most recent startup
+     *
+     * @return timings
+     */
+    public synchronized StartupTimings getTimings() {
+        final Map<StartupPhase, Duration> durations = new EnumMap<>(StartupPhase.class);
+        for (Map.Entry<StartupPhase, Long> entry : phases.entrySet()) {
+            durations.put(entry.getKey(), Duration.ofNanos(entry.getValue()));
+        }
+        final long elapsed = (begin == 0L) ? 0L : ((active ? System.nanoTime() : end) - begin);
+        return new StartupTimings(containerName, durations, Duration.ofNanos(elapsed));
+    }
+
+    private StartupTimings finish() {
+        synchronized (this) {
+            if (!active) {
+                return null;
+            }
+            end = System.nanoTime();
+            active = false;
+        }
+        return getTimings();
+    }
+
+    private void notifyPhaseCompleted(StartupPhase phase, Duration duration) {
+        for (StartupListener listener : getAllListeners()) {
+            try {
+                listener.phaseCompleted(containerName, phase, duration);
+            } catch (RuntimeException e) {
+                LOG.warn("startup listener {} failed: {}", listener, e.getMessage());
+            }
+        }
+    }
+
+    private List<StartupListener> getAllListeners() {
+        final List<StartupListener> all = new ArrayList<>(StartupListeners.getListeners());
+        all.addAll(listeners);
+        return all;
+    }
+}
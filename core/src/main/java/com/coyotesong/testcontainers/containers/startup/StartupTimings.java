@@ -0,0 +1,83 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a container's startup timings.
+ * <p>
+ * The total is the elapsed time from the call to start() and is usually larger than
+ * the sum of the phases, e.g., it includes starting dependencies, configure() and
+ * running init scripts.
+ */
+public final class StartupTimings {
+
+    private final String containerName;
+
+    private final Map<StartupPhase, Duration> phases;
+
+    private final Duration total;
+
+    /**
+     * Constructor
+     *
+     * @param containerName container name
+     * @param phases durations of the completed phases
+     * @param total elapsed time
+     */
+    StartupTimings(String containerName, Map<StartupPhase, Duration> phases, Duration total) {
+        this.containerName = containerName;
+        this.phases = phases.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new EnumMap<>(phases));
+        this.total = total;
+    }
+
+    /**
+     * Get container name
+     *
+     * @return container name
+     */
+    public String getContainerName() {
+        return containerName;
+    }
+
+    /**
+     * Get duration of a phase
+     *
+     * @param phase startup phase
+     * @return duration or null if the phase has not been reached
+     */
+    public Duration get(StartupPhase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * Get durations of all completed phases
+     *
+     * @return durations, in phase order
+     */
+    public Map<StartupPhase, Duration> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Get elapsed time
+     *
+     * @return elapsed time
+     */
+    public Duration getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StartupTimings[").append(containerName);
+        for (Map.Entry<StartupPhase, Duration> entry : phases.entrySet()) {
+            sb.append(", ").append(entry.getKey()).append('=').append(entry.getValue().toMillis()).append("ms");
+        }
+        return sb.append(", total=").append(total.toMillis()).append("ms]").toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.coyotesong.testcontainers.containers.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wait strategy that runs several strategies in parallel and declares the container
+ * ready as soon as any one of them succeeds.
+ * <p>
+ * The remaining strategies are cancelled, i.e., their threads are interrupted. This
+ * stops a LogMessageWaitStrategy from following the log once, e.g., a JDBC probe has
+ * already seen the database accept queries. The container fails to start only if
+ * every strategy fails.
+ */
+public class FirstReadyWaitStrategy implements WaitStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FirstReadyWaitStrategy.class);
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "first-ready-wait-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<WaitStrategy> strategies;
+
+    private volatile WaitStrategy winner;
+
+    /**
+     * Constructor
+     *
+     * @param strategies wait strategies, at least one
+     */
+    public FirstReadyWaitStrategy(WaitStrategy... strategies) {
+        if (strategies.length == 0) {
+            throw new IllegalArgumentException("at least one wait strategy is required");
+        }
+        this.strategies = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(strategies)));
+    }
+
+    /**
+     * Get the wait strategies
+     *
+     * @return wait strategies
+     */
+    public List<WaitStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Get the strategy that succeeded most recently
+     *
+     * @return wait strategy or null if no strategy has succeeded
+     */
+    public WaitStrategy getWinner() {
+        return winner;
+    }
+
+    @Override
+    public void waitUntilReady(WaitStrategyTarget target) {
+        final CompletionService<WaitStrategy> completion = new ExecutorCompletionService<>(EXECUTOR);
+        final List<Future<WaitStrategy>> futures = new ArrayList<>();
+        for (WaitStrategy strategy : strategies) {
+            futures.add(
+                completion.submit(() -> {
+                    strategy.waitUntilReady(target);
+                    return strategy;
+                })
+            );
+        }
+
+        ContainerLaunchException failure = null;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    winner = completion.take().get();
+                    LOG.debug("container is ready according to {}", winner.getClass().getSimpleName());
+                    return;
+                } catch (ExecutionException e) {
+                    final Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+                    if (failure == null) {
+                        failure = new ContainerLaunchException("no wait strategy succeeded", cause);
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("interrupted while waiting for container to start", e);
+        } finally {
+            for (Future<WaitStrategy> future : futures) {
+                future.cancel(true);
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Set the startup timeout of every strategy
+     *
+     * @param startupTimeout startup timeout
+     * @return this object
+     */
+    @Override
+    public FirstReadyWaitStrategy withStartupTimeout(Duration startupTimeout) {
+        for (WaitStrategy strategy : strategies) {
+            strategy.withStartupTimeout(startupTimeout);
+        }
+        return this;
+    }
+}
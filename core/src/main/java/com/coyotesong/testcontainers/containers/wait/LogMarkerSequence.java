@@ -0,0 +1,238 @@
+package com.coyotesong.testcontainers.containers.wait;
+
+import com.coyotesong.testcontainers.containers.output.MultiPatternMatcher;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Incremental matcher for an ordered sequence of log markers.
+ * <p>
+ * Each step is a literal marker and the number of times it must occur. A step is only
+ * looked for once the previous step has completed, e.g., "database created" and then
+ * "is now running". The frames are scanned once, as bytes, with a {@link MultiPatternMatcher}
+ * so there is no regex, no String allocation and nothing is retained between frames
+ * except the automaton state. A marker may span frames of the same output type.
+ * <p>
+ * This is a plain OutputFrame consumer so it can be fed by the wait strategy's own log
+ * follower or chained with the container's other log consumers, e.g.,
+ * {@code selectiveLogConsumer.andThen(sequence)}.
+ */
+public final class LogMarkerSequence implements Consumer<OutputFrame> {
+
+    private final MultiPatternMatcher matcher;
+
+    private final List<Step> steps;
+
+    /** pattern id of each step */
+    private final int[] stepPatterns;
+
+    /** automaton state per output type */
+    private final int[] states = new int[OutputFrame.OutputType.values().length];
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile int step;
+
+    private volatile int count;
+
+    private volatile boolean ended;
+
+    private long scanned;
+
+    /**
+     * Constructor
+     *
+     * @param steps steps, at least one
+     */
+    LogMarkerSequence(List<Step> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("at least one marker is required");
+        }
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+        this.stepPatterns = new int[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            final String marker = steps.get(i).getMarker();
+            Integer id = ids.get(marker);
+            if (id == null) {
+                id = ids.size();
+                ids.put(marker, id);
+            }
+            stepPatterns[i] = id;
+        }
+        this.matcher = MultiPatternMatcher.compile(ids.keySet());
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (finished.getCount() == 0L) {
+            return;
+        }
+        if (frame.getType() == OutputFrame.OutputType.END) {
+            ended = true;
+            finished.countDown();
+            return;
+        }
+        final byte[] bytes = frame.getBytes();
+        if (bytes == null) {
+            return;
+        }
+        final int type = frame.getType().ordinal();
+        synchronized (this) {
+            int state = states[type];
+            int current = step;
+            int seen = count;
+            int expected = stepPatterns[current];
+            int i = 0;
+            while (i < bytes.length) {
+                final long result = matcher.scan(state, bytes, i, bytes.length);
+                i = MultiPatternMatcher.positionOf(result);
+                state = MultiPatternMatcher.stateOf(result);
+                if (!matcher.isAccepting(state)) {
+                    break;
+                }
+                for (int id : matcher.matches(state)) {
+                    if (id == expected) {
+                        if (++seen == steps.get(current).getTimes()) {
+                            current++;
+                            seen = 0;
+                            if (current == stepPatterns.length) {
+                                step = current;
+                                count = 0;
+                                scanned += i;
+                                finished.countDown();
+                                return;
+                            }
+                            expected = stepPatterns[current];
+                        }
+                        // an occurrence only counts once, even if the next step's marker ends here too
+                        break;
+                    }
+                }
+            }
+            states[type] = state;
+            step = current;
+            count = seen;
+            scanned += bytes.length;
+        }
+    }
+
+    /**
+     * Has every step completed?
+     *
+     * @return 'true' if the sequence has been seen
+     */
+    public boolean isComplete() {
+        return step == steps.size();
+    }
+
+    /**
+     * Did the log end before the sequence was seen?
+     *
+     * @return 'true' if the log ended, e.g., because the container exited
+     */
+    public boolean isEnded() {
+        return ended && !isComplete();
+    }
+
+    /**
+     * Wait until the sequence has been seen or the log ends
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of timeout
+     * @return 'true' if the sequence has been seen
+     * @throws InterruptedException interrupted while waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        finished.await(timeout, unit);
+        return isComplete();
+    }
+
+    /**
+     * Get number of bytes scanned
+     *
+     * @return bytes scanned
+     */
+    public synchronized long getScannedBytes() {
+        return scanned;
+    }
+
+    /**
+     * Describe the progress through the sequence, e.g., for an error message
+     *
+     * @return description
+     */
+    public String describeProgress() {
+        final int current = step;
+        if (current == steps.size()) {
+            return "all markers seen";
+        }
+        final Step s = steps.get(current);
+        return String.format(
+            "waiting for '%s' (%d of %d seen), step %d of %d",
+            s.getMarker(),
+            count,
+            s.getTimes(),
+            current + 1,
+            steps.size()
+        );
+    }
+
+    /**
+     * Step in a marker sequence
+     */
+    public static final class Step {
+
+        private final String marker;
+
+        private final int times;
+
+        /**
+         * Constructor
+         *
+         * @param marker literal marker
+         * @param times number of occurrences required
+         */
+        public Step(String marker, int times) {
+            if (marker == null || marker.isEmpty()) {
+                throw new IllegalArgumentException("marker must not be empty");
+            }
+            if (times < 1) {
+                throw new IllegalArgumentException("times must be positive: " + times);
+            }
+            this.marker = marker;
+            this.times = times;
+        }
+
+        /**
+         * Get marker
+         *
+         * @return literal marker
+         */
+        public String getMarker() {
+            return marker;
+        }
+
+        /**
+         * Get number of occurrences required
+         *
+         * @return number of occurrences
+         */
+        public int getTimes() {
+            return times;
+        }
+
+        @Override
+        public String toString() {
+            return (times == 1) ? "'" + marker + "'" : "'" + marker + "' x" + times;
+        }
+    }
+}
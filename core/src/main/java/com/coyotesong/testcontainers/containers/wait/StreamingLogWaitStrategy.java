@@ -0,0 +1,119 @@
+package com.coyotesong.testcontainers.containers.wait;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.output.FrameConsumerResultCallback;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wait strategy that follows the container log until a sequence of literal markers
+ * has been seen.
+ * <p>
+ * This replaces LogMessageWaitStrategy regexes of the form {@code .*marker.*\s}. That
+ * strategy converts every frame to a String, runs the regex over it - a leading
+ * {@code .*} backtracks over the entire line - and queues every frame until the
+ * predicate matches. This strategy scans the frames as they arrive on the docker-java
+ * callback thread, with a precompiled automaton, and keeps nothing but the automaton
+ * state.
+ * <pre>
+ *     new StreamingLogWaitStrategy()
+ *         .withMarker("database created")
+ *         .withMarker("is now running")
+ * </pre>
+ * The wait fails immediately if the log ends, e.g., because the container exited,
+ * before the sequence has been seen.
+ */
+public class StreamingLogWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingLogWaitStrategy.class);
+
+    private final List<LogMarkerSequence.Step> steps = new ArrayList<>();
+
+    /**
+     * Add a marker that must occur once, after the previous markers
+     *
+     * @param marker literal marker
+     * @return this object
+     */
+    public StreamingLogWaitStrategy withMarker(String marker) {
+        return withMarker(marker, 1);
+    }
+
+    /**
+     * Add a marker that must occur a number of times, after the previous markers
+     *
+     * @param marker literal marker
+     * @param times number of occurrences
+     * @return this object
+     */
+    public StreamingLogWaitStrategy withMarker(String marker, int times) {
+        steps.add(new LogMarkerSequence.Step(marker, times));
+        return this;
+    }
+
+    /**
+     * Get the steps of the marker sequence
+     *
+     * @return steps
+     */
+    public List<LogMarkerSequence.Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Create a matcher for the marker sequence. Each matcher is independent and can
+     * only be used once.
+     *
+     * @return marker sequence matcher
+     */
+    public LogMarkerSequence newSequence() {
+        return new LogMarkerSequence(steps);
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        final LogMarkerSequence sequence = newSequence();
+        try (FrameConsumerResultCallback callback = new FrameConsumerResultCallback()) {
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, sequence);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, sequence);
+            waitStrategyTarget
+                .getDockerClient()
+                .logContainerCmd(waitStrategyTarget.getContainerId())
+                .withFollowStream(true)
+                .withSince(0)
+                .withStdOut(true)
+                .withStdErr(true)
+                .exec(callback);
+
+            if (sequence.await(startupTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.debug("found log markers {} after {} bytes", steps, sequence.getScannedBytes());
+                return;
+            }
+            if (sequence.isEnded()) {
+                throw new ContainerLaunchException(
+                    "Log ended before the expected output was seen: " + sequence.describeProgress()
+                );
+            }
+            throw new ContainerLaunchException(
+                "Timed out waiting for log output: " + sequence.describeProgress()
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("interrupted while waiting for log output", e);
+        } catch (IOException e) {
+            LOG.debug("unable to close log follower: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingLogWaitStrategy" + steps;
+    }
+}
@@ -0,0 +1,112 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import com.coyotesong.testcontainers.containers.startup.StartupListener;
+import com.coyotesong.testcontainers.containers.startup.StartupPhase;
+import com.coyotesong.testcontainers.containers.startup.StartupTimings;
+import org.junit.Test;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncLogConsumerTest {
+
+    private static OutputFrame frame(String text) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean workerIsAlive(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(t -> t.getName().equals("log-consumer-" + name) && t.isAlive());
+    }
+
+    @Test
+    public void endFrameDrainsQueueAndStopsWorker() {
+        final List<OutputFrame> received = new CopyOnWriteArrayList<>();
+        final AsyncLogConsumer consumer = new AsyncLogConsumer("end-test", received::add);
+        for (int i = 0; i < 100; i++) {
+            consumer.accept(frame("line " + i));
+        }
+        consumer.accept(OutputFrame.END);
+
+        assertThat(received).hasSize(101);
+        assertThat(received.get(0).getUtf8String()).isEqualTo("line 0");
+        assertThat(received.get(100)).isSameAs(OutputFrame.END);
+        assertThat(workerIsAlive("end-test")).isFalse();
+
+        // later frames are delivered synchronously
+        consumer.accept(frame("late"));
+        assertThat(received).hasSize(102);
+    }
+
+    @Test
+    public void dropNewestCountsDiscardedFrames() throws InterruptedException {
+        final Object gate = new Object();
+        final List<OutputFrame> received = new CopyOnWriteArrayList<>();
+        final AsyncLogConsumer consumer = new AsyncLogConsumer("drop-test", f -> {
+            synchronized (gate) {
+                received.add(f);
+            }
+        }, 2, AsyncLogConsumer.OverflowPolicy.DROP_NEWEST);
+
+        synchronized (gate) {
+            // the worker holds at most one frame while blocked, the buffer holds two more
+            for (int i = 0; i < 10; i++) {
+                consumer.accept(frame("line " + i));
+            }
+            Thread.sleep(50L);
+        }
+        consumer.close();
+
+        assertThat(consumer.getDroppedNewestCount()).isBetween(7L, 8L);
+        assertThat(received.size() + consumer.getDroppedNewestCount()).isEqualTo(10L);
+        assertThat(workerIsAlive("drop-test")).isFalse();
+    }
+
+    @Test
+    public void startupEventsAreForwardedAfterQueuedFrames() {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final RecordingListener delegate = new RecordingListener(events);
+        try (AsyncLogConsumer consumer = new AsyncLogConsumer("startup-test", delegate)) {
+            assertThat(consumer).isInstanceOf(StartupListener.class);
+            consumer.phaseCompleted("test", StartupPhase.CREATE, Duration.ZERO);
+            for (int i = 0; i < 100; i++) {
+                consumer.accept(frame("line " + i));
+            }
+            consumer.startupFailed("test", null, new IllegalStateException());
+        }
+
+        assertThat(events).hasSize(102);
+        assertThat(events.get(0)).isEqualTo("CREATE");
+        assertThat(events.get(101)).isEqualTo("failed");
+    }
+
+    private static final class RecordingListener implements Consumer<OutputFrame>, StartupListener {
+
+        private final List<String> events;
+
+        private RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void accept(OutputFrame frame) {
+            events.add(frame.getUtf8String());
+        }
+
+        @Override
+        public void phaseCompleted(String containerName, StartupPhase phase, Duration duration) {
+            events.add(phase.name());
+        }
+
+        @Override
+        public void startupFailed(String containerName, StartupTimings timings, Throwable cause) {
+            events.add("failed");
+        }
+    }
+}
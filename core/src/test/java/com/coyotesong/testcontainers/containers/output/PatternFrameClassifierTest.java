@@ -0,0 +1,45 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PatternFrameClassifierTest {
+
+    private static final String[] LINES = {
+        "2023-10-01 12:00:00 UTC [42]: LOG:  checkpoint starting",
+        "2023-10-01 12:00:00 UTC [42]: ERROR:  relation does not exist",
+        "2023-10-01 12:00:00.123 Init Session:0x7f3a <INFO> starting",
+        "caf\u00e9 : INFO:  \u00fcber",
+        "\u00fcber LOG: ",
+        "",
+    };
+
+    private static boolean isNoise(FrameClassifier classifier, String line) {
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return classifier.isNoise(bytes, 0, bytes.length);
+    }
+
+    @Test
+    public void scanAndAutomatonAgree() {
+        // four markers are scanned with contains(), five use the automaton
+        final PatternFrameClassifier scan = new PatternFrameClassifier(" LOG: ", ": INFO:  ", " <INFO> ", "\u00fcber");
+        final PatternFrameClassifier automaton = scan.withMarkers(" <NEVER> ");
+        assertThat(scan.getMarkers()).hasSize(PatternFrameClassifier.MAX_SCAN_MARKERS);
+        for (String line : LINES) {
+            assertThat(isNoise(scan, line)).as(line).isEqualTo(isNoise(automaton, line));
+        }
+        assertThat(isNoise(scan, LINES[1])).isFalse();
+        assertThat(isNoise(scan, LINES[3])).isTrue();
+    }
+
+    @Test
+    public void nonAsciiMarkerMatchesUtf8Bytes() {
+        final PatternFrameClassifier classifier = new PatternFrameClassifier("\u00e9");
+        assertThat(isNoise(classifier, "caf\u00e9")).isTrue();
+        // U+00E9 is C3 A9 in UTF-8 - the single byte E9 must not match
+        assertThat(classifier.isNoise(new byte[] { 'c', (byte) 0xE9 }, 0, 2)).isFalse();
+    }
+}
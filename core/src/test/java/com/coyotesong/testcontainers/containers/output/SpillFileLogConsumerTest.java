@@ -0,0 +1,65 @@
+package com.coyotesong.testcontainers.containers.output;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpillFileLogConsumerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static OutputFrame frame(String line) {
+        return new OutputFrame(OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToCopiesEverySegment() throws IOException {
+        final StringBuilder expected = new StringBuilder();
+        try (SpillFileLogConsumer consumer = new SpillFileLogConsumer(folder.getRoot().toPath(), "test").withSegmentSize(64)) {
+            for (int i = 0; i < 20; i++) {
+                final String line = "line " + i + "\n";
+                consumer.accept(frame(line));
+                expected.append(line);
+            }
+            assertThat(consumer.getSegmentFiles()).hasSizeGreaterThan(1);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final long written = consumer.writeTo(out, null, null);
+            assertThat(written).isEqualTo(expected.length());
+            assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    public void captureIsDisabledWhenSegmentCannotBeCreated() throws IOException {
+        // a regular file where the directory should be
+        final Path directory = folder.newFile("not-a-directory").toPath();
+        try (SpillFileLogConsumer consumer = new SpillFileLogConsumer(directory, "test")) {
+            consumer.accept(frame("first\n"));
+            consumer.accept(frame("second\n"));
+            assertThat(consumer.isDisabled()).isTrue();
+            assertThat(consumer.getFrameCount()).isZero();
+        }
+        assertThat(Files.isRegularFile(directory)).isTrue();
+    }
+
+    @Test
+    public void segmentSizeFitsInLengthField() {
+        final SpillFileLogConsumer consumer = new SpillFileLogConsumer(folder.getRoot().toPath(), "test");
+        assertThat(consumer.withSegmentSize(SpillFileLogConsumer.MAX_SEGMENT_SIZE).getSegmentSize())
+            .isEqualTo((1 << 28) - 1);
+        assertThatThrownBy(() -> consumer.withSegmentSize(1 << 28)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
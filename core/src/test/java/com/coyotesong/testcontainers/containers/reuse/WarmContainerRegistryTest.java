@@ -0,0 +1,130 @@
+package com.coyotesong.testcontainers.containers.reuse;
+
+import org.junit.After;
+import org.junit.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.lifecycle.Startable;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WarmContainerRegistryTest {
+
+    private static final ContainerFingerprint FINGERPRINT = ContainerFingerprint.builder().add("name", "stand-in").build();
+
+    private WarmContainerRegistry registry;
+
+    @After
+    public void tearDown() {
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    @Test
+    public void compatibleContainerIsReused() {
+        registry = new WarmContainerRegistry(Duration.ofMinutes(1));
+        final StandIn first = new StandIn();
+
+        try (WarmContainerRegistry.Lease<StandIn> lease = registry.acquire(FINGERPRINT, () -> first)) {
+            assertThat(lease.get()).isSameAs(first);
+        }
+        try (WarmContainerRegistry.Lease<StandIn> lease = registry.acquire(FINGERPRINT, StandIn::new)) {
+            assertThat(lease.get()).isSameAs(first);
+        }
+
+        assertThat(first.starts.get()).isEqualTo(1);
+        assertThat(first.stops.get()).isZero();
+        assertThat(registry.getStartCount()).isEqualTo(1);
+        assertThat(registry.getReuseCount()).isEqualTo(1);
+
+        registry.close();
+        assertThat(first.stops.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void idleContainerIsStoppedAfterTimeout() throws InterruptedException {
+        registry = new WarmContainerRegistry(Duration.ofMillis(50));
+        final StandIn container = new StandIn();
+
+        registry.acquire(FINGERPRINT, () -> container).close();
+        assertThat(container.stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    public void leasedContainerIsNotStopped() throws InterruptedException {
+        registry = new WarmContainerRegistry(Duration.ofMillis(50));
+        final StandIn container = new StandIn();
+
+        registry.acquire(FINGERPRINT, () -> container).close();
+        try (WarmContainerRegistry.Lease<StandIn> lease = registry.acquire(FINGERPRINT, StandIn::new)) {
+            assertThat(container.stopped.await(200, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(lease.get()).isSameAs(container);
+        }
+    }
+
+    @Test
+    public void failedStartIsForgotten() {
+        registry = new WarmContainerRegistry(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> registry.acquire(FINGERPRINT, () -> new StandIn(new IllegalStateException("no docker"))))
+            .hasMessage("no docker");
+        assertThat(registry.size()).isZero();
+
+        try (WarmContainerRegistry.Lease<StandIn> lease = registry.acquire(FINGERPRINT, StandIn::new)) {
+            assertThat(lease.get().starts.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void copiedContentIsFingerprinted() {
+        final GenericContainer<?> a = new GenericContainer<>("alpine:3.18").withCopyToContainer(Transferable.of("a"), "/x");
+        final GenericContainer<?> b = new GenericContainer<>("alpine:3.18").withCopyToContainer(Transferable.of("b"), "/x");
+        final GenericContainer<?> c = new GenericContainer<>("alpine:3.18").withCopyToContainer(Transferable.of("a"), "/x");
+
+        assertThat(ContainerFingerprint.of(a)).isNotEqualTo(ContainerFingerprint.of(b)).isEqualTo(ContainerFingerprint.of(c));
+    }
+
+    /**
+     * Container that does not require docker
+     */
+    private static final class StandIn implements Startable {
+
+        private final RuntimeException failure;
+
+        private final AtomicInteger starts = new AtomicInteger();
+
+        private final AtomicInteger stops = new AtomicInteger();
+
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private StandIn() {
+            this(null);
+        }
+
+        private StandIn(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void start() {
+            if (failure != null) {
+                throw failure;
+            }
+            starts.incrementAndGet();
+        }
+
+        @Override
+        public void stop() {
+            stops.incrementAndGet();
+            stopped.countDown();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.coyotesong.testcontainers.containers.startup;
+
+import org.junit.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.lifecycle.Startable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StartupOrchestratorTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void cycleIsRejectedBeforeAnythingStarts() {
+        final Stub a = new Stub("a");
+        final Stub b = new Stub("b");
+        final Stub c = new Stub("c");
+        final StartupOrchestrator orchestrator = new StartupOrchestrator()
+            .add("a", a, c)
+            .add("b", b, a)
+            .add("c", c, b);
+
+        assertThatThrownBy(orchestrator::start)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("dependency cycle");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void failureStopsStartedContainersAndSkipsDependents() {
+        final Stub database = new Stub("database");
+        final Stub broken = new Stub("broken").failing();
+        final Stub app = new Stub("app");
+        final StartupOrchestrator orchestrator = new StartupOrchestrator()
+            .add("database", database)
+            .add("broken", broken, database)
+            .add("app", app, broken);
+
+        assertThatThrownBy(orchestrator::start)
+            .isInstanceOf(ContainerLaunchException.class)
+            .hasMessageContaining("broken failed to start");
+        assertThat(events).containsExactly("start database", "start broken", "stop database");
+        assertThat(orchestrator.getReport()).isNull();
+    }
+
+    @Test
+    public void containersStartAfterDependenciesAndStopInReverse() {
+        final Stub database = new Stub("database");
+        final Stub cache = new Stub("cache");
+        final Stub app = new Stub("app");
+        final StartupOrchestrator orchestrator = new StartupOrchestrator()
+            .withParallelism(4)
+            .add("app", app, database, cache)
+            .add("cache", cache, database);
+
+        orchestrator.start();
+        assertThat(events).containsExactly("start database", "start cache", "start app");
+        assertThat(orchestrator.getReport()).isNotNull();
+
+        events.clear();
+        orchestrator.stop();
+        assertThat(events).containsExactly("stop app", "stop cache", "stop database");
+    }
+
+    /**
+     * Stub container that records its lifecycle
+     */
+    private final class Stub implements Startable {
+
+        private final String name;
+
+        private boolean fail;
+
+        private Stub(String name) {
+            this.name = name;
+        }
+
+        private Stub failing() {
+            this.fail = true;
+            return this;
+        }
+
+        @Override
+        public void start() {
+            events.add("start " + name);
+            if (fail) {
+                throw new IllegalStateException(name);
+            }
+        }
+
+        @Override
+        public void stop() {
+            events.add("stop " + name);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.coyotesong.testcontainers.containers.wait;
+
+import org.junit.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class FirstReadyWaitStrategyTest {
+
+    private final WaitStrategyTarget target = mock(WaitStrategyTarget.class);
+
+    @Test
+    public void firstSuccessWinsAndOthersAreCancelled() throws InterruptedException {
+        final StubStrategy slow = new StubStrategy(null, true);
+        // the fast strategy succeeds once the slow one is running, so there is something to cancel
+        final StubStrategy fast = new StubStrategy(null, false, slow.started);
+        final FirstReadyWaitStrategy strategy = new FirstReadyWaitStrategy(slow, fast);
+
+        strategy.waitUntilReady(target);
+
+        assertThat(strategy.getWinner()).isSameAs(fast);
+        assertThat(slow.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void failureIsReportedOnlyIfEveryStrategyFails() {
+        final StubStrategy first = new StubStrategy(new IllegalStateException("no log message"), false);
+        final StubStrategy second = new StubStrategy(new IllegalStateException("no connection"), false);
+
+        assertThatThrownBy(() -> new FirstReadyWaitStrategy(first, second).waitUntilReady(target))
+            .isInstanceOf(ContainerLaunchException.class)
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    public void failedStrategyDoesNotPreventSuccess() {
+        final StubStrategy failing = new StubStrategy(new IllegalStateException("no log message"), false);
+        final StubStrategy succeeding = new StubStrategy(null, false);
+        final FirstReadyWaitStrategy strategy = new FirstReadyWaitStrategy(failing, succeeding);
+
+        strategy.waitUntilReady(target);
+
+        assertThat(strategy.getWinner()).isSameAs(succeeding);
+    }
+
+    @Test
+    public void startupTimeoutIsPropagated() {
+        final StubStrategy first = new StubStrategy(null, false);
+        final StubStrategy second = new StubStrategy(null, false);
+
+        new FirstReadyWaitStrategy(first, second).withStartupTimeout(Duration.ofSeconds(42));
+
+        assertThat(first.startupTimeout).isEqualTo(Duration.ofSeconds(42));
+        assertThat(second.startupTimeout).isEqualTo(Duration.ofSeconds(42));
+    }
+
+    /**
+     * Strategy that succeeds, fails or blocks until it is interrupted
+     */
+    private static final class StubStrategy implements WaitStrategy {
+
+        private final RuntimeException failure;
+
+        private final boolean block;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        private final CountDownLatch after;
+
+        private volatile Duration startupTimeout;
+
+        private StubStrategy(RuntimeException failure, boolean block) {
+            this(failure, block, new CountDownLatch(0));
+        }
+
+        private StubStrategy(RuntimeException failure, boolean block, CountDownLatch after) {
+            this.failure = failure;
+            this.block = block;
+            this.after = after;
+        }
+
+        @Override
+        public void waitUntilReady(WaitStrategyTarget waitStrategyTarget) {
+            started.countDown();
+            try {
+                after.await();
+                if (block) {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                }
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new ContainerLaunchException("interrupted", e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public WaitStrategy withStartupTimeout(Duration startupTimeout) {
+            this.startupTimeout = startupTimeout;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.SQLiteContainer;
+import com.coyotesong.testcontainers.containers.jdbc.LoadResult;
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Seeding a table: one INSERT per row in auto-commit mode vs. the container's bulk loader.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BulkLoadBenchmark {
+
+    private static final List<String> COLUMNS = Arrays.asList("id", "name", "amount");
+
+    @Param({ "H2", "SQLite" })
+    private String database;
+
+    @Param({ "10000" })
+    private int rowCount;
+
+    private Path directory;
+
+    private JdbcDatabaseContainer<?> container;
+
+    private JdbcDatabaseContainerMatcher<?> matcher;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("bulk-load-benchmark");
+        if ("H2".equals(database)) {
+            final H2Container<?> h2 = new H2Container<>().withDatabaseName(directory.resolve("bench").toString());
+            container = h2;
+            matcher = h2;
+        } else {
+            final SQLiteContainer<?> sqlite = new SQLiteContainer<>()
+                .withDatabaseName(directory.resolve("bench.db").toString());
+            container = sqlite;
+            matcher = sqlite;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createTable() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS SEED");
+            stmt.execute("CREATE TABLE SEED (id INTEGER PRIMARY KEY, name VARCHAR(40), amount DOUBLE)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        matcher.releaseMatcherResources();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int singleInserts() throws SQLException {
+        try (
+            Connection conn = container.createConnection("");
+            PreparedStatement stmt = conn.prepareStatement("INSERT INTO SEED (id, name, amount) VALUES (?, ?, ?)")
+        ) {
+            for (int i = 0; i < rowCount; i++) {
+                stmt.setInt(1, i);
+                stmt.setString(2, "name-" + i);
+                stmt.setDouble(3, i * 0.5);
+                stmt.executeUpdate();
+            }
+        }
+        return rowCount;
+    }
+
+    @Benchmark
+    public long bulkLoad() throws SQLException {
+        final LoadResult result = matcher.bulkLoad(
+            "SEED",
+            COLUMNS,
+            IntStream.range(0, rowCount).mapToObj(i -> new Object[] { i, "name-" + i, i * 0.5 })
+        );
+        return result.getRowCount();
+    }
+}
@@ -0,0 +1,98 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.SQLiteContainer;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.matchers.DropTableIfExistsMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * DropTableIfExistsMatcher latency when many tables match, one statement per table
+ * vs. a batched (multi-table or JDBC batch) DROP.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class DropTablesBenchmark {
+
+    private static final String TABLE_PREFIX = "DROP_";
+
+    @Param({ "H2", "SQLite" })
+    private String database;
+
+    @Param({ "DEFAULT", "BATCHED" })
+    private String mode;
+
+    @Param({ "100" })
+    private int tableCount;
+
+    private Path directory;
+
+    private JdbcDatabaseContainer<?> container;
+
+    private DropTableIfExistsMatcher<?> dropTables;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("drop-tables-benchmark");
+        final DropOptions options = "BATCHED".equals(mode) ? DropOptions.BATCHED : DropOptions.DEFAULT;
+        if ("H2".equals(database)) {
+            final H2Container<?> h2 = new H2Container<>().withDatabaseName(directory.resolve("bench").toString());
+            container = h2;
+            dropTables = (DropTableIfExistsMatcher<?>) h2.dropTableifExists(null, null, TABLE_PREFIX + "%", options);
+        } else {
+            final SQLiteContainer<?> sqlite = new SQLiteContainer<>()
+                .withDatabaseName(directory.resolve("bench.db").toString());
+            container = sqlite;
+            dropTables = (DropTableIfExistsMatcher<?>) sqlite.dropTableifExists(null, null, TABLE_PREFIX + "%", options);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createTables() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS " + TABLE_PREFIX + i + " (id INTEGER PRIMARY KEY)");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public boolean dropTables() {
+        return dropTables.matchesSafely(null);
+    }
+}
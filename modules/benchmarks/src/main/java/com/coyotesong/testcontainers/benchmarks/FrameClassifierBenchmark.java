@@ -0,0 +1,111 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.output.FrameClassifier;
+import com.coyotesong.testcontainers.containers.output.FrameClassifiers;
+import com.coyotesong.testcontainers.containers.output.MultiPatternMatcher;
+import com.coyotesong.testcontainers.containers.output.PatternFrameClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Noise classification: the original String.contains() scans vs. the precompiled automaton.
+ * <p>
+ * The 'default' rule set is the original four markers. The 'extended' rule set adds the
+ * vertica.log and HANA trace markers to show how each approach scales with the number of markers.
+ * The 'classifier' benchmark is PatternFrameClassifier, which picks contains() scans for small
+ * marker sets and the automaton otherwise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameClassifierBenchmark {
+
+    private static final int FRAME_COUNT = 4096;
+
+    private static final String[] EXTENDED_MARKERS = {
+        " <INFO> ",
+        " <DEBUG> ",
+        " <LOG> ",
+        " <NOTICE> ",
+        " d Basis ",
+        " i Basis ",
+        " i Service_",
+        " i Memory ",
+    };
+
+    @Param({ "80", "256", "4096" })
+    private int lineLength;
+
+    @Param({ "default", "extended" })
+    private String rules;
+
+    private FrameClassifier classifier;
+
+    private MultiPatternMatcher matcher;
+
+    private String[] markers;
+
+    private OutputFrame[] frames;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        PatternFrameClassifier patterns = FrameClassifiers.DEFAULT;
+        if ("extended".equals(rules)) {
+            patterns = patterns.withMarkers(EXTENDED_MARKERS);
+        }
+        classifier = patterns;
+        matcher = MultiPatternMatcher.compile(patterns.getMarkers());
+        markers = patterns.getMarkers().toArray(new String[0]);
+        frames = SyntheticFrames.generate(FRAME_COUNT, lineLength, 42L);
+    }
+
+    /**
+     * The classification performed by SelectiveLogConsumer before the classifier was introduced:
+     * decode the frame, then a non-short-circuit String.contains() per marker.
+     *
+     * @return 'true' if the frame is noise
+     */
+    @Benchmark
+    public boolean legacyContains() {
+        final OutputFrame frame = frames[index];
+        index = (index + 1) & (FRAME_COUNT - 1);
+        final String s = frame.getUtf8StringWithoutLineEnding();
+        boolean noise = false;
+        for (String marker : markers) {
+            noise |= s.contains(marker);
+        }
+        return noise;
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        final OutputFrame frame = frames[index];
+        index = (index + 1) & (FRAME_COUNT - 1);
+        final byte[] bytes = frame.getBytes();
+        return matcher.containsAny(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public boolean classifier() {
+        final OutputFrame frame = frames[index];
+        index = (index + 1) & (FRAME_COUNT - 1);
+        return classifier.isNoise(frame);
+    }
+}
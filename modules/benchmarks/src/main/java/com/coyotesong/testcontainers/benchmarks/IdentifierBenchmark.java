@@ -0,0 +1,119 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.Identifiers;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog listing: interned TableNames with cached qualified names vs. a new TableName and
+ * StringBuilder per row, and the char-level quote parser vs. the regex it replaced.
+ * <p>
+ * The catalog rows are generated up front so only the per-row handling is measured. The
+ * dialect comes from an in-process H2 database. Run with '-prof gc' to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    private static final String[] IDENTIFIERS = {
+        "ORDERS",
+        "orders",
+        "\"Orders\"",
+        "\"Order\"\"Lines\"",
+        "\"a\".\"b\"",
+        "BENCH\\_%",
+    };
+
+    @Param({ "100000" })
+    private int tableCount;
+
+    private H2Container<?> container;
+
+    private Dialect dialect;
+
+    private String[][] rows;
+
+    @Setup
+    public void setup() throws SQLException {
+        container = new H2Container<>().withDatabaseName("mem:identifiers;DB_CLOSE_DELAY=-1").withInProcessMode();
+        container.start();
+        dialect = container.getDialect();
+
+        // 100 schemas, in catalog order. One in ten names needs quoting.
+        rows = new String[tableCount][];
+        for (int i = 0; i < tableCount; i++) {
+            final String table = (i % 10 == 0) ? ("Bench_" + i) : ("BENCH_" + i);
+            rows[i] = new String[] { "IDENTIFIERS", "SCHEMA_" + (i * 100L / tableCount), table };
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.stop();
+    }
+
+    @Benchmark
+    public void listInterned(Blackhole blackhole) {
+        final Identifiers identifiers = dialect.getIdentifiers();
+        for (String[] row : rows) {
+            blackhole.consume(identifiers.intern(row[0], row[1], row[2]).getQualifiedName(dialect));
+        }
+    }
+
+    @Benchmark
+    public void listStringBuilder(Blackhole blackhole) {
+        for (String[] row : rows) {
+            final TableName table = new TableName(row[0], row[1], row[2]);
+            final StringBuilder sb = new StringBuilder();
+            if (table.getCatalogName() != null && !table.getCatalogName().trim().isEmpty()) {
+                sb.append(table.getCatalogName()).append('.');
+            }
+            if (table.getSchemaName() != null && !table.getSchemaName().trim().isEmpty()) {
+                sb.append(table.getSchemaName()).append('.');
+            }
+            blackhole.consume(sb.append(table.getTableName()).toString());
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void normalize(Blackhole blackhole) {
+        final Identifiers identifiers = dialect.getIdentifiers();
+        for (String identifier : IDENTIFIERS) {
+            blackhole.consume(identifiers.normalize(identifier));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void normalizeRegex(Blackhole blackhole) {
+        for (String identifier : IDENTIFIERS) {
+            if (identifier.matches("(\"|'|`).*(\"|'|`)")) {
+                blackhole.consume(identifier.substring(1, identifier.length() - 1));
+            } else {
+                blackhole.consume(identifier);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.SQLiteContainer;
+import com.coyotesong.testcontainers.containers.matchers.DropTableIfExistsMatcher;
+import com.coyotesong.testcontainers.containers.matchers.TableExistsMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * TableExistsMatcher and DropTableIfExistsMatcher latency against embedded databases.
+ * <p>
+ * The H2 and SQLite containers connect to an embedded database so no docker daemon is required.
+ * File-based databases are used since every connection to an anonymous in-memory database
+ * sees a different, empty database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcMatcherBenchmark {
+
+    private static final String TABLE_PREFIX = "BENCH_";
+
+    @Param({ "H2", "SQLite" })
+    private String database;
+
+    @Param({ "10", "1000" })
+    private int tableCount;
+
+    private Path directory;
+
+    private JdbcDatabaseContainer<?> container;
+
+    private TableExistsMatcher<?> tableExists;
+
+    private DropTableIfExistsMatcher<?> dropTable;
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        directory = Files.createTempDirectory("jdbc-matcher-benchmark");
+        if ("H2".equals(database)) {
+            final H2Container<?> h2 = new H2Container<>().withDatabaseName(directory.resolve("bench").toString());
+            container = h2;
+            tableExists = (TableExistsMatcher<?>) h2.tableExists(null, null, TABLE_PREFIX + "0");
+            dropTable = (DropTableIfExistsMatcher<?>) h2.dropTableifExists(null, null, "DROPPED");
+        } else {
+            final SQLiteContainer<?> sqlite = new SQLiteContainer<>()
+                .withDatabaseName(directory.resolve("bench.db").toString());
+            container = sqlite;
+            tableExists = (TableExistsMatcher<?>) sqlite.tableExists(null, null, TABLE_PREFIX + "0");
+            dropTable = (DropTableIfExistsMatcher<?>) sqlite.dropTableifExists(null, null, "DROPPED");
+        }
+
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                stmt.execute("CREATE TABLE " + TABLE_PREFIX + i + " (id INTEGER PRIMARY KEY, name VARCHAR(40))");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public boolean tableExists() {
+        return tableExists.matchesSafely(null);
+    }
+
+    @Benchmark
+    public boolean dropTableIfExists(DroppedTable table) {
+        return dropTable.matchesSafely(null);
+    }
+
+    /**
+     * Recreates the table dropped by the dropTableIfExists benchmark.
+     */
+    @State(Scope.Thread)
+    public static class DroppedTable {
+
+        @Setup(Level.Invocation)
+        public void create(JdbcMatcherBenchmark benchmark) throws SQLException {
+            try (
+                Connection conn = benchmark.container.createConnection("");
+                Statement stmt = conn.createStatement()
+            ) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS DROPPED (id INTEGER PRIMARY KEY)");
+            }
+        }
+    }
+}
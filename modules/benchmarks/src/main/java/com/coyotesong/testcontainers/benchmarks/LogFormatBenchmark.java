@@ -0,0 +1,135 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.output.LogEvent;
+import com.coyotesong.testcontainers.containers.output.LogFormat;
+import com.coyotesong.testcontainers.containers.output.LogFormats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Structured log parsing: the byte-level LogFormats parsers vs. an equivalent precompiled regex
+ * applied to the decoded line. Run with '-prof gc' to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogFormatBenchmark {
+
+    private static final int LINE_COUNT = 1024;
+
+    private static final String[] VERTICA_SOURCES = { "Init Session:0x7f3a2c0016e0", "Spread Client:0x7f3a2c0016e0 [Comms]" };
+
+    private static final String[] LEVELS = { "INFO", "DEBUG", "LOG", "WARNING" };
+
+    private static final Pattern GENERIC_REGEX = Pattern.compile(
+        "(\\d{4}-\\d\\d-\\d\\d[ T]\\d\\d:\\d\\d:\\d\\d(?:[.,]\\d+)?(?:Z|[+-]\\d\\d:?\\d\\d)?(?: [A-Z]{1,5})?)" +
+        "\\s+(?:\\[([^\\]]*)\\]:?\\s+)?\\[?(\\w+)\\]?:?\\s+(.*)\\s*"
+    );
+
+    private static final Pattern VERTICA_REGEX = Pattern.compile(
+        "(\\d{4}-\\d\\d-\\d\\d \\d\\d:\\d\\d:\\d\\d(?:\\.\\d+)?) ([^:\\[<]*)[^<]*<(\\w+)>\\s*(.*)\\s*"
+    );
+
+    private static final Pattern HANA_REGEX = Pattern.compile(
+        "(?:[\\[{][^\\]}]*[\\]}])*\\s*(\\d{4}-\\d\\d-\\d\\d \\d\\d:\\d\\d:\\d\\d(?:\\.\\d+)?) ([diwef]) +(\\S+)[^:]* : (.*)\\s*"
+    );
+
+    @Param({ "generic", "vertica", "hana" })
+    private String format;
+
+    @Param({ "120", "1024" })
+    private int lineLength;
+
+    private LogFormat parser;
+
+    private Pattern regex;
+
+    private final LogEvent event = new LogEvent();
+
+    private OutputFrame[] frames;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        switch (format) {
+            case "vertica":
+                parser = LogFormats.VERTICA;
+                regex = VERTICA_REGEX;
+                break;
+            case "hana":
+                parser = LogFormats.HANA;
+                regex = HANA_REGEX;
+                break;
+            default:
+                parser = LogFormats.GENERIC;
+                regex = GENERIC_REGEX;
+        }
+        frames = new OutputFrame[LINE_COUNT];
+        for (int i = 0; i < LINE_COUNT; i++) {
+            frames[i] = new OutputFrame(OutputFrame.OutputType.STDERR, line(i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String line(int n) {
+        final String timestamp = String.format("2023-09-26 10:%02d:%02d.%03d", (n / 60) % 60, n % 60, n % 1000);
+        final String level = LEVELS[n % LEVELS.length];
+        final StringBuilder sb = new StringBuilder(lineLength + 1);
+        switch (format) {
+            case "vertica":
+                sb.append(timestamp).append(' ').append(VERTICA_SOURCES[n % 2]);
+                sb.append(" <").append(level).append("> @v_vmart_node0001: 00000/3316: ");
+                break;
+            case "hana":
+                sb.append("[28]{-1}[-1/-1] ").append(timestamp).append("456 ");
+                sb.append("diwe".charAt(n % 4)).append(" Basis            TraceContext.cpp(01241) : ");
+                break;
+            default:
+                sb.append(timestamp).append(" UTC [").append(100 + n % 7).append("] ").append(level).append(":  ");
+        }
+        while (sb.length() < lineLength) {
+            sb.append("checkpoint epoch advanced for projection ");
+        }
+        sb.setLength(lineLength);
+        return sb.append('\n').toString();
+    }
+
+    @Benchmark
+    public boolean logFormat() {
+        final OutputFrame frame = frames[index];
+        index = (index + 1) & (LINE_COUNT - 1);
+        final byte[] bytes = frame.getBytes();
+        event.reset("benchmark", frame.getType(), bytes);
+        return parser.parse(bytes, 0, bytes.length, event);
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        final OutputFrame frame = frames[index];
+        index = (index + 1) & (LINE_COUNT - 1);
+        final Matcher matcher = regex.matcher(frame.getUtf8String());
+        if (matcher.matches()) {
+            blackhole.consume(matcher.group(1));
+            blackhole.consume(matcher.group(3));
+        }
+    }
+}
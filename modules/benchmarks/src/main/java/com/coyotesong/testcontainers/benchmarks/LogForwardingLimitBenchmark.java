@@ -0,0 +1,80 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.output.SelectiveLogConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SelectiveLogConsumer.accept() throughput at the ALL logging level for a container
+ * in a retry loop, i.e., long runs of the same STDERR line, with and without limits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogForwardingLimitBenchmark {
+
+    private static final int FRAME_COUNT = 4096;
+
+    private static final int RUN_LENGTH = 64;
+
+    @Param({ "NONE", "COLLAPSE", "SAMPLE", "RATE" })
+    private String limits;
+
+    private SelectiveLogConsumer consumer;
+
+    private OutputFrame[] frames;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        consumer = new SelectiveLogConsumer("benchmark", SelectiveLogConsumer.LoggingLevel.ALL);
+        switch (limits) {
+            case "COLLAPSE":
+                consumer.withDuplicateCollapsing();
+                break;
+            case "SAMPLE":
+                consumer.withSampling(OutputType.STDERR, 100);
+                break;
+            case "RATE":
+                consumer.withRateLimit(OutputType.STDERR, 100.0, 100);
+                break;
+            default:
+            // no limits
+        }
+
+        // each frame is a separate array, as delivered by docker-java
+        frames = new OutputFrame[FRAME_COUNT];
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            final String line = SyntheticFrames.line(
+                i / RUN_LENGTH,
+                " FATAL: could not connect to server: Connection refused, retrying ",
+                120
+            );
+            frames[i] = new OutputFrame(OutputType.STDERR, line.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void accept() {
+        consumer.accept(frames[index]);
+        index = (index + 1) & (FRAME_COUNT - 1);
+    }
+}
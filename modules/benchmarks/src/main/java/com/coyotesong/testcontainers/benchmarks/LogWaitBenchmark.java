@@ -0,0 +1,130 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.wait.LogMarkerSequence;
+import com.coyotesong.testcontainers.containers.wait.StreamingLogWaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness detection over a complete boot log: the LogMessageWaitStrategy predicate vs.
+ * the StreamingLogWaitStrategy marker sequence.
+ * <p>
+ * The boot logs are synthesized to resemble Vertica and HANA startup output. The readiness
+ * marker is on the last line so every frame is examined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogWaitBenchmark {
+
+    private static final String[] VERTICA_LINES = {
+        " Init Session:0x7f3a2c0016e0 <INFO> @v_vmart_node0001: 00000/3316: Catalog replicated to node ",
+        " Main Thread:0x7f3a2c0016e0 <LOG> @v_vmart_node0001: 00000/2705: Loading projection storage for ",
+        " Spread Client:0x7f3a2c0016e0 [Comms] <INFO> Saw membership message 8192 on V:vmart epoch ",
+        " DistCall Dispatcher:0x7f3a2c0016e0 [Recover] <INFO> Recovery checkpoint advanced for table ",
+    };
+
+    private static final String[] HANA_LINES = {
+        " i Basis            TraceContext.cpp(01241) : UTC difference=0, version=1, host=hxehost, pid=",
+        " i Service_Startup  SmFastRestart.cc(00643) : Loading persistence segment for volume id ",
+        " i Memory           AllocatorImpl.cpp(00792) : Allocation limit set for composite allocator ",
+        " w Logger           PersistenceManagerImpl.cpp(02131) : log segment backup is disabled for ",
+    };
+
+    @Param({ "Vertica", "HANA" })
+    private String database;
+
+    @Param({ "120", "2048" })
+    private int lineLength;
+
+    @Param({ "4" })
+    private int megabytes;
+
+    private String regex;
+
+    private StreamingLogWaitStrategy strategy;
+
+    private OutputFrame[] frames;
+
+    @Setup
+    public void setup() {
+        final boolean vertica = "Vertica".equals(database);
+        final String marker = vertica ? "Vertica is now running" : "Startup finished!";
+        regex = vertica ? ".*Vertica is now running.*\\s" : ".*Startup finished!.*\\s";
+        strategy = new StreamingLogWaitStrategy().withMarker(marker);
+
+        final String[] templates = vertica ? VERTICA_LINES : HANA_LINES;
+        final Random random = new Random(42L);
+        final List<OutputFrame> list = new ArrayList<>();
+        long size = 0;
+        int n = 0;
+        while (size < megabytes * 1024L * 1024L) {
+            final String line = line(n++, templates[random.nextInt(templates.length)], random);
+            list.add(new OutputFrame(OutputFrame.OutputType.STDOUT, line.getBytes(StandardCharsets.UTF_8)));
+            size += line.length();
+        }
+        list.add(
+            new OutputFrame(
+                OutputFrame.OutputType.STDOUT,
+                line(n, " " + marker + " ", random).getBytes(StandardCharsets.UTF_8)
+            )
+        );
+        frames = list.toArray(new OutputFrame[0]);
+    }
+
+    private String line(int n, String template, Random random) {
+        final StringBuilder sb = new StringBuilder(lineLength + 1);
+        sb.append(String.format("2023-09-26 10:%02d:%02d.%03d", (n / 60) % 60, n % 60, n % 1000));
+        sb.append(template);
+        while (sb.length() < lineLength) {
+            sb.append(Integer.toHexString(random.nextInt())).append(' ');
+        }
+        sb.setLength(lineLength);
+        sb.append('\n');
+        return sb.toString();
+    }
+
+    /**
+     * The predicate used by LogMessageWaitStrategy
+     */
+    @Benchmark
+    public int logMessageWaitStrategy() {
+        for (int i = 0; i < frames.length; i++) {
+            if (frames[i].getUtf8String().matches("(?s)" + regex)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int streamingLogWaitStrategy() {
+        final LogMarkerSequence sequence = strategy.newSequence();
+        for (int i = 0; i < frames.length; i++) {
+            sequence.accept(frames[i]);
+            if (sequence.isComplete()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
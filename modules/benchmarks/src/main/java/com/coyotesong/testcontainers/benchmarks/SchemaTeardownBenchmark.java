@@ -0,0 +1,113 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.SQLiteContainer;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time required to drop a generated schema with 1k+ tables. Every table except the
+ * first references its parent in a binary tree so the tables must be dropped leaves-first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaTeardownBenchmark {
+
+    private static final String TABLE_PREFIX = "TREE_";
+
+    @Param({ "H2", "SQLite" })
+    private String database;
+
+    @Param({ "1000", "2000" })
+    private int tableCount;
+
+    @Param({ "1", "4" })
+    private int parallelism;
+
+    private Path directory;
+
+    private JdbcDatabaseContainer<?> container;
+
+    private JdbcDatabaseContainerMatcher<?> matcher;
+
+    private Matcher<Void> schemaIsEmpty;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("schema-teardown-benchmark");
+        if ("H2".equals(database)) {
+            final H2Container<?> h2 = new H2Container<>().withDatabaseName(directory.resolve("bench").toString());
+            container = h2;
+            matcher = h2;
+        } else {
+            final SQLiteContainer<?> sqlite = new SQLiteContainer<>()
+                .withDatabaseName(directory.resolve("bench.db").toString());
+            container = sqlite;
+            matcher = sqlite;
+        }
+        matcher.withConnectionPoolSettings(
+            ConnectionPoolSettings.DEFAULT.withSize(0, parallelism).withLeaseTimeout(Duration.ofMinutes(1))
+        );
+        schemaIsEmpty = matcher.schemaIsEmptyAfterDrop(null, "H2".equals(database) ? "PUBLIC" : null, parallelism, DropOptions.BATCHED);
+    }
+
+    @Setup(Level.Invocation)
+    public void createTables() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < tableCount; i++) {
+                final String parent = (i == 0) ? "" : ", parent INTEGER REFERENCES " + TABLE_PREFIX + ((i - 1) / 2) + "(id)";
+                stmt.execute("CREATE TABLE " + TABLE_PREFIX + i + " (id INTEGER PRIMARY KEY" + parent + ")");
+            }
+            conn.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        matcher.releaseMatcherResources();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public boolean schemaIsEmptyAfterDrop() {
+        if (!schemaIsEmpty.matches(null)) {
+            throw new IllegalStateException("tables remain after drop");
+        }
+        return true;
+    }
+}
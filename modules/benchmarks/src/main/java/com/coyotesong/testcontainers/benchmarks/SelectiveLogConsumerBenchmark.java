@@ -0,0 +1,55 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.output.SelectiveLogConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SelectiveLogConsumer.accept() throughput per logging level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectiveLogConsumerBenchmark {
+
+    private static final int FRAME_COUNT = 4096;
+
+    @Param({ "ALL", "SOME", "NONE" })
+    private SelectiveLogConsumer.LoggingLevel level;
+
+    @Param({ "80", "256", "4096" })
+    private int lineLength;
+
+    private SelectiveLogConsumer consumer;
+
+    private OutputFrame[] frames;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        consumer = new SelectiveLogConsumer("benchmark", level);
+        frames = SyntheticFrames.generate(FRAME_COUNT, lineLength, 42L);
+    }
+
+    @Benchmark
+    public void accept() {
+        consumer.accept(frames[index]);
+        index = (index + 1) & (FRAME_COUNT - 1);
+    }
+}
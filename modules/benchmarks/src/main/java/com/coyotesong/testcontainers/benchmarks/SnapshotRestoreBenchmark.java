@@ -0,0 +1,146 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.H2Container;
+import com.coyotesong.testcontainers.containers.SQLiteContainer;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time required to return a modified database to its baseline state: restoring a
+ * snapshot vs. dropping the tables and rerunning the DDL and seed data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class SnapshotRestoreBenchmark {
+
+    private static final String TABLE_PREFIX = "SEED_";
+
+    private static final String SNAPSHOT = "baseline";
+
+    @Param({ "H2", "SQLite" })
+    private String database;
+
+    @Param({ "20" })
+    private int tableCount;
+
+    @Param({ "10", "1000" })
+    private int rowCount;
+
+    private Path directory;
+
+    private JdbcDatabaseContainer<?> container;
+
+    private JdbcDatabaseContainerMatcher<?> matcher;
+
+    private Matcher<Void> dropTables;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException {
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        if ("H2".equals(database)) {
+            final H2Container<?> h2 = new H2Container<>().withDatabaseName(directory.resolve("bench").toString());
+            container = h2;
+            matcher = h2;
+        } else {
+            final SQLiteContainer<?> sqlite = new SQLiteContainer<>()
+                .withDatabaseName(directory.resolve("bench.db").toString());
+            container = sqlite;
+            matcher = sqlite;
+        }
+        dropTables = matcher.dropTableifExists(null, null, TABLE_PREFIX + "%", DropOptions.BATCHED);
+
+        seed();
+        matcher.takeSnapshot(SNAPSHOT);
+    }
+
+    @Setup(Level.Invocation)
+    public void modify() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                stmt.execute("DELETE FROM " + TABLE_PREFIX + i + " WHERE id % 2 = 0");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        matcher.releaseMatcherResources();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void restoreSnapshot() throws SQLException {
+        matcher.restoreSnapshot(SNAPSHOT);
+    }
+
+    @Benchmark
+    public void dropAndRecreate() throws SQLException {
+        dropTables.matches(null);
+        seed();
+    }
+
+    /**
+     * Create and populate the tables
+     */
+    private void seed() throws SQLException {
+        try (Connection conn = container.createConnection("")) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                for (int i = 0; i < tableCount; i++) {
+                    stmt.execute(
+                        "CREATE TABLE " + TABLE_PREFIX + i + " (id INTEGER PRIMARY KEY, name VARCHAR(40), amount DOUBLE)"
+                    );
+                }
+            }
+            for (int i = 0; i < tableCount; i++) {
+                try (
+                    PreparedStatement stmt = conn.prepareStatement(
+                        "INSERT INTO " + TABLE_PREFIX + i + " (id, name, amount) VALUES (?, ?, ?)"
+                    )
+                ) {
+                    for (int id = 0; id < rowCount; id++) {
+                        stmt.setInt(1, id);
+                        stmt.setString(2, "name-" + id);
+                        stmt.setDouble(3, id * 0.5);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            conn.commit();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import com.coyotesong.testcontainers.containers.output.SelectiveLogConsumer;
+import com.coyotesong.testcontainers.containers.output.SpillFileLogConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.ToStringConsumer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cost of capturing the full container log alongside SelectiveLogConsumer at the
+ * SOME logging level: in heap (ToStringConsumer) vs memory-mapped spill files.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpillFileLogConsumerBenchmark {
+
+    private static final int FRAME_COUNT = 4096;
+
+    @Param({ "NONE", "TO_STRING", "SPILL_FILE" })
+    private String capture;
+
+    @Param({ "256" })
+    private int lineLength;
+
+    private Path directory;
+
+    private SpillFileLogConsumer spill;
+
+    private ToStringConsumer toString;
+
+    private Consumer<OutputFrame> consumer;
+
+    private OutputFrame[] frames;
+
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        final SelectiveLogConsumer selective = new SelectiveLogConsumer("benchmark", SelectiveLogConsumer.LoggingLevel.SOME);
+        switch (capture) {
+            case "TO_STRING":
+                toString = new ToStringConsumer();
+                consumer = selective.withCapture(toString);
+                break;
+            case "SPILL_FILE":
+                directory = Files.createTempDirectory("spill");
+                spill = new SpillFileLogConsumer(directory, "benchmark").withMaxSegments(4).withDeleteOnClose(true);
+                consumer = selective.withCapture(spill);
+                break;
+            default:
+                consumer = selective;
+        }
+        frames = SyntheticFrames.generate(FRAME_COUNT, lineLength, 42L);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (spill != null) {
+            spill.close();
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Benchmark
+    public void accept() {
+        consumer.accept(frames[index]);
+        index = (index + 1) & (FRAME_COUNT - 1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.coyotesong.testcontainers.benchmarks;
+
+import org.testcontainers.containers.output.OutputFrame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Synthetic container log streams.
+ * <p>
+ * The streams mix STDOUT and STDERR frames roughly the way a database container does
+ * during startup: most output is on STDOUT and about half of the STDERR frames are
+ * embedded DEBUG/INFO/NOTICE statements.
+ */
+final class SyntheticFrames {
+
+    private static final String[] NOISE = { ": DEBUG:  ", ": NOTICE:  ", ": INFO:  ", " LOG: " };
+
+    private static final String FILLER =
+        "Vertica is now running catalog node v_vmart_node0001 startup recovery checkpoint epoch ";
+
+    private SyntheticFrames() {}
+
+    /**
+     * Generate frames
+     *
+     * @param count number of frames
+     * @param lineLength approximate length of each line, in bytes
+     * @param seed random seed
+     * @return frames
+     */
+    static OutputFrame[] generate(int count, int lineLength, long seed) {
+        final Random random = new Random(seed);
+        final OutputFrame[] frames = new OutputFrame[count];
+        for (int i = 0; i < count; i++) {
+            final boolean stderr = random.nextInt(10) < 3;
+            final String marker = (stderr && random.nextBoolean()) ? NOISE[random.nextInt(NOISE.length)] : " ";
+            frames[i] = new OutputFrame(
+                stderr ? OutputFrame.OutputType.STDERR : OutputFrame.OutputType.STDOUT,
+                line(i, marker, lineLength).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return frames;
+    }
+
+    /**
+     * Generate log line
+     *
+     * @param n line number
+     * @param marker text inserted after the timestamp
+     * @param lineLength approximate length of the line
+     * @return log line, with line ending
+     */
+    static String line(int n, String marker, int lineLength) {
+        final StringBuilder sb = new StringBuilder(lineLength + 1);
+        sb.append(String.format("2023-09-26 10:%02d:%02d.%03d UTC [%d]", (n / 60) % 60, n % 60, n % 1000, 100 + n % 7));
+        sb.append(marker);
+        while (sb.length() < lineLength) {
+            sb.append(FILLER, 0, Math.min(FILLER.length(), lineLength - sb.length()));
+        }
+        sb.append('\n');
+        return sb.toString();
+    }
+}
@@ -1,13 +1,19 @@
 package com.coyotesong.testcontainers.containers;
 
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.EmbeddedJdbcDatabaseContainer;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.util.Properties;
 
@@ -34,12 +40,14 @@ import java.util.Properties;
  * Important: the default H2 JDBC driver registers as a JDBC driver for multiple databases.
  * This is not a problem when the software uses an explicit classname but it's why the
  * code is organized so it can use a separate classloader if necessary.
+ * The isolated driver can't load classes from the test classpath, e.g., Java user-defined
+ * functions, and its connections can't be cast to H2's own classes, so it is not isolated
+ * by default.
  *
  * @param <SELF> this class
  */
 public class H2Container<SELF extends H2Container<SELF>>
-    extends org.testcontainers.containers.JdbcDatabaseContainer<SELF>
-    implements com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher<SELF> {
+    extends EmbeddedJdbcDatabaseContainer<SELF> {
 
     private static final Logger LOG = LoggerFactory.getLogger(H2Container.class);
 
@@ -84,7 +92,7 @@ public class H2Container<SELF extends H2Container<SELF>>
      * @param dockerImageName image name
      */
     public H2Container(final DockerImageName dockerImageName) {
-        super(dockerImageName);
+        super(dockerImageName, NAME);
         dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME);
 
         this.waitStrategy = new LogMessageWaitStrategy().withStartupTimeout(Duration.ofMinutes(2));
@@ -101,7 +109,7 @@ public class H2Container<SELF extends H2Container<SELF>>
     @Override
     public String getJdbcUrl() {
         if (inMemoryDatabase) {
-            return "jdbc:h2:mem:";
+            return "jdbc:h2:mem:" + getInMemoryDatabaseName() + ";DB_CLOSE_DELAY=-1";
         }
         return "jdbc:h2:" + getDatabaseName();
     }
@@ -113,6 +121,14 @@ public class H2Container<SELF extends H2Container<SELF>>
         final String url = getJdbcUrl();
         LOG.info("driver: {}, url: {}", d.getClass().getName(), url);
 
+        // same credentials as the test query - H2 checks them when the database already exists
+        if (!info.containsKey("user") && getUsername() != null) {
+            info.put("user", getUsername());
+        }
+        if (!info.containsKey("password") && getPassword() != null) {
+            info.put("password", getPassword());
+        }
+
         return d.connect(url, info);
     }
 
@@ -141,6 +157,7 @@ public class H2Container<SELF extends H2Container<SELF>>
      *
      * @return 'true' if this is an in-memory database
      */
+    @Override
     public boolean isInMemoryDatabase() {
         return inMemoryDatabase;
     }
@@ -183,7 +200,26 @@ public class H2Container<SELF extends H2Container<SELF>>
     }
 
     @Override
-    protected void waitUntilContainerStarted() {
-        getWaitStrategy().waitUntilReady(this);
+    public SnapshotStrategy getDefaultSnapshotStrategy() {
+        return new H2SnapshotStrategy();
+    }
+
+    @Override
+    public RowCountStrategy getRowCountStrategy() {
+        return new H2RowCountStrategy();
+    }
+
+    @Override
+    public Dialect createDialect(DatabaseMetaData metadata) throws SQLException {
+        return new H2Dialect(metadata);
+    }
+
+
+    @Override
+    protected void closeInMemoryDatabase(Connection anchor) throws SQLException {
+        // DB_CLOSE_DELAY=-1 keeps the database after its last connection is closed
+        try (Connection conn = anchor; Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * H2 dialect
+ * <p>
+ * H2 accepts 'DROP TABLE IF EXISTS a, b, c CASCADE'.
+ */
+public class H2Dialect extends Dialect {
+
+    /**
+     * Constructor
+     *
+     * @param metadata database metadata
+     * @throws SQLException unable to read metadata
+     */
+    public H2Dialect(DatabaseMetaData metadata) throws SQLException {
+        super(metadata);
+    }
+
+    @Override
+    public boolean supportsMultiTableDrop() {
+        return true;
+    }
+}
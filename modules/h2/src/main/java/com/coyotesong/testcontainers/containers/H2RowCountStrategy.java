@@ -0,0 +1,28 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.StatisticsRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+
+/**
+ * H2 row count estimate from INFORMATION_SCHEMA.TABLES.ROW_COUNT_ESTIMATE
+ * <p>
+ * H2 maintains the estimate as rows are inserted and deleted so it does not
+ * require ANALYZE.
+ */
+public class H2RowCountStrategy extends StatisticsRowCountStrategy {
+
+    private static final String QUERY =
+        "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+        "WHERE TABLE_SCHEMA = COALESCE(?, CURRENT_SCHEMA) AND TABLE_NAME = ?";
+
+    @Override
+    protected String getQuery(TableName table, Dialect dialect) {
+        return QUERY;
+    }
+
+    @Override
+    protected String getSource() {
+        return "INFORMATION_SCHEMA.TABLES";
+    }
+}
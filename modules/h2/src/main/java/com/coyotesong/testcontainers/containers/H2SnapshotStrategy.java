@@ -0,0 +1,67 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStrategy;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * H2 snapshots
+ * <p>
+ * The snapshot is a SQL script written by 'SCRIPT TO'. It is restored by dropping
+ * every object and running the script with 'RUNSCRIPT FROM'.
+ * <p>
+ * The script must be parsed when it is restored so this is most effective when
+ * the baseline is dominated by DDL rather than by large volumes of seed data.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://www.h2database.com/html/commands.html#script
+ * - https://www.h2database.com/html/commands.html#runscript
+ */
+public class H2SnapshotStrategy implements SnapshotStrategy {
+
+    private final boolean compressed;
+
+    /**
+     * Default constructor
+     */
+    public H2SnapshotStrategy() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param compressed if true then the script is compressed. This is slower
+     *                   but requires less disk space for large seed data.
+     */
+    public H2SnapshotStrategy(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public void snapshot(Connection conn, Path file) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SCRIPT TO " + literal(file) + compression());
+        }
+    }
+
+    @Override
+    public void restore(Connection conn, Path file) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+            stmt.execute("RUNSCRIPT FROM " + literal(file) + compression());
+        }
+    }
+
+    private String compression() {
+        return compressed ? " COMPRESSION DEFLATE" : "";
+    }
+
+    private static String literal(Path file) {
+        return "'" + file.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,58 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPool;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPools;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolsTest {
+
+    @Test
+    public void settingsAreDiscardedWhenContainerIsStopped() {
+        final ConnectionPoolSettings settings = ConnectionPoolSettings.DEFAULT.withSize(1, 3);
+        final H2Container<?> container = new H2Container<>()
+            .withDatabaseName("mem:pools_settings;DB_CLOSE_DELAY=-1")
+            .withInProcessMode()
+            .withConnectionPoolSettings(settings);
+        container.start();
+        try {
+            assertThat(container.getConnectionPool().getSettings()).isSameAs(settings);
+        } finally {
+            container.stop();
+        }
+        assertThat(ConnectionPools.getSettings(container)).isSameAs(ConnectionPoolSettings.DEFAULT);
+    }
+
+    @Test
+    public void concurrentCallersShareOnePool() throws Exception {
+        final H2Container<?> container = new H2Container<>()
+            .withDatabaseName("mem:pools_shared;DB_CLOSE_DELAY=-1")
+            .withInProcessMode()
+            .withConnectionPoolSettings(ConnectionPoolSettings.DEFAULT.withSize(4, 8));
+        container.start();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<ConnectionPool>> callers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                callers.add(container::getConnectionPool);
+            }
+            final ConnectionPool pool = container.getConnectionPool();
+            for (Future<ConnectionPool> future : executor.invokeAll(callers)) {
+                assertThat(future.get()).isSameAs(pool);
+            }
+            assertThat(pool.getIdleCount()).isEqualTo(4);
+        } finally {
+            executor.shutdown();
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.coyotesong.testcontainers.containers;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class H2CatalogCacheTest {
+
+    private H2Container<?> container;
+
+    @Before
+    public void setUp() {
+        container = new H2Container<>().withInProcessMode();
+        container.start();
+    }
+
+    @After
+    public void tearDown() {
+        container.stop();
+    }
+
+    @Test
+    public void invalidatingCacheDiscardsInternedTableNames() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t1 (id INTEGER)");
+            stmt.execute("CREATE TABLE t2 (id INTEGER)");
+        }
+        assertThat(container.tableExists(null, "PUBLIC", "T1").matches(null)).isTrue();
+        assertThat(container.getDialect().getIdentifiers().size()).isGreaterThanOrEqualTo(2);
+
+        container.invalidateCatalogCache();
+        assertThat(container.getDialect().getIdentifiers().size()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountOptions;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class H2RowCountTest {
+
+    private H2Container<?> container;
+
+    @Before
+    public void setUp() throws SQLException {
+        container = new H2Container<>().withInProcessMode();
+        container.start();
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE \"Order Items\" (id INTEGER)");
+            stmt.execute("INSERT INTO \"Order Items\" VALUES (1), (2), (3)");
+            stmt.execute("CREATE TABLE \"ORDER\" (id INTEGER)");
+            stmt.execute("INSERT INTO \"ORDER\" VALUES (1)");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        container.stop();
+    }
+
+    @Test
+    public void exactCountQuotesTableName() {
+        assertThat(
+            container.rowCountIsBetween(null, null, "\"Order Items\"", 3L, 3L, RowCountOptions.EXACT).matches(null)
+        ).isTrue();
+    }
+
+    @Test
+    public void estimateFallbackQuotesTableName() {
+        // the statistics query fails, so the rows are counted
+        final RowCountOptions options = RowCountOptions.ESTIMATE.withStrategy(new H2RowCountStrategy() {
+            @Override
+            protected String getQuery(TableName table, Dialect dialect) {
+                return "SELECT NO_SUCH_COLUMN FROM INFORMATION_SCHEMA.TABLES WHERE ? IS NULL AND ? IS NULL";
+            }
+        });
+        assertThat(container.rowCountIsBetween(null, null, "\"Order Items\"", 3L, 3L, options).matches(null)).isTrue();
+    }
+
+    @Test
+    public void reservedWordIsQuoted() throws SQLException {
+        assertThat(container.getDialect().quoteIfNeeded("ORDER")).isEqualTo("\"ORDER\"");
+        assertThat(container.rowCountIsBetween(null, null, "\"ORDER\"", 1L, 1L, RowCountOptions.EXACT).matches(null)).isTrue();
+    }
+}
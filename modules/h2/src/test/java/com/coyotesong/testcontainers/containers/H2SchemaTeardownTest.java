@@ -0,0 +1,63 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class H2SchemaTeardownTest {
+
+    private static final int TABLE_COUNT = 1200;
+
+    private Path directory;
+
+    private H2Container<?> container;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("h2-schema-teardown");
+        container = new H2Container<>()
+            .withDatabaseName(directory.resolve("teardown").toString())
+            .withConnectionPoolSettings(ConnectionPoolSettings.DEFAULT.withSize(0, 4));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        container.releaseMatcherResources();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void dropsTreeAndCycleWithoutCascade() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                final String parent = (i == 0) ? "" : ", parent INTEGER REFERENCES TREE_" + ((i - 1) / 2) + "(id)";
+                stmt.execute("CREATE TABLE TREE_" + i + " (id INTEGER PRIMARY KEY" + parent + ")");
+            }
+            // a reference cycle that also references the tree
+            stmt.execute("CREATE TABLE CYCLE_A (id INTEGER PRIMARY KEY, b INTEGER, tree INTEGER REFERENCES TREE_0(id))");
+            stmt.execute("CREATE TABLE CYCLE_B (id INTEGER PRIMARY KEY, a INTEGER REFERENCES CYCLE_A(id))");
+            stmt.execute("ALTER TABLE CYCLE_A ADD CONSTRAINT CYCLE_A_B FOREIGN KEY (b) REFERENCES CYCLE_B(id)");
+            stmt.execute("INSERT INTO CYCLE_A VALUES (1, NULL, NULL)");
+            stmt.execute("INSERT INTO CYCLE_B VALUES (1, 1)");
+            stmt.execute("UPDATE CYCLE_A SET b = 1");
+        }
+
+        assertThat(container.schemaIsEmptyAfterDrop(null, "PUBLIC", 4, DropOptions.BATCHED).matches(null)).isTrue();
+    }
+}
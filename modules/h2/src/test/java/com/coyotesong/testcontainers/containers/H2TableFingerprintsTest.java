@@ -0,0 +1,97 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.AggregateFingerprintStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.CompareOptions;
+import com.coyotesong.testcontainers.containers.jdbc.KeyRange;
+import com.coyotesong.testcontainers.containers.jdbc.TableFingerprint;
+import com.coyotesong.testcontainers.containers.jdbc.TableFingerprints;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class H2TableFingerprintsTest {
+
+    private H2Container<?> container;
+
+    private Connection conn;
+
+    @Before
+    public void setUp() throws SQLException {
+        container = new H2Container<>().withInProcessMode();
+        container.start();
+        conn = container.createConnection("");
+        try (Statement stmt = conn.createStatement()) {
+            for (String table : new String[] { "actual", "expected" }) {
+                stmt.execute("CREATE TABLE " + table + " (\"Key Id\" BIGINT, val VARCHAR(10))");
+                stmt.execute("INSERT INTO " + table + " VALUES (" + Long.MIN_VALUE + ", 'min'), (0, 'zero')");
+            }
+            stmt.execute("INSERT INTO actual VALUES (" + Long.MAX_VALUE + ", 'max')");
+            stmt.execute("INSERT INTO expected VALUES (" + Long.MAX_VALUE + ", 'other')");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        conn.close();
+        container.stop();
+    }
+
+    @Test
+    public void bisectionReachesLongMaxValueWithQuotedKey() throws SQLException {
+        final List<KeyRange> ranges = TableFingerprints.findMismatchedRanges(
+            conn,
+            container.getDialect(),
+            container.getFingerprintStrategy(),
+            "actual",
+            "expected",
+            "\"Key Id\"",
+            CompareOptions.UNORDERED
+        );
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getHigh()).isEqualTo(Long.MAX_VALUE);
+        assertThat(ranges.get(0).getLow()).isGreaterThan(0L);
+    }
+
+    @Test
+    public void unknownFunctionFallsBackToClient() throws SQLException {
+        final StubStrategy strategy = new StubStrategy("SUM(NO_SUCH_FUNCTION(1))");
+        final TableFingerprint fingerprint = strategy.fingerprint(conn, "actual", null, 100);
+        assertThat(strategy.isUnsupported()).isTrue();
+        assertThat(fingerprint.getRowCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void otherErrorsAreRethrown() {
+        final StubStrategy strategy = new StubStrategy("SUM(1 / 0)");
+        assertThatThrownBy(() -> strategy.fingerprint(conn, "actual", null, 100)).isInstanceOf(SQLException.class);
+        assertThat(strategy.isUnsupported()).isFalse();
+    }
+
+    private static final class StubStrategy extends AggregateFingerprintStrategy {
+
+        private final String aggregate;
+
+        private StubStrategy(String aggregate) {
+            this.aggregate = aggregate;
+        }
+
+        @Override
+        protected String getAlgorithm() {
+            return "stub";
+        }
+
+        @Override
+        protected List<String> getAggregates(List<String> columns) {
+            return Collections.singletonList(aggregate);
+        }
+    }
+}
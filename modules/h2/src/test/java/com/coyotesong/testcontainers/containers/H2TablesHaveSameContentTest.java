@@ -0,0 +1,61 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.CompareOptions;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class H2TablesHaveSameContentTest {
+
+    private H2Container<?> container;
+
+    @Before
+    public void setUp() throws SQLException {
+        // a single pooled connection, so a second lease would time out
+        container = new H2Container<>()
+            .withInProcessMode()
+            .withConnectionPoolSettings(ConnectionPoolSettings.DEFAULT.withSize(1, 1).withLeaseTimeout(Duration.ofSeconds(1)));
+        container.start();
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            for (String table : Arrays.asList("actual", "expected")) {
+                stmt.execute("CREATE TABLE " + table + " (id INTEGER, doc CLOB)");
+                stmt.execute("INSERT INTO " + table + " VALUES (2, 'two'), (1, 'one')");
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        container.stop();
+    }
+
+    @Test
+    public void orderedComparisonUsesOneConnectionAndSkipsLobColumns() {
+        assertThat(container.tablesHaveSameContent("actual", "expected", CompareOptions.ORDERED).matches(null)).isTrue();
+    }
+
+    @Test
+    public void mismatchListsDifferences() {
+        final Matcher<Void> matcher = container.queryReturns(
+            "SELECT id FROM actual ORDER BY id",
+            Arrays.<List<?>>asList(Arrays.asList(1), Arrays.asList(3))
+        );
+        assertThat(matcher.matches(null)).isFalse();
+
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(null, description);
+        assertThat(description.toString()).contains("2 rows, expected 2").contains(" - \"row 2: ID is '2', expected '3'\"");
+    }
+}
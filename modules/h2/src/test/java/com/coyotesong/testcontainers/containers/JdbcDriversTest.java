@@ -0,0 +1,58 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.JdbcDrivers;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JdbcDriversTest {
+
+    private static final String DRIVER = "org.h2.Driver";
+
+    @Test
+    public void sharedDriverIsCached() throws ClassNotFoundException {
+        final Driver driver = JdbcDrivers.shared(DRIVER);
+
+        assertThat(JdbcDrivers.shared(DRIVER)).isSameAs(driver);
+        assertThat(JdbcDrivers.get(DRIVER, false)).isSameAs(driver);
+        assertThat(JdbcDrivers.isIsolated(driver)).isFalse();
+        assertThat(driver.getClass()).isSameAs(Class.forName(DRIVER));
+    }
+
+    @Test
+    public void isolatedDriverIsCachedSeparately() {
+        final Driver driver = JdbcDrivers.isolated(DRIVER);
+
+        assertThat(JdbcDrivers.isolated(DRIVER)).isSameAs(driver);
+        assertThat(JdbcDrivers.get(DRIVER, true)).isSameAs(driver);
+        assertThat(driver).isNotSameAs(JdbcDrivers.shared(DRIVER));
+        assertThat(JdbcDrivers.isIsolated(driver)).isTrue();
+    }
+
+    @Test
+    public void isolatedDriverCannotSeeTheApplication() throws SQLException {
+        final Driver driver = JdbcDrivers.isolated(DRIVER);
+        final ClassLoader loader = driver.getClass().getClassLoader();
+
+        assertThat(driver.getClass().getName()).isEqualTo(DRIVER);
+        assertThatThrownBy(() -> Class.forName(JdbcDriversTest.class.getName(), false, loader))
+            .isInstanceOf(ClassNotFoundException.class);
+        // java.sql is still shared, so the driver is usable
+        try (Connection conn = driver.connect("jdbc:h2:mem:isolated", new Properties())) {
+            assertThat(conn.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    public void containersShareTheCachedDriver() {
+        assertThat(new H2Container<>().getJdbcDriverInstance()).isSameAs(JdbcDrivers.shared(DRIVER));
+        assertThat(new H2Container<>().withIsolatedDriver(true).getJdbcDriverInstance())
+            .isSameAs(JdbcDrivers.isolated(DRIVER));
+    }
+}
@@ -0,0 +1,148 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fingerprint computed on the database with aggregate functions.
+ * <p>
+ * Subclasses provide the aggregate expressions, typically the sum of a hash of
+ * every column in a row. Only the row count and the aggregates are transferred.
+ * <p>
+ * If the database rejects the aggregate query as unsupported, e.g., because a column
+ * type cannot be hashed or the hash function does not exist, this and all later
+ * fingerprints are computed on the client instead. Other errors, e.g., a lost
+ * connection, are rethrown.
+ * The fallback uses a different algorithm so fingerprints computed before the
+ * failure must be recomputed.
+ */
+public abstract class AggregateFingerprintStrategy implements FingerprintStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AggregateFingerprintStrategy.class);
+
+    private final FingerprintStrategy fallback = new ClientFingerprintStrategy();
+
+    private volatile boolean unsupported;
+
+    /**
+     * Get algorithm name
+     *
+     * @return algorithm name
+     */
+    protected abstract String getAlgorithm();
+
+    /**
+     * Get aggregate expressions
+     *
+     * @param columns quoted column names
+     * @return aggregate expressions, e.g., 'SUM(HASH(a, b))'
+     */
+    protected abstract List<String> getAggregates(List<String> columns);
+
+    @Override
+    public TableFingerprint fingerprint(Connection conn, String table, String condition, int fetchSize)
+        throws SQLException {
+        if (unsupported) {
+            return fallback.fingerprint(conn, table, condition, fetchSize);
+        }
+        final List<String> aggregates = getAggregates(getColumns(conn, table));
+        final StringBuilder sb = new StringBuilder("SELECT COUNT(*)");
+        for (String aggregate : aggregates) {
+            sb.append(", ").append(aggregate);
+        }
+        sb.append(" FROM ").append(table);
+        if (condition != null) {
+            sb.append(" WHERE ").append(condition);
+        }
+
+        final long count;
+        final StringBuilder digest = new StringBuilder();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sb.toString())) {
+            rs.next();
+            count = rs.getLong(1);
+            for (int i = 2; i <= aggregates.size() + 1; i++) {
+                if (i > 2) {
+                    digest.append(':');
+                }
+                // the sums are NULL if there are no rows
+                final String value = rs.getString(i);
+                digest.append((value == null) ? "0" : value);
+            }
+        } catch (SQLException e) {
+            if (!isUnsupportedFeature(e)) {
+                throw e;
+            }
+            LOG.warn("unable to compute fingerprint of {} on the database, using the client: {}", table, e.getMessage());
+            unsupported = true;
+            return fallback.fingerprint(conn, table, condition, fetchSize);
+        }
+        return new TableFingerprint(getAlgorithm(), count, digest.toString());
+    }
+
+    /**
+     * Is the fingerprint computed on the client because the database rejected the aggregate query?
+     *
+     * @return 'true' if the client fallback is used
+     */
+    public boolean isUnsupported() {
+        return unsupported;
+    }
+
+    /**
+     * Did the database reject the aggregate query as unsupported? This is the case for
+     * syntax errors and access rule violations (SQLState class 42), features that are
+     * not supported (class 0A), unknown functions and data types that can't be hashed.
+     *
+     * @param e error raised by the aggregate query
+     * @return 'true' if the client fallback should be used
+     */
+    protected boolean isUnsupportedFeature(SQLException e) {
+        if (e instanceof SQLSyntaxErrorException || e instanceof SQLFeatureNotSupportedException) {
+            return true;
+        }
+        final String state = e.getSQLState();
+        if (state != null && (state.startsWith("42") || state.startsWith("0A"))) {
+            return true;
+        }
+        // some drivers, e.g., SQLite's, only report the error in the message
+        final String message = (e.getMessage() == null) ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        return message.contains("function")
+            || message.contains("not supported")
+            || message.contains("syntax")
+            || message.contains("datatype")
+            || message.contains("data type");
+    }
+
+    /**
+     * Get quoted column names, in table order
+     *
+     * @param conn database connection
+     * @param table fully-qualified table name
+     * @return quoted column names
+     * @throws SQLException an error occurred
+     */
+    protected List<String> getColumns(Connection conn, String table) throws SQLException {
+        final DatabaseMetaData metadata = conn.getMetaData();
+        final String quote = metadata.getIdentifierQuoteString().trim();
+        final List<String> columns = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT * FROM " + table + " WHERE 1=0")) {
+            final ResultSetMetaData rsmd = rs.getMetaData();
+            for (int i = 1; i <= rsmd.getColumnCount(); i++) {
+                columns.add(quote + rsmd.getColumnName(i) + quote);
+            }
+        }
+        return columns;
+    }
+}
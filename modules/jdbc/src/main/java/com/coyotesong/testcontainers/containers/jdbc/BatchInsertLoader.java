@@ -0,0 +1,119 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk loader using a batched prepared INSERT statement.
+ * <p>
+ * The rows are loaded in a single transaction, or committed every 'commitInterval'
+ * rows, since committing every row is by far the largest cost for embedded databases.
+ */
+public class BatchInsertLoader implements BulkLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchInsertLoader.class);
+
+    /** Default number of rows per batch */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final int batchSize;
+
+    private final long commitInterval;
+
+    /**
+     * Default constructor
+     */
+    public BatchInsertLoader() {
+        this(DEFAULT_BATCH_SIZE, 0L);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param batchSize number of rows per batch
+     * @param commitInterval number of rows per transaction, or 0 for a single transaction
+     */
+    public BatchInsertLoader(int batchSize, long commitInterval) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Get number of rows per batch
+     *
+     * @return number of rows per batch
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public LoadResult load(Connection conn, String table, List<String> columns, Iterator<Object[]> rows)
+        throws SQLException {
+        final long start = System.nanoTime();
+        final int width = columns.size();
+        final StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        sql.append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < width; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+
+        final boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        long count = 0L;
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int pending = 0;
+            while (rows.hasNext()) {
+                final Object[] row = rows.next();
+                if (row.length != width) {
+                    throw new SQLException(
+                        String.format("row %d has %d values, expected %d", count + 1, row.length, width)
+                    );
+                }
+                for (int i = 0; i < width; i++) {
+                    stmt.setObject(i + 1, row[i]);
+                }
+                stmt.addBatch();
+                count++;
+                if (++pending == batchSize) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+                if (commitInterval > 0 && count % commitInterval == 0) {
+                    if (pending > 0) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                    conn.commit();
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            if (e instanceof UncheckedIOException) {
+                throw new SQLException("unable to read rows: " + e.getMessage(), e);
+            }
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        final LoadResult result = new LoadResult(table, count, System.nanoTime() - start);
+        LOG.debug("{}", result);
+        return result;
+    }
+}
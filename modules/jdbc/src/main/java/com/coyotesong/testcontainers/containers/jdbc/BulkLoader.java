@@ -0,0 +1,60 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Database-specific mechanism used to load large volumes of test data.
+ * <p>
+ * Implementations must stream the rows - the data set may not fit in memory.
+ * <p>
+ * Containers provide a loader via
+ * {@link com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher#getBulkLoader()}.
+ */
+public interface BulkLoader {
+
+    /**
+     * Load rows
+     *
+     * @param conn database connection
+     * @param table fully-qualified table name
+     * @param columns column names, in the order of the values in each row
+     * @param rows rows. Each row has one value per column, in column order.
+     * @return load statistics
+     * @throws SQLException unable to load rows
+     */
+    LoadResult load(Connection conn, String table, List<String> columns, Iterator<Object[]> rows)
+        throws SQLException;
+
+    /**
+     * Load RFC 4180 CSV file. Every value is passed to the database as a string.
+     *
+     * @param conn database connection
+     * @param table fully-qualified table name
+     * @param columns column names, in the order of the values in each record
+     * @param file UTF-8 CSV file
+     * @param header if true then the first record is a header and is skipped
+     * @return load statistics
+     * @throws SQLException unable to load rows
+     */
+    default LoadResult loadCsv(Connection conn, String table, List<String> columns, Path file, boolean header)
+        throws SQLException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            final CsvRowIterator rows = new CsvRowIterator(reader);
+            if (header && rows.hasNext()) {
+                rows.next();
+            }
+            return load(conn, table, columns, rows);
+        } catch (IOException | UncheckedIOException e) {
+            throw new SQLException("unable to read '" + file + "': " + e.getMessage(), e);
+        }
+    }
+}
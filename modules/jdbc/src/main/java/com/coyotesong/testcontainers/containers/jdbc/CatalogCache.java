@@ -0,0 +1,258 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached snapshot of a container's table catalog.
+ * <p>
+ * The table list is loaded once per (catalog, schema pattern) and table lookups are
+ * answered from an in-memory index. Literal table names are a hash lookup, patterns
+ * are a scan of the cached schema.
+ * <p>
+ * Entries are invalidated:
+ * <ul>
+ *   <li>when a matcher from this library issues DDL, e.g., dropping tables</li>
+ *   <li>when they are older than the time-to-live</li>
+ *   <li>explicitly, via {@link #invalidate()}</li>
+ * </ul>
+ * <p>
+ * A lookup that finds no tables always reloads the entry once before answering, so a
+ * table created by the test itself is never reported as missing. A table dropped by
+ * the test itself, outside of this library, is visible after the time-to-live expires
+ * or the cache is invalidated.
+ */
+public class CatalogCache {
+
+    /** Default time-to-live */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+
+    /**
+     * Loads the tables of a catalog and schema pattern
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Load tables
+         *
+         * @param catalogName catalog name, may be null
+         * @param schemaPattern schema name or pattern, may be null
+         * @return all tables
+         * @throws SQLException an error occurred
+         */
+        List<TableName> load(String catalogName, String schemaPattern) throws SQLException;
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile Duration ttl;
+
+    private volatile String searchStringEscape = "\\";
+
+    private volatile boolean caseInsensitive;
+
+    private volatile Identifiers identifiers;
+
+    /**
+     * Constructor
+     *
+     * @param ttl time-to-live
+     */
+    public CatalogCache(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Default constructor
+     */
+    public CatalogCache() {
+        this(DEFAULT_TTL);
+    }
+
+    /**
+     * Get time-to-live
+     *
+     * @return time-to-live
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Set time-to-live. Use Duration.ZERO to disable caching.
+     *
+     * @param ttl time-to-live
+     */
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Set the escape used in table name patterns
+     *
+     * @param searchStringEscape value of DatabaseMetaData.getSearchStringEscape()
+     */
+    public void setSearchStringEscape(String searchStringEscape) {
+        this.searchStringEscape = searchStringEscape;
+    }
+
+    /**
+     * Specify whether table name patterns ignore case, e.g., for SQLite
+     *
+     * @param caseInsensitive 'true' if the database's catalog queries ignore case
+     */
+    public void setCaseInsensitive(boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * Set the interned table names of the container's dialect. They are discarded
+     * with the cached entries so that dropped tables are not retained.
+     *
+     * @param identifiers dialect's identifiers, may be null
+     */
+    public void setIdentifiers(Identifiers identifiers) {
+        this.identifiers = identifiers;
+    }
+
+    /**
+     * Find tables
+     *
+     * @param catalogName catalog name, may be null
+     * @param schemaPattern schema name or pattern, may be null
+     * @param tablePattern table name or pattern, may be null
+     * @param loader loads the catalog on a cache miss
+     * @return matching tables
+     * @throws SQLException an error occurred while loading the catalog
+     */
+    public List<TableName> getTables(String catalogName, String schemaPattern, String tablePattern, Loader loader)
+        throws SQLException {
+        final Key key = new Key(catalogName, schemaPattern);
+
+        Entry entry = entries.get(key);
+        boolean fresh = false;
+        if (entry == null || entry.isExpired(ttl)) {
+            entry = load(key, loader);
+            fresh = true;
+        }
+
+        // compiled after loading - the loader may change the escape and case rules
+        final LikePattern pattern = LikePattern.compile(tablePattern, searchStringEscape, caseInsensitive);
+        List<TableName> tables = entry.find(pattern);
+        if (tables.isEmpty() && !fresh) {
+            // never report a missing table from a stale snapshot
+            tables = load(key, loader).find(pattern);
+        }
+        return tables;
+    }
+
+    /**
+     * Invalidate all entries and discard the interned table names
+     */
+    public void invalidate() {
+        entries.clear();
+        final Identifiers interned = identifiers;
+        if (interned != null) {
+            interned.clear();
+        }
+    }
+
+    /**
+     * Invalidate entries for a catalog and schema pattern
+     *
+     * @param catalogName catalog name, may be null
+     * @param schemaPattern schema name or pattern, may be null
+     */
+    public void invalidate(String catalogName, String schemaPattern) {
+        entries.remove(new Key(catalogName, schemaPattern));
+    }
+
+    private Entry load(Key key, Loader loader) throws SQLException {
+        final List<TableName> tables = loader.load(key.catalogName, key.schemaPattern);
+        final Entry entry = new Entry(tables, caseInsensitive);
+        if (!ttl.isZero()) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Cache key
+     */
+    private static final class Key {
+
+        private final String catalogName;
+
+        private final String schemaPattern;
+
+        private Key(String catalogName, String schemaPattern) {
+            this.catalogName = catalogName;
+            this.schemaPattern = schemaPattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return Objects.equals(catalogName, that.catalogName) && Objects.equals(schemaPattern, that.schemaPattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(catalogName, schemaPattern);
+        }
+    }
+
+    /**
+     * Snapshot of the tables in a catalog and schema pattern
+     */
+    private static final class Entry {
+
+        private final long loadedAt = System.nanoTime();
+
+        private final List<TableName> tables;
+
+        private final Map<String, List<TableName>> byName = new HashMap<>();
+
+        private final boolean caseInsensitive;
+
+        private Entry(List<TableName> tables, boolean caseInsensitive) {
+            this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
+            this.caseInsensitive = caseInsensitive;
+            for (TableName table : tables) {
+                byName.computeIfAbsent(indexKey(table.getTableName()), k -> new ArrayList<>(1)).add(table);
+            }
+        }
+
+        private String indexKey(String name) {
+            return caseInsensitive ? name.toUpperCase(Locale.ROOT) : name;
+        }
+
+        private boolean isExpired(Duration ttl) {
+            return (System.nanoTime() - loadedAt) >= ttl.toNanos();
+        }
+
+        private List<TableName> find(LikePattern pattern) {
+            if (pattern.isLiteral() && caseInsensitive == pattern.isCaseInsensitive()) {
+                return byName.getOrDefault(pattern.getLiteral(), Collections.emptyList());
+            }
+            final List<TableName> results = new ArrayList<>();
+            for (TableName table : tables) {
+                if (pattern.matches(table.getTableName())) {
+                    results.add(table);
+                }
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry of per-container catalog caches.
+ * <p>
+ * Containers are tracked by identity since their configuration may change
+ * before they are started.
+ */
+public final class CatalogCaches {
+
+    private static final Map<JdbcDatabaseContainerMatcher<?>, CatalogCache> CACHES = new IdentityHashMap<>();
+
+    private CatalogCaches() {}
+
+    /**
+     * Get catalog cache for container, creating it if necessary
+     *
+     * @param container database container
+     * @return catalog cache
+     */
+    public static synchronized CatalogCache get(JdbcDatabaseContainerMatcher<?> container) {
+        return CACHES.computeIfAbsent(container, c -> new CatalogCache());
+    }
+
+    /**
+     * Discard catalog cache for container, if any
+     *
+     * @param container database container
+     */
+    public static synchronized void remove(JdbcDatabaseContainerMatcher<?> container) {
+        CACHES.remove(container);
+    }
+}
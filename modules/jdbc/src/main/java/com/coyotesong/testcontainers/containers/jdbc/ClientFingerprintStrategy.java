@@ -0,0 +1,32 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Fingerprint computed by streaming the rows to the client.
+ * <p>
+ * This works with every database but transfers every row. It uses the same
+ * order-independent row hashes as the UNORDERED mode of {@link ResultComparator}.
+ */
+public class ClientFingerprintStrategy implements FingerprintStrategy {
+
+    /** Algorithm name */
+    public static final String ALGORITHM = "client";
+
+    @Override
+    public TableFingerprint fingerprint(Connection conn, String table, String condition, int fetchSize)
+        throws SQLException {
+        final String sql = "SELECT * FROM " + table + ((condition == null) ? "" : (" WHERE " + condition));
+        try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(fetchSize);
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                final long[] sums = new long[2];
+                final long count = ResultComparator.hashAll(rs, sums);
+                return new TableFingerprint(ALGORITHM, count, String.format("%016x%016x", sums[0], sums[1]));
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Options for comparing query results.
+ * <p>
+ * Both sides are streamed so memory use does not depend on the number of rows.
+ * The ORDERED mode compares the rows one by one and reports the differing rows.
+ * The UNORDERED mode compares an order-independent hash of each side, so it does
+ * not need an ORDER BY, but it can only report that the results differ.
+ * <p>
+ * Instances are immutable. The 'with' methods return a modified copy.
+ */
+public final class CompareOptions {
+
+    /** How the rows are compared */
+    public enum Mode {
+        /** Compare row by row, in the order returned */
+        ORDERED,
+        /** Compare order-independent hashes of all rows */
+        UNORDERED,
+    }
+
+    /** Default JDBC fetch size */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** Default number of differences reported before the comparison stops */
+    public static final int DEFAULT_MAX_DIFFERENCES = 10;
+
+    /** Row-by-row comparison */
+    public static final CompareOptions ORDERED = new CompareOptions(Mode.ORDERED, DEFAULT_FETCH_SIZE, DEFAULT_MAX_DIFFERENCES);
+
+    /** Order-independent comparison */
+    public static final CompareOptions UNORDERED = new CompareOptions(Mode.UNORDERED, DEFAULT_FETCH_SIZE, DEFAULT_MAX_DIFFERENCES);
+
+    private final Mode mode;
+
+    private final int fetchSize;
+
+    private final int maxDifferences;
+
+    /**
+     * Constructor
+     *
+     * @param mode comparison mode
+     * @param fetchSize JDBC fetch size
+     * @param maxDifferences number of differences reported before the comparison stops
+     */
+    private CompareOptions(Mode mode, int fetchSize, int maxDifferences) {
+        this.mode = mode;
+        this.fetchSize = fetchSize;
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * Get comparison mode
+     *
+     * @return comparison mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get JDBC fetch size
+     *
+     * @return number of rows fetched per round trip
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Get number of differences reported before the comparison stops
+     *
+     * @return maximum number of differences
+     */
+    public int getMaxDifferences() {
+        return maxDifferences;
+    }
+
+    /**
+     * Specify comparison mode
+     *
+     * @param mode comparison mode
+     * @return new options
+     */
+    public CompareOptions withMode(Mode mode) {
+        return new CompareOptions(mode, fetchSize, maxDifferences);
+    }
+
+    /**
+     * Specify JDBC fetch size
+     *
+     * @param fetchSize number of rows fetched per round trip
+     * @return new options
+     */
+    public CompareOptions withFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        return new CompareOptions(mode, fetchSize, maxDifferences);
+    }
+
+    /**
+     * Specify number of differences reported before the comparison stops
+     *
+     * @param maxDifferences maximum number of differences
+     * @return new options
+     */
+    public CompareOptions withMaxDifferences(int maxDifferences) {
+        if (maxDifferences < 1) {
+            throw new IllegalArgumentException("maxDifferences must be positive: " + maxDifferences);
+        }
+        return new CompareOptions(mode, fetchSize, maxDifferences);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompareOptions[mode=%s, fetchSize=%d, maxDifferences=%d]", mode, fetchSize, maxDifferences);
+    }
+}
@@ -0,0 +1,94 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of comparing query results.
+ */
+public final class CompareResult {
+
+    private final List<String> differences = new ArrayList<>();
+
+    private long actualRows;
+
+    private long expectedRows;
+
+    private boolean truncated;
+
+    /**
+     * Record a difference
+     *
+     * @param difference description of the difference
+     */
+    void addDifference(String difference) {
+        differences.add(difference);
+    }
+
+    void setRows(long actualRows, long expectedRows) {
+        this.actualRows = actualRows;
+        this.expectedRows = expectedRows;
+    }
+
+    void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    /**
+     * Are the results the same?
+     *
+     * @return 'true' if no differences were found
+     */
+    public boolean isMatch() {
+        return differences.isEmpty();
+    }
+
+    /**
+     * Get differences
+     *
+     * @return descriptions of the differences, at most CompareOptions.getMaxDifferences()
+     */
+    public List<String> getDifferences() {
+        return Collections.unmodifiableList(differences);
+    }
+
+    /**
+     * Did the comparison stop before reading every row?
+     *
+     * @return 'true' if the maximum number of differences was reached
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Get number of actual rows read
+     *
+     * @return number of rows. This is a lower bound if the comparison was truncated.
+     */
+    public long getActualRows() {
+        return actualRows;
+    }
+
+    /**
+     * Get number of expected rows read
+     *
+     * @return number of rows. This is a lower bound if the comparison was truncated.
+     */
+    public long getExpectedRows() {
+        return expectedRows;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "CompareResult[match=%s, actualRows=%d, expectedRows=%d, differences=%s%s]",
+            isMatch(),
+            actualRows,
+            expectedRows,
+            differences,
+            truncated ? " (truncated)" : ""
+        );
+    }
+}
@@ -0,0 +1,347 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of database connections to a single container.
+ * <p>
+ * Leased connections are returned to the pool when they are closed. Idle connections
+ * are reused in LIFO order and validated with the container's test query when they
+ * have been unused for longer than the validation interval.
+ * <p>
+ * Pools are normally obtained from {@link ConnectionPools} so every matcher shares
+ * the same pool for a container.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+
+    private final JdbcDatabaseContainer<?> container;
+
+    private final String testQuery;
+
+    private final ConnectionPoolSettings settings;
+
+    private final Semaphore permits;
+
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong validationFailures = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param container database container
+     * @param settings pool settings
+     */
+    public ConnectionPool(JdbcDatabaseContainerMatcher<?> container, ConnectionPoolSettings settings) {
+        this.container = container.getContainer();
+        this.testQuery = container.getTestQueryString();
+        this.settings = settings;
+        this.permits = new Semaphore(settings.getMaxSize(), true);
+
+        for (int i = 0; i < settings.getMinSize(); i++) {
+            try {
+                idle.push(new IdleConnection(this.container.createConnection("")));
+            } catch (SQLException e) {
+                LOG.warn("unable to pre-open connection to '{}': {}", this.container.getJdbcUrl(), e.getMessage());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Get pool settings
+     *
+     * @return pool settings
+     */
+    public ConnectionPoolSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Get number of leases served by an idle connection
+     *
+     * @return pool hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get number of leases that required a new physical connection
+     *
+     * @return pool misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Get number of idle connections discarded because they failed validation
+     *
+     * @return validation failures
+     */
+    public long getValidationFailureCount() {
+        return validationFailures.get();
+    }
+
+    /**
+     * Get number of idle connections
+     *
+     * @return idle connections
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Get number of leased connections
+     *
+     * @return leased connections
+     */
+    public int getActiveCount() {
+        return settings.getMaxSize() - permits.availablePermits();
+    }
+
+    /**
+     * Lease a connection. The connection is returned to the pool when it is closed.
+     *
+     * @return database connection
+     * @throws SQLException no connection available or unable to connect
+     */
+    public Connection lease() throws SQLException {
+        if (closed) {
+            throw new SQLException("connection pool is closed: " + container.getJdbcUrl());
+        }
+
+        try {
+            if (!permits.tryAcquire(settings.getLeaseTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLException(
+                    String.format(
+                        "timed out waiting for a connection to '%s' after %s",
+                        container.getJdbcUrl(),
+                        settings.getLeaseTimeout()
+                    )
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("interrupted waiting for a connection", e);
+        }
+
+        try {
+            final Connection conn = pollIdle();
+            if (conn != null) {
+                hits.incrementAndGet();
+                return wrap(conn);
+            }
+            misses.incrementAndGet();
+            return wrap(container.createConnection(""));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close all idle connections. Leased connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            while (!idle.isEmpty()) {
+                closeQuietly(idle.pop().connection);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ConnectionPool[url=%s, active=%d, idle=%d, hits=%d, misses=%d, validationFailures=%d]",
+            container.getJdbcUrl(),
+            getActiveCount(),
+            getIdleCount(),
+            getHitCount(),
+            getMissCount(),
+            getValidationFailureCount()
+        );
+    }
+
+    /**
+     * Take a valid connection from the idle list
+     *
+     * @return valid connection or null if no idle connections are available
+     */
+    private Connection pollIdle() {
+        while (true) {
+            final IdleConnection candidate;
+            synchronized (this) {
+                if (idle.isEmpty()) {
+                    return null;
+                }
+                candidate = idle.pop();
+            }
+
+            final long idleNanos = System.nanoTime() - candidate.since;
+            if (idleNanos < settings.getValidationInterval().toNanos() || isValid(candidate.connection)) {
+                return candidate.connection;
+            }
+            validationFailures.incrementAndGet();
+            closeQuietly(candidate.connection);
+        }
+    }
+
+    /**
+     * Validate connection using the container's test query
+     *
+     * @param conn database connection
+     * @return 'true' if the connection is usable
+     */
+    private boolean isValid(Connection conn) {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(testQuery);
+            return true;
+        } catch (SQLException e) {
+            LOG.debug("discarding connection to '{}': {}", container.getJdbcUrl(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Return connection to the pool
+     *
+     * @param conn physical connection
+     */
+    private void release(Connection conn) {
+        try {
+            boolean reusable = !closed && !conn.isClosed();
+            if (reusable && !conn.getAutoCommit()) {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+            if (reusable) {
+                synchronized (this) {
+                    if (!closed) {
+                        idle.push(new IdleConnection(conn));
+                        return;
+                    }
+                }
+            }
+            closeQuietly(conn);
+        } catch (SQLException e) {
+            closeQuietly(conn);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Connection wrap(Connection conn) {
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionPool.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new LeasedConnection(conn)
+        );
+    }
+
+    private static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            LOG.debug("unable to close connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Idle connection and the time it was returned to the pool
+     */
+    private static final class IdleConnection {
+
+        private final Connection connection;
+
+        private final long since = System.nanoTime();
+
+        private IdleConnection(Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * Connection proxy that returns the physical connection to the pool on close()
+     */
+    private final class LeasedConnection implements InvocationHandler {
+
+        private Connection conn;
+
+        private LeasedConnection(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (this) {
+                        if (conn != null) {
+                            final Connection physical = conn;
+                            conn = null;
+                            release(physical);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    synchronized (this) {
+                        if (conn == null) {
+                            return true;
+                        }
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LeasedConnection[" + conn + "]";
+                default:
+                    break;
+            }
+
+            final Connection physical;
+            synchronized (this) {
+                physical = conn;
+            }
+            if (physical == null) {
+                throw new SQLException("connection has been returned to the pool");
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.time.Duration;
+
+/**
+ * Connection pool settings.
+ * <p>
+ * Instances are immutable. The 'with' methods return a modified copy.
+ */
+public final class ConnectionPoolSettings {
+
+    /** Default settings */
+    public static final ConnectionPoolSettings DEFAULT = new ConnectionPoolSettings(
+        0,
+        4,
+        Duration.ofSeconds(30),
+        Duration.ofSeconds(30)
+    );
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final Duration validationInterval;
+
+    private final Duration leaseTimeout;
+
+    /**
+     * Constructor
+     *
+     * @param minSize number of connections opened when the pool is created
+     * @param maxSize maximum number of open connections
+     * @param validationInterval idle connections are validated if unused for this long
+     * @param leaseTimeout maximum time to wait for a connection
+     */
+    private ConnectionPoolSettings(int minSize, int maxSize, Duration validationInterval, Duration leaseTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("minSize must be between 0 and maxSize: " + minSize);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.validationInterval = validationInterval;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Get minimum pool size
+     *
+     * @return number of connections opened when the pool is created
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Get maximum pool size
+     *
+     * @return maximum number of open connections
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get validation interval
+     *
+     * @return idle connections are validated if unused for this long
+     */
+    public Duration getValidationInterval() {
+        return validationInterval;
+    }
+
+    /**
+     * Get lease timeout
+     *
+     * @return maximum time to wait for a connection
+     */
+    public Duration getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    /**
+     * Specify pool size
+     *
+     * @param minSize number of connections opened when the pool is created
+     * @param maxSize maximum number of open connections
+     * @return new settings
+     */
+    public ConnectionPoolSettings withSize(int minSize, int maxSize) {
+        return new ConnectionPoolSettings(minSize, maxSize, validationInterval, leaseTimeout);
+    }
+
+    /**
+     * Specify validation interval. Use Duration.ZERO to validate on every lease.
+     *
+     * @param validationInterval idle connections are validated if unused for this long
+     * @return new settings
+     */
+    public ConnectionPoolSettings withValidationInterval(Duration validationInterval) {
+        return new ConnectionPoolSettings(minSize, maxSize, validationInterval, leaseTimeout);
+    }
+
+    /**
+     * Specify lease timeout
+     *
+     * @param leaseTimeout maximum time to wait for a connection
+     * @return new settings
+     */
+    public ConnectionPoolSettings withLeaseTimeout(Duration leaseTimeout) {
+        return new ConnectionPoolSettings(minSize, maxSize, validationInterval, leaseTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ConnectionPoolSettings[minSize=%d, maxSize=%d, validationInterval=%s, leaseTimeout=%s]",
+            minSize,
+            maxSize,
+            validationInterval,
+            leaseTimeout
+        );
+    }
+}
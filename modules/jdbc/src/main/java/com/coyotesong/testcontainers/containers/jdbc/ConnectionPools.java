@@ -0,0 +1,135 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Registry of per-container connection pools.
+ * <p>
+ * A pool is created the first time a connection is leased for a container and
+ * closed when the container is stopped. Containers are tracked by identity since
+ * their configuration may change before they are started.
+ * <p>
+ * A new pool pre-opens its minimum number of connections. This happens outside the
+ * registry lock, so creating one container's pool does not delay other containers.
+ * Concurrent callers for the same container wait for the same pool.
+ */
+public final class ConnectionPools {
+
+    private static final Map<JdbcDatabaseContainerMatcher<?>, ConnectionPoolSettings> SETTINGS = new IdentityHashMap<>();
+
+    private static final Map<JdbcDatabaseContainerMatcher<?>, FutureTask<ConnectionPool>> POOLS = new IdentityHashMap<>();
+
+    private ConnectionPools() {}
+
+    /**
+     * Specify pool settings for container. This has no effect on an existing pool.
+     * The settings are kept until {@link #remove(JdbcDatabaseContainerMatcher)} is called.
+     *
+     * @param container database container
+     * @param settings pool settings
+     */
+    public static synchronized void configure(JdbcDatabaseContainerMatcher<?> container, ConnectionPoolSettings settings) {
+        SETTINGS.put(container, settings);
+    }
+
+    /**
+     * Get pool settings for container
+     *
+     * @param container database container
+     * @return pool settings
+     */
+    public static synchronized ConnectionPoolSettings getSettings(JdbcDatabaseContainerMatcher<?> container) {
+        return SETTINGS.getOrDefault(container, ConnectionPoolSettings.DEFAULT);
+    }
+
+    /**
+     * Get pool for container, creating it if necessary
+     *
+     * @param container database container
+     * @return connection pool
+     */
+    public static ConnectionPool get(JdbcDatabaseContainerMatcher<?> container) {
+        FutureTask<ConnectionPool> task;
+        boolean create = false;
+        synchronized (ConnectionPools.class) {
+            task = POOLS.get(container);
+            if (task == null) {
+                final ConnectionPoolSettings settings = SETTINGS.getOrDefault(container, ConnectionPoolSettings.DEFAULT);
+                task = new FutureTask<>(() -> new ConnectionPool(container, settings));
+                POOLS.put(container, task);
+                create = true;
+            }
+        }
+        if (create) {
+            task.run();
+        }
+        return await(container, task);
+    }
+
+    /**
+     * Close pool for container, if any. The settings are kept.
+     *
+     * @param container database container
+     */
+    public static void close(JdbcDatabaseContainerMatcher<?> container) {
+        final FutureTask<ConnectionPool> task;
+        synchronized (ConnectionPools.class) {
+            task = POOLS.remove(container);
+        }
+        if (task != null) {
+            try {
+                await(container, task).close();
+            } catch (RuntimeException e) {
+                // the pool was never created
+            }
+        }
+    }
+
+    /**
+     * Close pool for container, if any, and discard its settings
+     *
+     * @param container database container
+     */
+    public static void remove(JdbcDatabaseContainerMatcher<?> container) {
+        close(container);
+        synchronized (ConnectionPools.class) {
+            SETTINGS.remove(container);
+        }
+    }
+
+    private static ConnectionPool await(JdbcDatabaseContainerMatcher<?> container, FutureTask<ConnectionPool> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    // the pool is being created by another thread - it won't take long
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            // forget the failed attempt so the next caller tries again
+            synchronized (ConnectionPools.class) {
+                POOLS.remove(container, task);
+            }
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
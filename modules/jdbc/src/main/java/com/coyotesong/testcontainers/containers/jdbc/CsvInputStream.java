@@ -0,0 +1,120 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * InputStream that encodes rows as RFC 4180 CSV on demand.
+ * <p>
+ * This is used to feed rows to a COPY ... FROM STDIN command without materializing the
+ * data set. A null value is written as an unquoted empty field. Every other value is
+ * written with toString() and quoted if it contains a quote, comma or line break, or is empty.
+ */
+public class CsvInputStream extends InputStream {
+
+    private final Iterator<Object[]> rows;
+
+    private final StringBuilder line = new StringBuilder();
+
+    private byte[] buffer = new byte[0];
+
+    private int position;
+
+    private long rowCount;
+
+    /**
+     * Constructor
+     *
+     * @param rows rows
+     */
+    public CsvInputStream(Iterator<Object[]> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Get number of rows encoded so far
+     *
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len && fill()) {
+            final int n = Math.min(len - count, buffer.length - position);
+            System.arraycopy(buffer, position, b, off + count, n);
+            position += n;
+            count += n;
+        }
+        return (count == 0) ? -1 : count;
+    }
+
+    /**
+     * Make sure there is unread data in the buffer
+     *
+     * @return 'false' at end of input
+     */
+    private boolean fill() {
+        while (position == buffer.length) {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            encode(rows.next());
+        }
+        return true;
+    }
+
+    private void encode(Object[] row) {
+        line.setLength(0);
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (row[i] != null) {
+                final String value = row[i].toString();
+                if (value.isEmpty() || needsQuotes(value)) {
+                    line.append('"');
+                    for (int j = 0; j < value.length(); j++) {
+                        final char c = value.charAt(j);
+                        if (c == '"') {
+                            line.append('"');
+                        }
+                        line.append(c);
+                    }
+                    line.append('"');
+                } else {
+                    line.append(value);
+                }
+            }
+        }
+        line.append('\n');
+        buffer = line.toString().getBytes(StandardCharsets.UTF_8);
+        position = 0;
+        rowCount++;
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == ',' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
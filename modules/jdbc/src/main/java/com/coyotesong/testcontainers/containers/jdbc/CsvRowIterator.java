@@ -0,0 +1,138 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming RFC 4180 CSV parser.
+ * <p>
+ * Fields may be quoted, quoted fields may contain separators, line breaks and
+ * doubled quotes. Records may end with CRLF or LF. An unquoted empty field is
+ * returned as null, a quoted empty field as an empty string. Empty lines are
+ * skipped. Characters between a closing quote and the next separator are an error.
+ * <p>
+ * Only one record is held in memory at a time. I/O errors are reported as
+ * UncheckedIOExceptions.
+ */
+public class CsvRowIterator implements Iterator<Object[]> {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[8192];
+
+    private final List<Object> fields = new ArrayList<>();
+
+    private final StringBuilder field = new StringBuilder();
+
+    private int position;
+
+    private int limit;
+
+    private Object[] next;
+
+    private boolean done;
+
+    /**
+     * Constructor
+     *
+     * @param reader CSV content. The caller is responsible for closing it.
+     */
+    public CsvRowIterator(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readRecord();
+            done = (next == null);
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Object[] record = next;
+        next = null;
+        return record;
+    }
+
+    private Object[] readRecord() {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == EOF) {
+            return null;
+        }
+
+        fields.clear();
+        while (true) {
+            field.setLength(0);
+            boolean quoted = false;
+            if (c == '"') {
+                quoted = true;
+                while (true) {
+                    c = read();
+                    if (c == EOF) {
+                        throw new IllegalArgumentException("unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            if (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                                throw new IllegalArgumentException("unexpected character after closing quote: '" + (char) c + "'");
+                            }
+                            break;
+                        }
+                    }
+                    field.append((char) c);
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+            fields.add((quoted || field.length() > 0) ? field.toString() : null);
+
+            if (c == ',') {
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                c = read();
+                if (c != '\n' && c != EOF) {
+                    position--;
+                }
+            }
+            return fields.toArray();
+        }
+    }
+
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = reader.read(buffer, 0, buffer.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,450 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Database dialect used by the matchers to generate SQL.
+ * <p>
+ * The identifier rules and capabilities are read once from DatabaseMetaData. Some
+ * capabilities, e.g., multi-table DROP, are not reported by JDBC. Containers provide
+ * a subclass that overrides them via
+ * {@link com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher#createDialect(DatabaseMetaData)}.
+ * <p>
+ * Instances are shared by all matchers for a container. Apart from the interned table
+ * names, see {@link Identifiers}, they are immutable.
+ */
+public class Dialect {
+
+    /** How unquoted identifiers are stored */
+    public enum IdentifierCase {
+        /** Folded to upper case, e.g., 'name' is stored as 'NAME' */
+        UPPER,
+        /** Folded to lower case */
+        LOWER,
+        /** Stored as written but compared without regard to case */
+        MIXED,
+        /** Stored as written and compared with regard to case */
+        SENSITIVE,
+    }
+
+    /** SQL:2003 reserved words. DatabaseMetaData.getSQLKeywords() only lists the others. */
+    private static final Set<String> SQL_2003_RESERVED_WORDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "ABS", "ALL", "ALLOCATE", "ALTER", "AND", "ANY", "ARE", "ARRAY", "AS", "ASENSITIVE", "ASYMMETRIC", "AT",
+        "ATOMIC", "AUTHORIZATION", "AVG", "BEGIN", "BETWEEN", "BIGINT", "BINARY", "BLOB", "BOOLEAN", "BOTH",
+        "BY", "CALL", "CALLED", "CARDINALITY", "CASCADED", "CASE", "CAST", "CEIL", "CEILING", "CHAR",
+        "CHARACTER", "CHARACTER_LENGTH", "CHAR_LENGTH", "CHECK", "CLOB", "CLOSE", "COALESCE", "COLLATE",
+        "COLLECT", "COLUMN", "COMMIT", "CONDITION", "CONNECT", "CONSTRAINT", "CONVERT", "CORR", "CORRESPONDING",
+        "COUNT", "COVAR_POP", "COVAR_SAMP", "CREATE", "CROSS", "CUBE", "CUME_DIST", "CURRENT", "CURRENT_DATE",
+        "CURRENT_DEFAULT_TRANSFORM_GROUP", "CURRENT_PATH", "CURRENT_ROLE", "CURRENT_TIME", "CURRENT_TIMESTAMP",
+        "CURRENT_TRANSFORM_GROUP_FOR_TYPE", "CURRENT_USER", "CURSOR", "CYCLE", "DATE", "DAY", "DEALLOCATE",
+        "DEC", "DECIMAL", "DECLARE", "DEFAULT", "DELETE", "DENSE_RANK", "DEREF", "DESCRIBE", "DETERMINISTIC",
+        "DISCONNECT", "DISTINCT", "DOUBLE", "DROP", "DYNAMIC", "EACH", "ELEMENT", "ELSE", "END", "ESCAPE",
+        "EVERY", "EXCEPT", "EXEC", "EXECUTE", "EXISTS", "EXP", "EXTERNAL", "EXTRACT", "FALSE", "FETCH",
+        "FILTER", "FLOAT", "FLOOR", "FOR", "FOREIGN", "FREE", "FROM", "FULL", "FUNCTION", "FUSION", "GET",
+        "GLOBAL", "GRANT", "GROUP", "GROUPING", "HAVING", "HOLD", "HOUR", "IDENTITY", "IN", "INDICATOR",
+        "INNER", "INOUT", "INSENSITIVE", "INSERT", "INT", "INTEGER", "INTERSECT", "INTERSECTION", "INTERVAL",
+        "INTO", "IS", "JOIN", "LANGUAGE", "LARGE", "LATERAL", "LEADING", "LEFT", "LIKE", "LN", "LOCAL",
+        "LOCALTIME", "LOCALTIMESTAMP", "LOWER", "MATCH", "MAX", "MEMBER", "MERGE", "METHOD", "MIN", "MINUTE",
+        "MOD", "MODIFIES", "MODULE", "MONTH", "MULTISET", "NATIONAL", "NATURAL", "NCHAR", "NCLOB", "NEW", "NO",
+        "NONE", "NORMALIZE", "NOT", "NULL", "NULLIF", "NUMERIC", "OCTET_LENGTH", "OF", "OLD", "ON", "ONLY",
+        "OPEN", "OR", "ORDER", "OUT", "OUTER", "OVER", "OVERLAPS", "OVERLAY", "PARAMETER", "PARTITION",
+        "PERCENTILE_CONT", "PERCENTILE_DISC", "PERCENT_RANK", "POSITION", "POWER", "PRECISION", "PREPARE",
+        "PRIMARY", "PROCEDURE", "RANGE", "RANK", "READS", "REAL", "RECURSIVE", "REF", "REFERENCES",
+        "REFERENCING", "REGR_AVGX", "REGR_AVGY", "REGR_COUNT", "REGR_INTERCEPT", "REGR_R2", "REGR_SLOPE",
+        "REGR_SXX", "REGR_SXY", "REGR_SYY", "RELEASE", "RESULT", "RETURN", "RETURNS", "REVOKE", "RIGHT",
+        "ROLLBACK", "ROLLUP", "ROW", "ROWS", "ROW_NUMBER", "SAVEPOINT", "SCOPE", "SCROLL", "SEARCH", "SECOND",
+        "SELECT", "SENSITIVE", "SESSION_USER", "SET", "SIMILAR", "SMALLINT", "SOME", "SPECIFIC", "SPECIFICTYPE",
+        "SQL", "SQLEXCEPTION", "SQLSTATE", "SQLWARNING", "SQRT", "START", "STATIC", "STDDEV_POP", "STDDEV_SAMP",
+        "SUBMULTISET", "SUBSTRING", "SUM", "SYMMETRIC", "SYSTEM", "SYSTEM_USER", "TABLE", "TABLESAMPLE", "THEN",
+        "TIME", "TIMESTAMP", "TIMEZONE_HOUR", "TIMEZONE_MINUTE", "TO", "TRAILING", "TRANSLATE", "TRANSLATION",
+        "TREAT", "TRIGGER", "TRIM", "TRUE", "UESCAPE", "UNION", "UNIQUE", "UNKNOWN", "UNNEST", "UPDATE",
+        "UPPER", "USER", "USING", "VALUE", "VALUES", "VARCHAR", "VARYING", "VAR_POP", "VAR_SAMP", "WHEN",
+        "WHENEVER", "WHERE", "WIDTH_BUCKET", "WINDOW", "WITH", "WITHIN", "WITHOUT", "YEAR"
+    )));
+
+    private final String productName;
+
+    private final String identifierQuote;
+
+    private final String catalogSeparator;
+
+    private final boolean catalogAtStart;
+
+    private final String searchStringEscape;
+
+    private final IdentifierCase identifierCase;
+
+    private final boolean batchUpdates;
+
+    private final boolean transactionalDdl;
+
+    // upper case
+    private final Set<String> keywords;
+
+    private final Identifiers identifiers = new Identifiers(this);
+
+    /**
+     * Constructor
+     *
+     * @param metadata database metadata
+     * @throws SQLException unable to read metadata
+     */
+    public Dialect(DatabaseMetaData metadata) throws SQLException {
+        this.productName = metadata.getDatabaseProductName();
+        // a space means quoting is not supported
+        final String quote = metadata.getIdentifierQuoteString();
+        this.identifierQuote = (quote == null) ? "" : quote.trim();
+        final String separator = metadata.getCatalogSeparator();
+        this.catalogSeparator = (separator == null || separator.isEmpty()) ? "." : separator;
+        this.catalogAtStart = metadata.isCatalogAtStart();
+        this.searchStringEscape = metadata.getSearchStringEscape();
+        if (metadata.storesUpperCaseIdentifiers()) {
+            this.identifierCase = IdentifierCase.UPPER;
+        } else if (metadata.storesLowerCaseIdentifiers()) {
+            this.identifierCase = IdentifierCase.LOWER;
+        } else if (metadata.supportsMixedCaseIdentifiers()) {
+            this.identifierCase = IdentifierCase.SENSITIVE;
+        } else {
+            this.identifierCase = IdentifierCase.MIXED;
+        }
+        this.batchUpdates = metadata.supportsBatchUpdates();
+        this.transactionalDdl =
+            metadata.supportsDataDefinitionAndDataManipulationTransactions() &&
+            !metadata.dataDefinitionCausesTransactionCommit();
+        this.keywords = new HashSet<>(SQL_2003_RESERVED_WORDS);
+        final String sqlKeywords = metadata.getSQLKeywords();
+        if (sqlKeywords != null) {
+            for (String keyword : sqlKeywords.split(",")) {
+                if (!keyword.trim().isEmpty()) {
+                    keywords.add(keyword.trim().toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get database product name
+     *
+     * @return product name, as reported by the driver
+     */
+    public String getProductName() {
+        return productName;
+    }
+
+    /**
+     * Get identifier quote
+     *
+     * @return quote, e.g., '"', or an empty string if quoting is not supported
+     */
+    public String getIdentifierQuote() {
+        return identifierQuote;
+    }
+
+    /**
+     * Get separator between catalog and schema names
+     *
+     * @return separator, e.g., '.'
+     */
+    public String getCatalogSeparator() {
+        return catalogSeparator;
+    }
+
+    /**
+     * Get escape for '_' and '%' in DatabaseMetaData patterns
+     *
+     * @return escape, may be null
+     */
+    public String getSearchStringEscape() {
+        return searchStringEscape;
+    }
+
+    /**
+     * Get how unquoted identifiers are stored. Subclasses may override this when the
+     * driver's answer depends on connection properties.
+     *
+     * @return identifier case
+     */
+    public IdentifierCase getIdentifierCase() {
+        return identifierCase;
+    }
+
+    /**
+     * Get identifier normalization and the interned table names
+     *
+     * @return identifiers
+     */
+    public Identifiers getIdentifiers() {
+        return identifiers;
+    }
+
+    /**
+     * Does the driver support JDBC batches?
+     *
+     * @return 'true' if batch updates are supported
+     */
+    public boolean supportsBatchUpdates() {
+        return batchUpdates;
+    }
+
+    /**
+     * Can DDL be rolled back?
+     *
+     * @return 'true' if DDL and DML can be mixed in a transaction without an implicit commit
+     */
+    public boolean supportsTransactionalDdl() {
+        return transactionalDdl;
+    }
+
+    /**
+     * Does 'DROP TABLE' accept a list of tables? This is not reported by JDBC.
+     *
+     * @return 'true' if several tables can be dropped by a single statement
+     */
+    public boolean supportsMultiTableDrop() {
+        return false;
+    }
+
+    /**
+     * Does 'DROP TABLE' accept 'CASCADE'? This is not reported by JDBC.
+     *
+     * @return 'true' if CASCADE is supported
+     */
+    public boolean supportsDropCascade() {
+        return true;
+    }
+
+    /**
+     * Does 'ALTER TABLE ... DROP CONSTRAINT' drop a foreign key? This is not reported by JDBC.
+     *
+     * @return 'true' if foreign keys can be dropped without dropping the table
+     */
+    public boolean supportsDropForeignKey() {
+        return true;
+    }
+
+    /**
+     * Get the SQL that drops a foreign key
+     *
+     * @param table qualified table name
+     * @param constraintName constraint name, as stored in the catalog
+     * @return ALTER TABLE statement
+     */
+    public String getDropForeignKeySql(String table, String constraintName) {
+        return "ALTER TABLE " + table + " DROP CONSTRAINT " + quote(constraintName);
+    }
+
+    /**
+     * Can DDL be executed on several connections concurrently?
+     *
+     * @return 'false' if the database serializes writers, e.g., a single file lock
+     */
+    public boolean supportsConcurrentDdl() {
+        return true;
+    }
+
+    /**
+     * Do catalog patterns ignore case? This is the case if identifiers are stored in
+     * mixed case but compared without regard to case.
+     *
+     * @return 'true' if table name patterns should be matched without regard to case
+     */
+    public boolean isCatalogCaseInsensitive() {
+        return getIdentifierCase() == IdentifierCase.MIXED;
+    }
+
+    /**
+     * Convert an unquoted identifier to the form stored in the catalog
+     *
+     * @param identifier unquoted identifier
+     * @return identifier in the stored case
+     */
+    public String foldCase(String identifier) {
+        switch (getIdentifierCase()) {
+            case UPPER:
+                return identifier.toUpperCase(Locale.ROOT);
+            case LOWER:
+                return identifier.toLowerCase(Locale.ROOT);
+            default:
+                return identifier;
+        }
+    }
+
+    /**
+     * Quote an identifier. Embedded quotes are doubled.
+     *
+     * @param identifier identifier, as stored in the catalog
+     * @return quoted identifier
+     */
+    public String quote(String identifier) {
+        if (identifierQuote.isEmpty()) {
+            return identifier;
+        }
+        return identifierQuote + identifier.replace(identifierQuote, identifierQuote + identifierQuote) + identifierQuote;
+    }
+
+    /**
+     * Quote an identifier unless it can be written without quotes, i.e., it is a
+     * regular identifier that is already in the stored case and not a keyword.
+     *
+     * @param identifier identifier, as stored in the catalog. May be null.
+     * @return identifier, quoted if necessary
+     */
+    public String quoteIfNeeded(String identifier) {
+        if (identifier == null || identifier.isEmpty() || isRegular(identifier)) {
+            return identifier;
+        }
+        return quote(identifier);
+    }
+
+    /**
+     * Remove the quotes from an identifier, if it is quoted. Doubled quotes are
+     * replaced by a single quote.
+     * <p>
+     * The identifier is parsed one character at a time. It is returned unchanged (the
+     * same instance) unless it is a single, well-formed quoted identifier, e.g.,
+     * '"a"."b"' is two identifiers and '"a"b"' has an unescaped quote.
+     *
+     * @param identifier identifier, may be null
+     * @return unquoted identifier
+     */
+    public String unquote(String identifier) {
+        if (identifier == null || identifierQuote.isEmpty()) {
+            return identifier;
+        }
+        final int q = identifierQuote.length();
+        final int end = identifier.length() - q;
+        if (end < q || !identifier.startsWith(identifierQuote) || !identifier.endsWith(identifierQuote)) {
+            return identifier;
+        }
+        StringBuilder sb = null;
+        int from = q;
+        int i = q;
+        while (i < end) {
+            if (!identifier.startsWith(identifierQuote, i)) {
+                i++;
+                continue;
+            }
+            // an embedded quote must be doubled
+            if (i + q > end || !identifier.startsWith(identifierQuote, i + q)) {
+                return identifier;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(end - q);
+            }
+            sb.append(identifier, from, i + q);
+            i += 2 * q;
+            from = i;
+        }
+        if (sb == null) {
+            return identifier.substring(q, end);
+        }
+        return sb.append(identifier, from, end).toString();
+    }
+
+    /**
+     * Build a qualified table name. The components are not quoted.
+     *
+     * @param catalogName catalog name, may be null or blank
+     * @param schemaName schema name, may be null or blank
+     * @param tableName table name
+     * @return qualified name, e.g., 'catalog.schema.table'
+     */
+    public String qualify(String catalogName, String schemaName, String tableName) {
+        final boolean hasCatalog = isNotBlank(catalogName);
+        final boolean hasSchema = isNotBlank(schemaName);
+        String name = hasSchema ? (schemaName + "." + tableName) : tableName;
+        if (hasCatalog) {
+            name = catalogAtStart ? (catalogName + catalogSeparator + name) : (name + catalogSeparator + catalogName);
+        }
+        return name;
+    }
+
+    /**
+     * Get the SQL that drops one or more tables if they exist
+     *
+     * @param tables qualified table names. There must be a single table unless multi-table drops are supported.
+     * @param cascade add CASCADE, if supported
+     * @return DROP statement
+     */
+    public String getDropTableSql(List<String> tables, boolean cascade) {
+        if (tables.size() > 1 && !supportsMultiTableDrop()) {
+            throw new IllegalArgumentException(productName + " cannot drop several tables with one statement");
+        }
+        final String suffix = (cascade && supportsDropCascade()) ? " CASCADE" : "";
+        return "DROP TABLE IF EXISTS " + String.join(", ", tables) + suffix;
+    }
+
+    /**
+     * Read every foreign-key reference between the tables with a database-specific
+     * catalog query. The default returns 'false' and the references are read with
+     * DatabaseMetaData.getImportedKeys(), one table at a time.
+     *
+     * @param conn database connection
+     * @param references map of table to the tables it references. The keys are every table in the schema.
+     * @return 'true' if the references were read
+     * @throws SQLException unable to read the catalog
+     */
+    public boolean loadReferences(Connection conn, Map<TableName, Set<TableName>> references) throws SQLException {
+        return false;
+    }
+
+    private boolean isRegular(String identifier) {
+        final char first = identifier.charAt(0);
+        if (!(Character.isLetter(first) || first == '_')) {
+            return false;
+        }
+        final IdentifierCase stored = getIdentifierCase();
+        for (int i = 0; i < identifier.length(); i++) {
+            final char c = identifier.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '$')) {
+                return false;
+            }
+            if ((stored == IdentifierCase.UPPER && Character.isLowerCase(c)) ||
+                (stored == IdentifierCase.LOWER && Character.isUpperCase(c))) {
+                return false;
+            }
+        }
+        // e.g., a table named 'order'
+        return !isKeyword(identifier);
+    }
+
+    /**
+     * Is the identifier a reserved word, i.e., an SQL:2003 reserved word or one of the
+     * database's own keywords? A keyword must be quoted when used as an identifier.
+     *
+     * @param identifier unquoted identifier
+     * @return 'true' if the identifier is a keyword
+     */
+    public boolean isKeyword(String identifier) {
+        return keywords.contains(identifier.toUpperCase(Locale.ROOT));
+    }
+
+    private static boolean isNotBlank(String s) {
+        return s != null && !s.trim().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s[product=%s, quote=%s, separator=%s, case=%s, batch=%s, transactionalDdl=%s, multiTableDrop=%s, cascade=%s]",
+            getClass().getSimpleName(),
+            productName,
+            identifierQuote,
+            catalogSeparator,
+            getIdentifierCase(),
+            batchUpdates,
+            transactionalDdl,
+            supportsMultiTableDrop(),
+            supportsDropCascade()
+        );
+    }
+}
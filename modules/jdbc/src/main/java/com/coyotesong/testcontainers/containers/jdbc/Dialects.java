@@ -0,0 +1,84 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry of per-container dialects.
+ * <p>
+ * The dialect is created from the metadata of the first connection and reused
+ * until the container's matcher resources are released.
+ */
+public final class Dialects {
+
+    private static final Map<JdbcDatabaseContainerMatcher<?>, Dialect> DIALECTS = new IdentityHashMap<>();
+
+    private Dialects() {}
+
+    /**
+     * Get dialect for container, leasing a pooled connection if it has not been created yet
+     *
+     * @param container database container
+     * @return dialect
+     * @throws SQLException unable to read metadata
+     */
+    public static Dialect get(JdbcDatabaseContainerMatcher<?> container) throws SQLException {
+        final Dialect dialect = peek(container);
+        if (dialect != null) {
+            return dialect;
+        }
+        try (Connection conn = ConnectionPools.get(container).lease()) {
+            return get(container, conn.getMetaData());
+        }
+    }
+
+    /**
+     * Get dialect for container, creating it from the metadata if necessary
+     *
+     * @param container database container
+     * @param metadata metadata of a connection to the container
+     * @return dialect
+     * @throws SQLException unable to read metadata
+     */
+    public static Dialect get(JdbcDatabaseContainerMatcher<?> container, DatabaseMetaData metadata)
+        throws SQLException {
+        final Dialect existing = peek(container);
+        if (existing != null) {
+            return existing;
+        }
+        // created outside the lock - reading metadata may require a round trip
+        final Dialect dialect = container.createDialect(metadata);
+        synchronized (DIALECTS) {
+            final Dialect previous = DIALECTS.putIfAbsent(container, dialect);
+            return (previous != null) ? previous : dialect;
+        }
+    }
+
+    /**
+     * Get dialect for container if it has already been created
+     *
+     * @param container database container
+     * @return dialect, or null
+     */
+    public static Dialect peek(JdbcDatabaseContainerMatcher<?> container) {
+        synchronized (DIALECTS) {
+            return DIALECTS.get(container);
+        }
+    }
+
+    /**
+     * Discard dialect for container, if any
+     *
+     * @param container database container
+     */
+    public static void remove(JdbcDatabaseContainerMatcher<?> container) {
+        synchronized (DIALECTS) {
+            DIALECTS.remove(container);
+        }
+    }
+}
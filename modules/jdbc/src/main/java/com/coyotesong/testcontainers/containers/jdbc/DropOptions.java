@@ -0,0 +1,96 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Options for dropping tables.
+ * <p>
+ * Instances are immutable. The 'with' methods return a modified copy.
+ */
+public final class DropOptions {
+
+    /** One DROP statement per table, as before */
+    public static final DropOptions DEFAULT = new DropOptions(false, false, false);
+
+    /** Batched drops in a single transaction where supported */
+    public static final DropOptions BATCHED = new DropOptions(true, false, true);
+
+    private final boolean batched;
+
+    private final boolean cascade;
+
+    private final boolean transactional;
+
+    /**
+     * Constructor
+     *
+     * @param batched use a multi-table DROP or a JDBC batch where supported
+     * @param cascade add CASCADE where supported
+     * @param transactional use a single transaction where DDL is transactional
+     */
+    private DropOptions(boolean batched, boolean cascade, boolean transactional) {
+        this.batched = batched;
+        this.cascade = cascade;
+        this.transactional = transactional;
+    }
+
+    /**
+     * Use a multi-table DROP or a JDBC batch where supported?
+     *
+     * @return 'true' if drops are batched
+     */
+    public boolean isBatched() {
+        return batched;
+    }
+
+    /**
+     * Add CASCADE where supported?
+     *
+     * @return 'true' if dependent objects are also dropped
+     */
+    public boolean isCascade() {
+        return cascade;
+    }
+
+    /**
+     * Use a single transaction where DDL is transactional?
+     *
+     * @return 'true' if all tables are dropped in a single transaction
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * Specify batching
+     *
+     * @param batched use a multi-table DROP or a JDBC batch where supported
+     * @return new options
+     */
+    public DropOptions withBatched(boolean batched) {
+        return new DropOptions(batched, cascade, transactional);
+    }
+
+    /**
+     * Specify CASCADE
+     *
+     * @param cascade add CASCADE where supported
+     * @return new options
+     */
+    public DropOptions withCascade(boolean cascade) {
+        return new DropOptions(batched, cascade, transactional);
+    }
+
+    /**
+     * Specify transaction
+     *
+     * @param transactional use a single transaction where DDL is transactional
+     * @return new options
+     */
+    public DropOptions withTransactional(boolean transactional) {
+        return new DropOptions(batched, cascade, transactional);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DropOptions[batched=%s, cascade=%s, transactional=%s]", batched, cascade, transactional);
+    }
+}
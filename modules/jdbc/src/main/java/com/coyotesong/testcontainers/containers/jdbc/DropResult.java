@@ -0,0 +1,93 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-table outcome of dropping tables.
+ */
+public final class DropResult {
+
+    /** Outcome of dropping a single table */
+    public enum Status {
+        /** Table was dropped */
+        DROPPED,
+        /** DROP statement failed */
+        FAILED,
+        /** Table was dropped but the transaction was rolled back */
+        ROLLED_BACK,
+        /** DROP statement was not executed, e.g., the batch stopped at an earlier failure */
+        NOT_ATTEMPTED,
+    }
+
+    private final Map<String, Status> statuses = new LinkedHashMap<>();
+
+    private final Map<String, String> messages = new LinkedHashMap<>();
+
+    /**
+     * Record outcome
+     *
+     * @param table fully-qualified table name
+     * @param status outcome
+     * @param message error message, may be null
+     */
+    void record(String table, Status status, String message) {
+        statuses.put(table, status);
+        if (message == null) {
+            messages.remove(table);
+        } else {
+            messages.put(table, message);
+        }
+    }
+
+    /**
+     * Add outcomes from another result
+     *
+     * @param other result
+     */
+    void merge(DropResult other) {
+        for (Map.Entry<String, Status> entry : other.statuses.entrySet()) {
+            record(entry.getKey(), entry.getValue(), other.messages.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Were all tables dropped?
+     *
+     * @return 'true' if every table was dropped
+     */
+    public boolean isSuccess() {
+        return statuses.values().stream().allMatch(s -> s == Status.DROPPED);
+    }
+
+    /**
+     * Get outcomes
+     *
+     * @return outcome per fully-qualified table name, in the order the tables were given
+     */
+    public Map<String, Status> getStatuses() {
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * Get error message
+     *
+     * @param table fully-qualified table name
+     * @return error message, or null if there was no error
+     */
+    public String getMessage(String table) {
+        return messages.get(table);
+    }
+
+    /**
+     * Describe outcome of a single table
+     *
+     * @param table fully-qualified table name
+     * @return e.g., 'S.T: FAILED (table is referenced by S.U)'
+     */
+    public String describe(String table) {
+        final String message = messages.get(table);
+        return table + ": " + statuses.get(table) + (message == null ? "" : " (" + message + ")");
+    }
+}
@@ -0,0 +1,200 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.startup.StartupPhase;
+import com.coyotesong.testcontainers.containers.startup.StartupTimer;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDBC database container for an embedded database, e.g., H2 or SQLite.
+ * <p>
+ * The database can be used in-process, without a docker container. start() then only
+ * runs the test query and the init script, so startup takes milliseconds.
+ * <p>
+ * An in-memory database is named after the container, so every connection sees the
+ * same data, and an anchor connection keeps it open until the container is stopped.
+ *
+ * @param <SELF> this class
+ */
+public abstract class EmbeddedJdbcDatabaseContainer<SELF extends EmbeddedJdbcDatabaseContainer<SELF>>
+    extends TimedJdbcDatabaseContainer<SELF> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddedJdbcDatabaseContainer.class);
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final String inMemoryDatabaseName;
+
+    private boolean inProcessMode;
+
+    private volatile boolean inProcessRunning;
+
+    private Connection anchor;
+
+    /**
+     * Constructor
+     *
+     * @param dockerImageName image name
+     * @param name container name reported to the startup listeners
+     */
+    protected EmbeddedJdbcDatabaseContainer(final DockerImageName dockerImageName, final String name) {
+        super(dockerImageName, name);
+        this.inMemoryDatabaseName = name.toLowerCase() + "_" + SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Is this an in-memory database?
+     *
+     * @return 'true' if this is an in-memory database
+     */
+    public abstract boolean isInMemoryDatabase();
+
+    /**
+     * Get the name of the in-memory database. It is unique within the JVM.
+     *
+     * @return database name
+     */
+    protected String getInMemoryDatabaseName() {
+        return inMemoryDatabaseName;
+    }
+
+    /**
+     * Is the database used in-process, without a docker container?
+     *
+     * @return 'true' if in-process mode is enabled
+     */
+    public boolean isInProcessMode() {
+        return inProcessMode;
+    }
+
+    /**
+     * Use the embedded database in-process. start() does not create a docker
+     * container - it only runs the test query and the init script - so startup takes
+     * milliseconds. The JdbcDatabaseContainer API and the matchers work as before,
+     * but there are no container logs, ports or files.
+     *
+     * @return this object
+     */
+    public SELF withInProcessMode() {
+        return withInProcessMode(true);
+    }
+
+    /**
+     * Specify whether the database is used in-process, e.g., to switch to a docker
+     * container without changing the test code.
+     *
+     * @param inProcessMode 'true' to skip the docker container
+     * @return this object
+     */
+    public SELF withInProcessMode(final boolean inProcessMode) {
+        this.inProcessMode = inProcessMode;
+        return self();
+    }
+
+    @Override
+    public void start() {
+        if (inProcessMode) {
+            startInProcess();
+            return;
+        }
+        super.start();
+    }
+
+    /**
+     * Start in-process. There are no PULL, CREATE, START or WAIT phases.
+     */
+    private void startInProcess() {
+        if (inProcessRunning) {
+            return;
+        }
+        final StartupTimer startupTimer = getStartupTimer();
+        startupTimer.begin();
+        try {
+            startupTimer.time(
+                StartupPhase.FIRST_QUERY,
+                () -> {
+                    try {
+                        openAnchor();
+                        executeTestQuery();
+                    } catch (SQLException e) {
+                        throw new ContainerLaunchException("unable to open in-process database: " + getJdbcUrl(), e);
+                    }
+                }
+            );
+            runInitScriptIfRequired();
+        } catch (RuntimeException e) {
+            closeAnchor();
+            startupTimer.failed(e);
+            throw e;
+        }
+        inProcessRunning = true;
+        startupTimer.completed();
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        // before the init script runs
+        try {
+            openAnchor();
+        } catch (SQLException e) {
+            throw new ContainerLaunchException("unable to open in-memory database: " + getJdbcUrl(), e);
+        }
+        super.containerIsStarted(containerInfo);
+    }
+
+    @Override
+    public boolean isRunning() {
+        if (inProcessMode) {
+            return inProcessRunning;
+        }
+        return super.isRunning();
+    }
+
+    @Override
+    public void stop() {
+        if (inProcessMode) {
+            releaseMatcherResources();
+            closeAnchor();
+            inProcessRunning = false;
+            return;
+        }
+        super.stop();
+        closeAnchor();
+    }
+
+    /**
+     * Close the anchor connection. Subclasses may drop the database first, e.g., if
+     * it would otherwise outlive its last connection.
+     *
+     * @param anchor anchor connection
+     * @throws SQLException database error
+     */
+    protected void closeInMemoryDatabase(Connection anchor) throws SQLException {
+        anchor.close();
+    }
+
+    private synchronized void openAnchor() throws SQLException {
+        if (anchor == null && isInMemoryDatabase()) {
+            anchor = createConnection("");
+        }
+    }
+
+    private synchronized void closeAnchor() {
+        if (anchor != null) {
+            try {
+                closeInMemoryDatabase(anchor);
+            } catch (SQLException e) {
+                LOG.warn("unable to close in-memory database {}: {}", getInMemoryDatabaseName(), e.getMessage());
+            } finally {
+                anchor = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Count the rows with 'SELECT COUNT(*)'. This is exact but its cost grows with the
+ * size of the table on most databases.
+ */
+public class ExactRowCountStrategy implements RowCountStrategy {
+
+    /** Source of exact counts */
+    public static final String SOURCE = "COUNT(*)";
+
+    @Override
+    public RowCount count(Connection conn, TableName table, Dialect dialect) throws SQLException {
+        try (
+            Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table.getQualifiedName(dialect))
+        ) {
+            rs.next();
+            return new RowCount(rs.getLong(1), true, SOURCE);
+        }
+    }
+}
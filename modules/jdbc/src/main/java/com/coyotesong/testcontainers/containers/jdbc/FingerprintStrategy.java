@@ -0,0 +1,29 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Database-specific mechanism used to compute table fingerprints.
+ * <p>
+ * Implementations should compute the fingerprint on the database where possible
+ * so that only a few bytes are transferred, regardless of the table size.
+ * <p>
+ * Containers provide a strategy via
+ * {@link com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher#getFingerprintStrategy()}.
+ */
+public interface FingerprintStrategy {
+
+    /**
+     * Compute the fingerprint of a table, or of the rows that satisfy a condition
+     *
+     * @param conn database connection
+     * @param table fully-qualified table name
+     * @param condition SQL condition, e.g., a key range. May be null.
+     * @param fetchSize JDBC fetch size, if the rows are read by the client
+     * @return fingerprint
+     * @throws SQLException an error occurred
+     */
+    TableFingerprint fingerprint(Connection conn, String table, String condition, int fetchSize)
+        throws SQLException;
+}
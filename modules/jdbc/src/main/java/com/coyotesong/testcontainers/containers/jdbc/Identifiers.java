@@ -0,0 +1,124 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identifier normalization for a dialect.
+ * <p>
+ * Identifiers given by the caller are parsed as SQL would: a quoted identifier is
+ * taken literally (less its quotes, with doubled quotes replaced by a single quote)
+ * and an unquoted identifier is converted to the case stored in the catalog.
+ * <p>
+ * Table names read from the catalog are interned, so each table is represented by a
+ * single TableName until the container's catalog cache is invalidated, e.g., after
+ * DDL issued by a matcher. Reloading the catalog when its time-to-live expires then
+ * reuses the existing objects and their cached qualified names instead of allocating
+ * new ones for every row. Lookups use the strings returned by the driver directly and
+ * do not allocate a key.
+ */
+public final class Identifiers {
+
+    private final Dialect dialect;
+
+    // catalog -> schema -> table. HashMap permits null catalog and schema names.
+    private final Map<String, Map<String, Map<String, TableName>>> tables = new HashMap<>();
+
+    // catalog and schema names, shared by every table in them
+    private final Map<String, String> names = new HashMap<>();
+
+    private int size;
+
+    // DatabaseMetaData.getTables() returns the rows ordered by catalog and schema
+    private String lastCatalogName;
+
+    private String lastSchemaName;
+
+    private Map<String, TableName> lastSchema;
+
+    /**
+     * Constructor
+     *
+     * @param dialect database dialect
+     */
+    Identifiers(Dialect dialect) {
+        this.dialect = dialect;
+    }
+
+    /**
+     * Normalize an identifier given by the caller. It may be a DatabaseMetaData
+     * pattern, e.g., 'BENCH\_%'.
+     *
+     * @param identifier quoted or unquoted identifier. May be null.
+     * @return identifier as stored in the catalog
+     */
+    public String normalize(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+        final String unquoted = dialect.unquote(identifier);
+        // unquote() returns the same instance if the identifier is not quoted
+        return (unquoted != identifier) ? unquoted : dialect.foldCase(identifier);
+    }
+
+    /**
+     * Get the interned table name
+     *
+     * @param catalogName catalog name, as reported by the driver. May be null.
+     * @param schemaName schema name, as reported by the driver. May be null.
+     * @param tableName table name, as reported by the driver
+     * @return table name
+     */
+    public TableName intern(String catalogName, String schemaName, String tableName) {
+        synchronized (tables) {
+            Map<String, TableName> schema = lastSchema;
+            if (schema == null || !Objects.equals(schemaName, lastSchemaName) || !Objects.equals(catalogName, lastCatalogName)) {
+                schema = tables
+                    .computeIfAbsent(catalogName, k -> new HashMap<>())
+                    .computeIfAbsent(schemaName, k -> new HashMap<>());
+                lastCatalogName = catalogName;
+                lastSchemaName = schemaName;
+                lastSchema = schema;
+            }
+            TableName name = schema.get(tableName);
+            if (name == null) {
+                name = new TableName(interned(catalogName), interned(schemaName), tableName);
+                schema.put(tableName, name);
+                size++;
+            }
+            return name;
+        }
+    }
+
+    /**
+     * Get number of interned table names
+     *
+     * @return number of table names
+     */
+    public int size() {
+        synchronized (tables) {
+            return size;
+        }
+    }
+
+    /**
+     * Discard the interned table names, e.g., when the catalog cache is invalidated
+     */
+    public void clear() {
+        synchronized (tables) {
+            tables.clear();
+            names.clear();
+            size = 0;
+            lastSchema = null;
+        }
+    }
+
+    private String interned(String name) {
+        if (name == null) {
+            return null;
+        }
+        final String existing = names.putIfAbsent(name, name);
+        return (existing != null) ? existing : name;
+    }
+}
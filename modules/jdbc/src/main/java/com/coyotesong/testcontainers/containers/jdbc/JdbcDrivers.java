@@ -0,0 +1,210 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer.NoDriverFoundException;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.sql.Driver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of JDBC driver instances shared by all containers.
+ * <p>
+ * JdbcDatabaseContainer instantiates its driver once per container. This cache keeps
+ * one instance per driver coordinates, i.e., the driver class name and the classpath
+ * it is loaded from, so later containers reuse the loaded and JIT-compiled driver.
+ * <p>
+ * A shared driver is loaded by the application's class loader. An isolated driver is
+ * loaded by a child class loader that can only see the driver's own jar (plus any extra
+ * jars) and the JDK. Isolation keeps drivers that register for several URL prefixes,
+ * e.g., H2, from answering DriverManager requests meant for another driver - DriverManager
+ * ignores drivers that are not visible to the caller's class loader. The price is that
+ * vendor-specific classes, e.g., VerticaConnection, cannot be used with an isolated driver.
+ * <p>
+ * If the driver cannot be loaded in isolation, e.g., it has undeclared dependencies, the
+ * shared driver is used instead.
+ */
+public final class JdbcDrivers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcDrivers.class);
+
+    private static final Map<Coordinates, Driver> DRIVERS = new ConcurrentHashMap<>();
+
+    private JdbcDrivers() {}
+
+    /**
+     * Get the driver loaded by the application's class loader
+     *
+     * @param driverClassName driver class name
+     * @return cached driver instance
+     * @throws NoDriverFoundException the driver class is not on the classpath
+     */
+    public static Driver shared(String driverClassName) {
+        return cached(new Coordinates(driverClassName, Collections.emptyList()));
+    }
+
+    /**
+     * Get the driver loaded by an isolated class loader
+     *
+     * @param driverClassName driver class name
+     * @param extraClasspath additional jars required by the driver
+     * @return cached driver instance
+     * @throws NoDriverFoundException the driver class is not on the classpath
+     */
+    public static Driver isolated(String driverClassName, URL... extraClasspath) {
+        final List<String> classpath = new ArrayList<>();
+        classpath.add(locate(driverClassName).toExternalForm());
+        for (URL url : extraClasspath) {
+            classpath.add(url.toExternalForm());
+        }
+        return cached(new Coordinates(driverClassName, classpath));
+    }
+
+    /**
+     * Get the driver, isolated or not
+     *
+     * @param driverClassName driver class name
+     * @param isolated 'true' for an isolated driver
+     * @return cached driver instance
+     * @throws NoDriverFoundException the driver class is not on the classpath
+     */
+    public static Driver get(String driverClassName, boolean isolated) {
+        return isolated ? isolated(driverClassName) : shared(driverClassName);
+    }
+
+    /**
+     * Is the driver loaded by an isolated class loader?
+     *
+     * @param driver driver
+     * @return 'true' if the driver was loaded in isolation
+     */
+    public static boolean isIsolated(Driver driver) {
+        return driver.getClass().getClassLoader() instanceof IsolatedClassLoader;
+    }
+
+    private static Driver cached(Coordinates coordinates) {
+        final Driver existing = DRIVERS.get(coordinates);
+        if (existing != null) {
+            return existing;
+        }
+        // not computeIfAbsent() - loading an isolated driver may fall back to the shared one
+        final Driver driver = load(coordinates);
+        final Driver previous = DRIVERS.putIfAbsent(coordinates, driver);
+        return (previous != null) ? previous : driver;
+    }
+
+    private static Driver load(Coordinates coordinates) {
+        if (coordinates.classpath.isEmpty()) {
+            return newInstance(coordinates.className, applicationClassLoader());
+        }
+        final URL[] urls = new URL[coordinates.classpath.size()];
+        try {
+            for (int i = 0; i < urls.length; i++) {
+                urls[i] = new URL(coordinates.classpath.get(i));
+            }
+        } catch (MalformedURLException e) {
+            throw new NoDriverFoundException("invalid driver classpath: " + coordinates.classpath, e);
+        }
+        try {
+            final Driver driver = newInstance(coordinates.className, new IsolatedClassLoader(urls));
+            LOG.debug("loaded {} in isolation from {}", coordinates.className, coordinates.classpath);
+            return driver;
+        } catch (NoDriverFoundException | LinkageError e) {
+            LOG.warn("unable to load {} in isolation, using the shared driver: {}", coordinates.className, e.getMessage());
+            return shared(coordinates.className);
+        }
+    }
+
+    private static Driver newInstance(String className, ClassLoader loader) {
+        try {
+            return (Driver) Class.forName(className, true, loader).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new NoDriverFoundException("Could not get Driver: " + className, e);
+        }
+    }
+
+    /**
+     * Find the jar or directory containing the driver, without initializing it
+     *
+     * @param className driver class name
+     * @return location
+     */
+    private static URL locate(String className) {
+        try {
+            final Class<?> clazz = Class.forName(className, false, applicationClassLoader());
+            final CodeSource source = clazz.getProtectionDomain().getCodeSource();
+            if (source == null || source.getLocation() == null) {
+                throw new NoDriverFoundException("unable to locate driver classpath: " + className, null);
+            }
+            return source.getLocation();
+        } catch (ClassNotFoundException e) {
+            throw new NoDriverFoundException("Could not get Driver: " + className, e);
+        }
+    }
+
+    private static ClassLoader applicationClassLoader() {
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return (context != null) ? context : JdbcDrivers.class.getClassLoader();
+    }
+
+    /**
+     * Class loader that sees the driver's jars and the JDK (including java.sql) but not the application
+     */
+    private static final class IsolatedClassLoader extends URLClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        IsolatedClassLoader(URL[] urls) {
+            // the system class loader's parent is the extension (Java 8) or platform (Java 9+) class loader
+            super(urls, ClassLoader.getSystemClassLoader().getParent());
+        }
+    }
+
+    /**
+     * Driver class name and classpath. URLs are compared as strings - URL.equals() may resolve host names.
+     */
+    private static final class Coordinates {
+
+        private final String className;
+
+        private final List<String> classpath;
+
+        Coordinates(String className, List<String> classpath) {
+            this.className = Objects.requireNonNull(className, "className");
+            this.classpath = classpath;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Coordinates)) {
+                return false;
+            }
+            final Coordinates that = (Coordinates) o;
+            return className.equals(that.className) && classpath.equals(that.classpath);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * className.hashCode() + classpath.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return className + classpath;
+        }
+    }
+}
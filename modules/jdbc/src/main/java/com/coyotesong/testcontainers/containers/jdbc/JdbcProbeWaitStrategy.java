@@ -0,0 +1,114 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.time.Duration;
+
+/**
+ * Wait strategy that polls the database with the container's test query.
+ * <p>
+ * Each attempt opens a single connection - there is no retry within the attempt - and
+ * the interval between attempts doubles from the initial interval up to the maximum
+ * interval. This is normally combined with the container's log-based strategy using a
+ * FirstReadyWaitStrategy since the database often accepts queries before, or
+ * after, the log message appears.
+ * <p>
+ * The wait strategy target must be a container that implements JdbcDatabaseContainerMatcher.
+ */
+public class JdbcProbeWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcProbeWaitStrategy.class);
+
+    /** Default interval before the second attempt */
+    public static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofMillis(100);
+
+    /** Default maximum interval between attempts */
+    public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(2);
+
+    private Duration initialInterval = DEFAULT_INITIAL_INTERVAL;
+
+    private Duration maxInterval = DEFAULT_MAX_INTERVAL;
+
+    private int attempts;
+
+    /**
+     * Specify the interval before the second attempt
+     *
+     * @param initialInterval initial interval
+     * @return this object
+     */
+    public JdbcProbeWaitStrategy withInitialInterval(Duration initialInterval) {
+        this.initialInterval = initialInterval;
+        return this;
+    }
+
+    /**
+     * Specify the maximum interval between attempts
+     *
+     * @param maxInterval maximum interval
+     * @return this object
+     */
+    public JdbcProbeWaitStrategy withMaxInterval(Duration maxInterval) {
+        this.maxInterval = maxInterval;
+        return this;
+    }
+
+    /**
+     * Get the number of attempts made by the most recent wait
+     *
+     * @return number of attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        if (!(waitStrategyTarget instanceof JdbcDatabaseContainerMatcher)) {
+            throw new IllegalArgumentException(
+                "JdbcProbeWaitStrategy requires a JdbcDatabaseContainerMatcher: " +
+                waitStrategyTarget.getClass().getName()
+            );
+        }
+        final JdbcDatabaseContainerMatcher<?> container = (JdbcDatabaseContainerMatcher<?>) waitStrategyTarget;
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+        long interval = initialInterval.toMillis();
+        attempts = 0;
+        Exception lastFailure = null;
+        while (true) {
+            attempts++;
+            try {
+                container.executeTestQuery();
+                LOG.debug("test query succeeded after {} attempts", attempts);
+                return;
+            } catch (Exception e) {
+                lastFailure = e;
+                LOG.trace("test query failed: {}", e.getMessage());
+            }
+
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(interval, Math.max(1L, remaining / 1_000_000L)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("interrupted while waiting for the test query", e);
+            }
+            interval = Math.min(interval * 2, maxInterval.toMillis());
+        }
+        throw new ContainerLaunchException(
+            String.format(
+                "Timed out after %s and %d attempts waiting for the test query to succeed",
+                startupTimeout,
+                attempts
+            ),
+            lastFailure
+        );
+    }
+}
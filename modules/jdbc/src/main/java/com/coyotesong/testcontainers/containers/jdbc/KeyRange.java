@@ -0,0 +1,72 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Closed range of integer key values, [low, high], and the number of rows
+ * each table has in that range.
+ */
+public final class KeyRange {
+
+    private final long low;
+
+    private final long high;
+
+    private final long actualRows;
+
+    private final long expectedRows;
+
+    /**
+     * Constructor
+     *
+     * @param low lowest key value, inclusive
+     * @param high highest key value, inclusive
+     * @param actualRows number of rows in the range in the actual table
+     * @param expectedRows number of rows in the range in the expected table
+     */
+    KeyRange(long low, long high, long actualRows, long expectedRows) {
+        this.low = low;
+        this.high = high;
+        this.actualRows = actualRows;
+        this.expectedRows = expectedRows;
+    }
+
+    /**
+     * Get lowest key value
+     *
+     * @return lowest key value, inclusive
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Get highest key value
+     *
+     * @return highest key value, inclusive
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Get number of rows in the range in the actual table
+     *
+     * @return number of rows
+     */
+    public long getActualRows() {
+        return actualRows;
+    }
+
+    /**
+     * Get number of rows in the range in the expected table
+     *
+     * @return number of rows
+     */
+    public long getExpectedRows() {
+        return expectedRows;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%d, %d]: %,d rows, expected %,d", low, high, actualRows, expectedRows);
+    }
+}
@@ -0,0 +1,149 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Compiled SQL LIKE pattern, as used by DatabaseMetaData search patterns.
+ * <p>
+ * '%' matches any sequence of characters and '_' matches any single character.
+ * Either may be escaped with the driver's search string escape. Matching is
+ * case-sensitive, like the catalog queries performed by most drivers, unless
+ * the pattern is compiled for a database with case-insensitive identifiers.
+ */
+public final class LikePattern {
+
+    private static final char ANY = '\uFFFF';
+
+    private static final char ONE = '\uFFFE';
+
+    private final String pattern;
+
+    /** pattern with the wildcards replaced by sentinels and the escapes removed */
+    private final char[] compiled;
+
+    private final boolean literal;
+
+    private final boolean caseInsensitive;
+
+    /**
+     * Constructor
+     *
+     * @param pattern LIKE pattern
+     * @param escape search string escape, may be null or empty
+     * @param caseInsensitive 'true' if matching ignores case
+     */
+    private LikePattern(String pattern, String escape, boolean caseInsensitive) {
+        this.pattern = pattern;
+        this.caseInsensitive = caseInsensitive;
+        final char esc = (escape == null || escape.isEmpty()) ? 0 : escape.charAt(0);
+
+        final StringBuilder sb = new StringBuilder(pattern.length());
+        boolean wildcards = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (esc != 0 && c == esc && i + 1 < pattern.length()) {
+                sb.append(pattern.charAt(++i));
+            } else if (c == '%') {
+                sb.append(ANY);
+                wildcards = true;
+            } else if (c == '_') {
+                sb.append(ONE);
+                wildcards = true;
+            } else {
+                sb.append(caseInsensitive ? Character.toUpperCase(c) : c);
+            }
+        }
+        this.compiled = sb.toString().toCharArray();
+        this.literal = !wildcards;
+    }
+
+    /**
+     * Compile pattern
+     *
+     * @param pattern LIKE pattern. A null pattern matches everything.
+     * @param escape search string escape, may be null or empty
+     * @param caseInsensitive 'true' if matching ignores case
+     * @return compiled pattern
+     */
+    public static LikePattern compile(String pattern, String escape, boolean caseInsensitive) {
+        return new LikePattern(pattern == null ? "%" : pattern, escape, caseInsensitive);
+    }
+
+    /**
+     * Compile case-sensitive pattern
+     *
+     * @param pattern LIKE pattern. A null pattern matches everything.
+     * @param escape search string escape, may be null or empty
+     * @return compiled pattern
+     */
+    public static LikePattern compile(String pattern, String escape) {
+        return compile(pattern, escape, false);
+    }
+
+    /**
+     * Does the pattern contain wildcards?
+     *
+     * @return 'true' if the pattern only matches a single value
+     */
+    public boolean isLiteral() {
+        return literal;
+    }
+
+    /**
+     * Does matching ignore case?
+     *
+     * @return 'true' if matching ignores case
+     */
+    public boolean isCaseInsensitive() {
+        return caseInsensitive;
+    }
+
+    /**
+     * Get the value matched by a literal pattern
+     *
+     * @return the pattern without escapes, in upper case if matching ignores case
+     */
+    public String getLiteral() {
+        return new String(compiled);
+    }
+
+    /**
+     * Does the value match the pattern?
+     *
+     * @param value value, may be null
+     * @return 'true' if the value matches
+     */
+    public boolean matches(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        // iterative wildcard match - backtrack to the most recent '%' on mismatch
+        int p = 0;
+        int v = 0;
+        int star = -1;
+        int mark = 0;
+        while (v < value.length()) {
+            final char c = caseInsensitive ? Character.toUpperCase(value.charAt(v)) : value.charAt(v);
+            if (p < compiled.length && (compiled[p] == ONE || compiled[p] == c)) {
+                p++;
+                v++;
+            } else if (p < compiled.length && compiled[p] == ANY) {
+                star = p++;
+                mark = v;
+            } else if (star >= 0) {
+                p = star + 1;
+                v = ++mark;
+            } else {
+                return false;
+            }
+        }
+        while (p < compiled.length && compiled[p] == ANY) {
+            p++;
+        }
+        return p == compiled.length;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
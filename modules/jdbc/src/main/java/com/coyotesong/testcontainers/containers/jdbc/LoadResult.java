@@ -0,0 +1,75 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk load
+ */
+public final class LoadResult {
+
+    private final String table;
+
+    private final long rowCount;
+
+    private final long elapsedNanos;
+
+    /**
+     * Constructor
+     *
+     * @param table table name
+     * @param rowCount number of rows loaded
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public LoadResult(String table, long rowCount, long elapsedNanos) {
+        this.table = table;
+        this.rowCount = rowCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get table name
+     *
+     * @return table name
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Get number of rows loaded
+     *
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get elapsed time
+     *
+     * @return elapsed time
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * Get load rate
+     *
+     * @return rows per second
+     */
+    public double getRowsPerSecond() {
+        return (elapsedNanos == 0L) ? 0.0 : rowCount * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "LoadResult[table=%s, rows=%d, elapsed=%d ms, rows/sec=%.0f]",
+            table,
+            rowCount,
+            elapsedNanos / 1_000_000L,
+            getRowsPerSecond()
+        );
+    }
+}
@@ -0,0 +1,365 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streaming comparison of query results.
+ * <p>
+ * Only the current row of each side is held in memory. Values are compared by their
+ * canonical form: numbers by value (so 1, 1L and 1.0 are equal), binary values by
+ * content, and everything else by its string representation.
+ * <p>
+ * The UNORDERED mode sums a 128-bit hash of each row. The sum does not depend on the
+ * order of the rows but does count duplicates, so the two sides match if they contain
+ * the same rows the same number of times (barring a hash collision).
+ */
+public final class ResultComparator {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long NULL_HASH = 0x9e3779b97f4a7c15L;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ResultComparator() {}
+
+    /**
+     * Compare a result set with expected rows
+     *
+     * @param actual actual rows
+     * @param expected expected rows, e.g., a list of lists or a lazily generated sequence
+     * @param options comparison options
+     * @return result
+     * @throws SQLException an error occurred
+     */
+    public static CompareResult compare(ResultSet actual, Iterable<? extends List<?>> expected, CompareOptions options)
+        throws SQLException {
+        return compare(new ResultSetRows(actual), new IterableRows(expected.iterator()), options);
+    }
+
+    /**
+     * Compare two result sets
+     *
+     * @param actual actual rows
+     * @param expected expected rows
+     * @param options comparison options
+     * @return result
+     * @throws SQLException an error occurred
+     */
+    public static CompareResult compare(ResultSet actual, ResultSet expected, CompareOptions options)
+        throws SQLException {
+        return compare(new ResultSetRows(actual), new ResultSetRows(expected), options);
+    }
+
+    private static CompareResult compare(Rows actual, Rows expected, CompareOptions options) throws SQLException {
+        return (options.getMode() == CompareOptions.Mode.ORDERED)
+            ? compareOrdered(actual, expected, options.getMaxDifferences())
+            : compareUnordered(actual, expected);
+    }
+
+    private static CompareResult compareOrdered(Rows actual, Rows expected, int maxDifferences) throws SQLException {
+        final CompareResult result = new CompareResult();
+        long actualRows = 0L;
+        long expectedRows = 0L;
+        int differences = 0;
+        while (differences < maxDifferences) {
+            final boolean hasActual = actual.next();
+            final boolean hasExpected = expected.next();
+            if (hasActual) {
+                actualRows++;
+            }
+            if (hasExpected) {
+                expectedRows++;
+            }
+            if (!hasActual && !hasExpected) {
+                result.setRows(actualRows, expectedRows);
+                return result;
+            }
+            final long row = Math.max(actualRows, expectedRows);
+            if (!hasActual) {
+                result.addDifference(String.format("row %d: missing, expected %s", row, describe(expected)));
+                differences++;
+                continue;
+            }
+            if (!hasExpected) {
+                result.addDifference(String.format("row %d: unexpected %s", row, describe(actual)));
+                differences++;
+                continue;
+            }
+            if (actual.columns() != expected.columns()) {
+                result.addDifference(
+                    String.format("row %d: %d columns, expected %d", row, actual.columns(), expected.columns())
+                );
+                result.setRows(actualRows, expectedRows);
+                result.setTruncated(true);
+                return result;
+            }
+            for (int i = 1; i <= actual.columns(); i++) {
+                final String a = canonical(actual.get(i));
+                final String e = canonical(expected.get(i));
+                if ((a == null) ? (e != null) : !a.equals(e)) {
+                    result.addDifference(
+                        String.format("row %d: %s is %s, expected %s", row, actual.label(i), quote(a), quote(e))
+                    );
+                    differences++;
+                    break;
+                }
+            }
+        }
+        result.setRows(actualRows, expectedRows);
+        result.setTruncated(true);
+        return result;
+    }
+
+    private static CompareResult compareUnordered(Rows actual, Rows expected) throws SQLException {
+        final CompareResult result = new CompareResult();
+        final long[] actualHash = new long[2];
+        final long[] expectedHash = new long[2];
+        final long actualRows = hashAll(actual, actualHash);
+        final long expectedRows = hashAll(expected, expectedHash);
+        result.setRows(actualRows, expectedRows);
+        if (actualRows != expectedRows) {
+            result.addDifference(String.format("%,d rows, expected %,d", actualRows, expectedRows));
+        } else if (actualHash[0] != expectedHash[0] || actualHash[1] != expectedHash[1]) {
+            result.addDifference(String.format("%,d rows with different content", actualRows));
+        }
+        return result;
+    }
+
+    /**
+     * Sum the order-independent row hashes of a result set
+     *
+     * @param rs result set
+     * @param sums two independent 64-bit sums
+     * @return number of rows
+     * @throws SQLException an error occurred
+     */
+    static long hashAll(ResultSet rs, long[] sums) throws SQLException {
+        return hashAll(new ResultSetRows(rs), sums);
+    }
+
+    /**
+     * Sum the row hashes
+     *
+     * @param rows rows
+     * @param sums two independent 64-bit sums
+     * @return number of rows
+     * @throws SQLException an error occurred
+     */
+    private static long hashAll(Rows rows, long[] sums) throws SQLException {
+        long count = 0L;
+        while (rows.next()) {
+            long h1 = FNV_OFFSET;
+            long h2 = NULL_HASH;
+            for (int i = 1; i <= rows.columns(); i++) {
+                final long h = hash(canonical(rows.get(i)));
+                h1 = (h1 ^ h) * FNV_PRIME;
+                h2 = Long.rotateLeft(h2 + h * 0xc2b2ae3d27d4eb4fL, 31) * 0x9e3779b97f4a7c15L;
+            }
+            sums[0] += mix(h1);
+            sums[1] += mix(h2);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Hash a canonical value with 64-bit FNV-1a
+     *
+     * @param value canonical value, may be null
+     * @return hash
+     */
+    static long hash(String value) {
+        if (value == null) {
+            return NULL_HASH;
+        }
+        long h = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * MurmurHash3 finalizer - spreads the bits before the row hashes are summed
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Get the canonical form of a value
+     *
+     * @param value value returned by the driver or given by the caller
+     * @return canonical form, or null
+     * @throws SQLException an error occurred reading a LOB
+     */
+    static String canonical(Object value) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (
+            value instanceof Integer ||
+            value instanceof Long ||
+            value instanceof Short ||
+            value instanceof Byte ||
+            value instanceof BigInteger
+        ) {
+            return value.toString();
+        }
+        if (value instanceof BigDecimal) {
+            return canonical((BigDecimal) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            final double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return Double.toString(d);
+            }
+            // Float.toString() avoids the binary expansion, e.g., 0.1f is 0.1 and not 0.100000001...
+            return canonical((value instanceof Float) ? new BigDecimal(value.toString()) : BigDecimal.valueOf(d));
+        }
+        if (value instanceof byte[]) {
+            return hex((byte[]) value);
+        }
+        if (value instanceof Clob) {
+            final Clob clob = (Clob) value;
+            return clob.getSubString(1, (int) clob.length());
+        }
+        if (value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            return hex(blob.getBytes(1, (int) blob.length()));
+        }
+        return value.toString();
+    }
+
+    private static String canonical(BigDecimal value) {
+        return (value.signum() == 0) ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static String hex(byte[] bytes) {
+        final char[] chars = new char[2 + 2 * bytes.length];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 + 2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[3 + 2 * i] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private static String quote(String value) {
+        return (value == null) ? "NULL" : ("'" + value + "'");
+    }
+
+    private static String describe(Rows rows) throws SQLException {
+        final StringBuilder sb = new StringBuilder("(");
+        for (int i = 1; i <= rows.columns(); i++) {
+            if (i > 1) {
+                sb.append(", ");
+            }
+            sb.append(quote(canonical(rows.get(i))));
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * A stream of rows
+     */
+    private interface Rows {
+        boolean next() throws SQLException;
+
+        int columns() throws SQLException;
+
+        Object get(int column) throws SQLException;
+
+        String label(int column) throws SQLException;
+    }
+
+    private static final class ResultSetRows implements Rows {
+
+        private final ResultSet rs;
+
+        private ResultSetMetaData metadata;
+
+        private int columns = -1;
+
+        ResultSetRows(ResultSet rs) {
+            this.rs = rs;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            return rs.next();
+        }
+
+        @Override
+        public int columns() throws SQLException {
+            if (columns < 0) {
+                metadata = rs.getMetaData();
+                columns = metadata.getColumnCount();
+            }
+            return columns;
+        }
+
+        @Override
+        public Object get(int column) throws SQLException {
+            return rs.getObject(column);
+        }
+
+        @Override
+        public String label(int column) throws SQLException {
+            columns();
+            return metadata.getColumnLabel(column);
+        }
+    }
+
+    private static final class IterableRows implements Rows {
+
+        private final Iterator<? extends List<?>> iterator;
+
+        private List<?> row;
+
+        IterableRows(Iterator<? extends List<?>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            row = iterator.hasNext() ? iterator.next() : null;
+            return row != null;
+        }
+
+        @Override
+        public int columns() {
+            return row.size();
+        }
+
+        @Override
+        public Object get(int column) {
+            return row.get(column - 1);
+        }
+
+        @Override
+        public String label(int column) {
+            return "column " + column;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Number of rows in a table, either exact or estimated from statistics.
+ */
+public final class RowCount {
+
+    private final long value;
+
+    private final boolean exact;
+
+    private final String source;
+
+    /**
+     * Constructor
+     *
+     * @param value number of rows
+     * @param exact 'true' if the value is exact
+     * @param source where the value came from, e.g., 'COUNT(*)'
+     */
+    public RowCount(long value, boolean exact, String source) {
+        this.value = value;
+        this.exact = exact;
+        this.source = source;
+    }
+
+    /**
+     * Get number of rows
+     *
+     * @return number of rows
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Is the number of rows exact?
+     *
+     * @return 'true' if exact, 'false' if estimated
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Get where the value came from
+     *
+     * @return source, e.g., 'COUNT(*)' or the statistics table
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Is the number of rows consistent with the bounds? An estimate is consistent if
+     * any value within the tolerance of the estimate is within the bounds.
+     *
+     * @param min minimum number of rows, inclusive
+     * @param max maximum number of rows, inclusive
+     * @param tolerance relative tolerance of estimates, e.g., 0.1 for +/- 10%. Ignored if the value is exact.
+     * @return 'true' if the number of rows is consistent with the bounds
+     */
+    public boolean isWithin(long min, long max, double tolerance) {
+        if (exact) {
+            return min <= value && value <= max;
+        }
+        final double low = Math.floor(value * (1.0 - tolerance));
+        final double high = Math.ceil(value * (1.0 + tolerance));
+        return min <= high && low <= max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%,d rows (%s)", exact ? "" : "~", value, source);
+    }
+}
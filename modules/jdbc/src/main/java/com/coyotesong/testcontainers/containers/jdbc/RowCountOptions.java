@@ -0,0 +1,104 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+/**
+ * Options for counting the rows in a table.
+ * <p>
+ * The EXACT mode uses 'SELECT COUNT(*)'. The ESTIMATE mode uses the container's
+ * RowCountStrategy, which typically reads the catalog statistics in constant time.
+ * An estimate satisfies a bound if any value within the tolerance of the estimate does.
+ * <p>
+ * Instances are immutable. The 'with' methods return a modified copy.
+ */
+public final class RowCountOptions {
+
+    /** How the rows are counted */
+    public enum Mode {
+        /** Count every row */
+        EXACT,
+        /** Estimate from statistics */
+        ESTIMATE,
+    }
+
+    /** Default relative tolerance of estimates */
+    public static final double DEFAULT_TOLERANCE = 0.1;
+
+    /** Exact count */
+    public static final RowCountOptions EXACT = new RowCountOptions(Mode.EXACT, 0.0, null);
+
+    /** Estimate with the default tolerance */
+    public static final RowCountOptions ESTIMATE = new RowCountOptions(Mode.ESTIMATE, DEFAULT_TOLERANCE, null);
+
+    private final Mode mode;
+
+    private final double tolerance;
+
+    private final RowCountStrategy strategy;
+
+    /**
+     * Constructor
+     *
+     * @param mode counting mode
+     * @param tolerance relative tolerance of estimates
+     * @param strategy estimation strategy, or null for the container's strategy
+     */
+    private RowCountOptions(Mode mode, double tolerance, RowCountStrategy strategy) {
+        this.mode = mode;
+        this.tolerance = tolerance;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Get counting mode
+     *
+     * @return counting mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get relative tolerance of estimates
+     *
+     * @return tolerance, e.g., 0.1 for +/- 10%
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Get estimation strategy
+     *
+     * @return estimation strategy, or null for the container's strategy
+     */
+    public RowCountStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Specify relative tolerance of estimates
+     *
+     * @param tolerance tolerance, e.g., 0.1 for +/- 10%
+     * @return new options
+     */
+    public RowCountOptions withTolerance(double tolerance) {
+        if (!(tolerance >= 0.0)) {
+            throw new IllegalArgumentException("tolerance must not be negative: " + tolerance);
+        }
+        return new RowCountOptions(mode, tolerance, strategy);
+    }
+
+    /**
+     * Specify estimation strategy. This implies the ESTIMATE mode.
+     *
+     * @param strategy estimation strategy
+     * @return new options
+     */
+    public RowCountOptions withStrategy(RowCountStrategy strategy) {
+        return new RowCountOptions(Mode.ESTIMATE, tolerance, strategy);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RowCountOptions[mode=%s, tolerance=%s, strategy=%s]", mode, tolerance, strategy);
+    }
+}
@@ -0,0 +1,25 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Mechanism used to count the rows in a table.
+ * <p>
+ * Database-specific strategies estimate the number of rows from the catalog statistics
+ * in constant time. Containers provide a strategy via
+ * {@link com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher#getRowCountStrategy()}.
+ */
+public interface RowCountStrategy {
+
+    /**
+     * Count the rows in a table
+     *
+     * @param conn database connection
+     * @param table table name, as reported by DatabaseMetaData.getTables()
+     * @param dialect database dialect, used to quote the table name
+     * @return number of rows
+     * @throws SQLException an error occurred
+     */
+    RowCount count(Connection conn, TableName table, Dialect dialect) throws SQLException;
+}
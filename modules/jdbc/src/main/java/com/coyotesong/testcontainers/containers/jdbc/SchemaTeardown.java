@@ -0,0 +1,414 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drops every table in a schema in foreign-key order.
+ * <p>
+ * The foreign keys are read with DatabaseMetaData.getImportedKeys() and used to build a
+ * dependency graph. A table is dropped once every table that references it has been
+ * dropped, so independent tables are dropped concurrently over several pooled
+ * connections. Each worker drops the tables that are ready in batches.
+ * <p>
+ * Tables involved in a reference cycle, and the tables they reference, can't be ordered.
+ * They are dropped last. With {@link DropOptions#isCascade()} they are dropped with CASCADE
+ * where supported. Otherwise the foreign keys between them are dropped first, where the
+ * database supports it.
+ * <p>
+ * If a table can't be dropped then the tables it references are not attempted.
+ * <p>
+ * The container's {@link Dialect} determines whether tables may be dropped concurrently
+ * and may provide a faster foreign-key query than getImportedKeys().
+ */
+public class SchemaTeardown {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaTeardown.class);
+
+    /** Default maximum number of tables dropped by a single statement or batch */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    private static final String[] TABLE_TYPES = { "TABLE" };
+
+    private final ConnectionPool pool;
+
+    private final Dialect dialect;
+
+    private final int parallelism;
+
+    private final DropOptions options;
+
+    private final int batchSize;
+
+    /**
+     * Constructor
+     *
+     * @param pool connection pool
+     * @param dialect database dialect
+     * @param parallelism maximum number of concurrent workers. Each worker leases one connection.
+     * @param options drop options
+     */
+    public SchemaTeardown(ConnectionPool pool, Dialect dialect, int parallelism, DropOptions options) {
+        this(pool, dialect, parallelism, options, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param pool connection pool
+     * @param dialect database dialect
+     * @param parallelism maximum number of concurrent workers. Each worker leases one connection.
+     * @param options drop options
+     * @param batchSize maximum number of tables dropped by a single statement or batch
+     */
+    public SchemaTeardown(ConnectionPool pool, Dialect dialect, int parallelism, DropOptions options, int batchSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.pool = pool;
+        this.dialect = dialect;
+        this.parallelism = Math.min(parallelism, pool.getSettings().getMaxSize());
+        this.options = options;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Drop every table in the schema
+     *
+     * @param catalogName catalog name, may be null
+     * @param schemaPattern schema name pattern, may be null
+     * @return per-table outcome
+     * @throws SQLException unable to read the catalog
+     */
+    public DropResult drop(String catalogName, String schemaPattern) throws SQLException {
+        final Map<TableName, Set<TableName>> references;
+        try (Connection conn = pool.lease()) {
+            references = loadReferences(conn.getMetaData(), dialect, catalogName, schemaPattern);
+        }
+        final int workers = dialect.supportsConcurrentDdl() ? parallelism : 1;
+
+        final Plan plan = new Plan(references);
+        final DropResult result = new DropResult();
+        if (!plan.ordered.isEmpty()) {
+            runWorkers(plan, Math.min(workers, plan.ordered.size()), result);
+        }
+        if (!plan.cyclic.isEmpty()) {
+            LOG.debug("{} tables are in or referenced by a reference cycle", plan.cyclic.size());
+            dropCyclic(plan, result);
+        }
+        return result;
+    }
+
+    /**
+     * Read tables and their foreign-key references
+     *
+     * @param metadata database metadata
+     * @param dialect database dialect
+     * @param catalogName catalog name, may be null
+     * @param schemaPattern schema name pattern, may be null
+     * @return map of table to the tables it references, in catalog order
+     * @throws SQLException unable to read the catalog
+     */
+    static Map<TableName, Set<TableName>> loadReferences(
+        DatabaseMetaData metadata,
+        Dialect dialect,
+        String catalogName,
+        String schemaPattern
+    ) throws SQLException {
+        final Map<TableName, Set<TableName>> references = new LinkedHashMap<>();
+        try (ResultSet rs = metadata.getTables(catalogName, schemaPattern, "%", TABLE_TYPES)) {
+            while (rs.next()) {
+                references.put(new TableName(rs.getString(1), rs.getString(2), rs.getString(3)), new LinkedHashSet<>());
+            }
+        }
+
+        if (dialect.loadReferences(metadata.getConnection(), references)) {
+            return references;
+        }
+
+        for (Map.Entry<TableName, Set<TableName>> entry : references.entrySet()) {
+            final TableName table = entry.getKey();
+            try (
+                ResultSet rs = metadata.getImportedKeys(
+                    table.getCatalogName(),
+                    table.getSchemaName(),
+                    table.getTableName()
+                )
+            ) {
+                while (rs.next()) {
+                    final TableName parent = new TableName(rs.getString(1), rs.getString(2), rs.getString(3));
+                    // self-references and references to other schemas don't affect the order
+                    if (!parent.equals(table) && references.containsKey(parent)) {
+                        entry.getValue().add(parent);
+                    }
+                }
+            }
+        }
+        return references;
+    }
+
+    private void runWorkers(Plan plan, int workers, DropResult result) throws SQLException {
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+            final Thread thread = new Thread(r, "schema-teardown");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    work(plan, result);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            plan.abort();
+            throw new SQLException("interrupted while dropping tables", e);
+        } catch (ExecutionException e) {
+            plan.abort();
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("unable to drop tables: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Worker: drop ready tables until every ordered table has been processed
+     */
+    private void work(Plan plan, DropResult result) throws SQLException, InterruptedException {
+        try (Connection conn = pool.lease()) {
+            final List<TableName> batch = new ArrayList<>(batchSize);
+            while (plan.take(batch, batchSize)) {
+                final List<String> names = new ArrayList<>(batch.size());
+                final DropResult partial = new DropResult();
+                for (TableName table : batch) {
+                    if (plan.isBlocked(table)) {
+                        partial.record(table.getQualifiedName(dialect), DropResult.Status.NOT_ATTEMPTED, null);
+                    } else {
+                        names.add(table.getQualifiedName(dialect));
+                    }
+                }
+                try {
+                    partial.merge(TableDropper.drop(conn, dialect, names, options));
+                } finally {
+                    synchronized (result) {
+                        result.merge(partial);
+                    }
+                    for (TableName table : batch) {
+                        plan.complete(table, partial.getStatuses().get(table.getQualifiedName(dialect)) == DropResult.Status.DROPPED);
+                    }
+                }
+            }
+        }
+    }
+
+    private void dropCyclic(Plan plan, DropResult result) throws SQLException {
+        final List<String> names = new ArrayList<>(plan.cyclic.size());
+        try (Connection conn = pool.lease()) {
+            final boolean cascade = options.isCascade() && dialect.supportsDropCascade();
+            final Set<TableName> failed = (cascade || !dialect.supportsDropForeignKey())
+                ? Collections.emptySet()
+                : dropForeignKeys(conn, plan.cyclic, result);
+            for (TableName table : plan.cyclic) {
+                if (!failed.contains(table)) {
+                    names.add(table.getQualifiedName(dialect));
+                }
+            }
+            // no batching: with CASCADE the first drop may remove tables later in the list
+            result.merge(TableDropper.drop(conn, dialect, names, options.withBatched(false)));
+        }
+    }
+
+    /**
+     * Drop the foreign keys between the tables so they can be dropped in any order.
+     *
+     * @param conn database connection
+     * @param tables tables in or referenced by a reference cycle
+     * @param result receives the tables whose foreign keys could not be dropped
+     * @return tables whose foreign keys could not be dropped
+     * @throws SQLException unable to read the catalog
+     */
+    private Set<TableName> dropForeignKeys(Connection conn, List<TableName> tables, DropResult result)
+        throws SQLException {
+        final Set<TableName> members = new HashSet<>(tables);
+        final Set<TableName> failed = new HashSet<>();
+        final DatabaseMetaData metadata = conn.getMetaData();
+        for (TableName table : tables) {
+            final Set<String> constraints = new LinkedHashSet<>();
+            try (
+                ResultSet rs = metadata.getImportedKeys(
+                    table.getCatalogName(),
+                    table.getSchemaName(),
+                    table.getTableName()
+                )
+            ) {
+                while (rs.next()) {
+                    final TableName parent = new TableName(rs.getString(1), rs.getString(2), rs.getString(3));
+                    if (!parent.equals(table) && members.contains(parent) && rs.getString(12) != null) {
+                        constraints.add(rs.getString(12));
+                    }
+                }
+            }
+            final String name = table.getQualifiedName(dialect);
+            try (Statement stmt = conn.createStatement()) {
+                for (String constraint : constraints) {
+                    stmt.execute(dialect.getDropForeignKeySql(name, constraint));
+                }
+            } catch (SQLException e) {
+                result.record(name, DropResult.Status.FAILED, e.getMessage());
+                failed.add(table);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Dependency graph and scheduling state
+     */
+    private static final class Plan {
+
+        /** tables referenced by each table */
+        private final Map<TableName, Set<TableName>> references;
+
+        /** number of tables that still reference each table */
+        private final Map<TableName, AtomicInteger> pending = new HashMap<>();
+
+        /** tables that can be dropped in reference order */
+        private final Set<TableName> ordered = new LinkedHashSet<>();
+
+        /** tables in or referenced by a cycle */
+        private final List<TableName> cyclic = new ArrayList<>();
+
+        private final Deque<TableName> ready = new ArrayDeque<>();
+
+        private final Set<TableName> blocked = new LinkedHashSet<>();
+
+        private int remaining;
+
+        private boolean aborted;
+
+        private Plan(Map<TableName, Set<TableName>> references) {
+            this.references = references;
+            for (TableName table : references.keySet()) {
+                pending.put(table, new AtomicInteger());
+            }
+            for (Set<TableName> parents : references.values()) {
+                for (TableName parent : parents) {
+                    pending.get(parent).incrementAndGet();
+                }
+            }
+
+            // Kahn's algorithm on a copy of the counts - whatever is left is in or behind a cycle
+            final Map<TableName, Integer> counts = new HashMap<>();
+            final Deque<TableName> queue = new ArrayDeque<>();
+            for (Map.Entry<TableName, AtomicInteger> entry : pending.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().get());
+            }
+            for (TableName table : references.keySet()) {
+                if (counts.get(table) == 0) {
+                    queue.add(table);
+                    ready.add(table);
+                }
+            }
+            while (!queue.isEmpty()) {
+                final TableName table = queue.remove();
+                ordered.add(table);
+                for (TableName parent : references.get(table)) {
+                    final int count = counts.get(parent) - 1;
+                    counts.put(parent, count);
+                    if (count == 0) {
+                        queue.add(parent);
+                    }
+                }
+            }
+            for (TableName table : references.keySet()) {
+                if (!ordered.contains(table)) {
+                    cyclic.add(table);
+                }
+            }
+            this.remaining = ordered.size();
+        }
+
+        /**
+         * Wait for ready tables
+         *
+         * @param batch receives the ready tables
+         * @param max maximum number of tables
+         * @return 'false' if there is no more work
+         */
+        private synchronized boolean take(List<TableName> batch, int max) throws InterruptedException {
+            batch.clear();
+            while (ready.isEmpty() && remaining > 0 && !aborted) {
+                wait();
+            }
+            if (aborted) {
+                return false;
+            }
+            while (!ready.isEmpty() && batch.size() < max) {
+                batch.add(ready.remove());
+            }
+            return !batch.isEmpty();
+        }
+
+        private synchronized boolean isBlocked(TableName table) {
+            return blocked.contains(table);
+        }
+
+        /**
+         * Record that a table has been processed and release the tables it references
+         *
+         * @param table table
+         * @param dropped 'true' if the table was dropped
+         */
+        private synchronized void complete(TableName table, boolean dropped) {
+            for (TableName parent : references.get(table)) {
+                if (!dropped) {
+                    // the remaining reference will prevent the drop
+                    blocked.add(parent);
+                }
+                if (pending.get(parent).decrementAndGet() == 0 && ordered.contains(parent)) {
+                    ready.add(parent);
+                }
+            }
+            remaining--;
+            notifyAll();
+        }
+
+        private synchronized void abort() {
+            aborted = true;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named snapshots of a single container.
+ * <p>
+ * The snapshot files are kept in a private temporary directory that is deleted
+ * when the store is closed.
+ */
+public class SnapshotStore implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private final Map<String, Path> snapshots = new LinkedHashMap<>();
+
+    private SnapshotStrategy strategy;
+
+    private Path directory;
+
+    /** suffix of the next snapshot file. Names are never reused, even after a snapshot is deleted. */
+    private long sequence;
+
+    /**
+     * Get strategy explicitly set for this container
+     *
+     * @return snapshot strategy, or null to use the container's default strategy
+     */
+    public synchronized SnapshotStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Set strategy for this container
+     *
+     * @param strategy snapshot strategy, or null to use the container's default strategy
+     */
+    public synchronized void setStrategy(SnapshotStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Does a snapshot exist?
+     *
+     * @param name snapshot name
+     * @return 'true' if the snapshot exists
+     */
+    public synchronized boolean contains(String name) {
+        return snapshots.containsKey(name);
+    }
+
+    /**
+     * Get the file that holds a snapshot, allocating it if necessary.
+     *
+     * @param name snapshot name
+     * @return snapshot file. It may not exist yet.
+     */
+    public synchronized Path getFile(String name) {
+        return snapshots.computeIfAbsent(name, n -> {
+            try {
+                if (directory == null) {
+                    directory = Files.createTempDirectory("snapshots");
+                }
+                return directory.resolve("snapshot-" + sequence++);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Delete a snapshot
+     *
+     * @param name snapshot name
+     */
+    public synchronized void delete(String name) {
+        final Path file = snapshots.remove(name);
+        if (file != null) {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Delete all snapshots
+     */
+    @Override
+    public synchronized void close() {
+        snapshots.values().forEach(SnapshotStore::deleteQuietly);
+        snapshots.clear();
+        if (directory != null) {
+            deleteQuietly(directory);
+            directory = null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.debug("unable to delete '{}': {}", path, e.getMessage());
+        }
+    }
+}
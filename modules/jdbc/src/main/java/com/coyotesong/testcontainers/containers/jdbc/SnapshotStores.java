@@ -0,0 +1,44 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry of per-container snapshots.
+ * <p>
+ * Containers are tracked by identity since their configuration may change
+ * before they are started.
+ */
+public final class SnapshotStores {
+
+    private static final Map<JdbcDatabaseContainerMatcher<?>, SnapshotStore> STORES = new IdentityHashMap<>();
+
+    private SnapshotStores() {}
+
+    /**
+     * Get snapshot store for container, creating it if necessary
+     *
+     * @param container database container
+     * @return snapshot store
+     */
+    public static synchronized SnapshotStore get(JdbcDatabaseContainerMatcher<?> container) {
+        return STORES.computeIfAbsent(container, c -> new SnapshotStore());
+    }
+
+    /**
+     * Delete all snapshots for container, if any
+     *
+     * @param container database container
+     */
+    public static void remove(JdbcDatabaseContainerMatcher<?> container) {
+        final SnapshotStore store;
+        synchronized (SnapshotStores.class) {
+            store = STORES.remove(container);
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+}
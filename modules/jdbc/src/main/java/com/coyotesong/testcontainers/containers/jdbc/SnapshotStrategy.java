@@ -0,0 +1,36 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Database-specific mechanism used to capture and restore the state of a database.
+ * <p>
+ * A snapshot is written to a local file. The file is owned by the caller - the strategy
+ * must not delete it. Restoring a snapshot replaces the entire contents of the database,
+ * including tables created after the snapshot was taken.
+ * <p>
+ * Containers provide a default strategy via
+ * {@link com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher#getDefaultSnapshotStrategy()}.
+ */
+public interface SnapshotStrategy {
+
+    /**
+     * Capture the current state of the database
+     *
+     * @param conn database connection
+     * @param file snapshot file. It may not exist yet.
+     * @throws SQLException unable to create snapshot
+     */
+    void snapshot(Connection conn, Path file) throws SQLException;
+
+    /**
+     * Replace the current state of the database with a snapshot
+     *
+     * @param conn database connection
+     * @param file snapshot file
+     * @throws SQLException unable to restore snapshot
+     */
+    void restore(Connection conn, Path file) throws SQLException;
+}
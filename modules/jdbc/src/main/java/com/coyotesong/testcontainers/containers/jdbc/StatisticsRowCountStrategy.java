@@ -0,0 +1,85 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Estimate the number of rows from the catalog statistics.
+ * <p>
+ * Subclasses provide a query that returns the estimate in the first column of the
+ * first row. By default the query takes the schema and table names as parameters. The rows are
+ * counted with 'SELECT COUNT(*)' instead if the query fails or returns no estimate,
+ * e.g., because the statistics have not been collected yet.
+ */
+public abstract class StatisticsRowCountStrategy implements RowCountStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsRowCountStrategy.class);
+
+    private final RowCountStrategy fallback = new ExactRowCountStrategy();
+
+    /**
+     * Get the statistics query
+     *
+     * @param table table name
+     * @param dialect database dialect, e.g., to quote identifiers
+     * @return query
+     */
+    protected abstract String getQuery(TableName table, Dialect dialect);
+
+    /**
+     * Set the query parameters. The default sets the schema name (may be null)
+     * and the table name.
+     *
+     * @param stmt statistics query
+     * @param table table name
+     * @throws SQLException an error occurred
+     */
+    protected void setParameters(PreparedStatement stmt, TableName table) throws SQLException {
+        stmt.setString(1, table.getSchemaName());
+        stmt.setString(2, table.getTableName());
+    }
+
+    /**
+     * Get the name of the statistics used, e.g., the catalog table
+     *
+     * @return source
+     */
+    protected abstract String getSource();
+
+    /**
+     * Convert the value returned by the query to a number of rows
+     *
+     * @param rs result set positioned on the first row
+     * @return number of rows, or null if there is no estimate
+     * @throws SQLException an error occurred
+     */
+    protected Long getEstimate(ResultSet rs) throws SQLException {
+        final long value = rs.getLong(1);
+        return rs.wasNull() ? null : value;
+    }
+
+    @Override
+    public RowCount count(Connection conn, TableName table, Dialect dialect) throws SQLException {
+        Long estimate = null;
+        try (PreparedStatement stmt = conn.prepareStatement(getQuery(table, dialect))) {
+            setParameters(stmt, table);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    estimate = getEstimate(rs);
+                }
+            }
+        } catch (SQLException e) {
+            LOG.debug("unable to read {} for {}: {}", getSource(), table.getQualifiedName(), e.getMessage());
+        }
+        if (estimate == null) {
+            LOG.debug("no statistics for {}, using {}", table.getQualifiedName(), ExactRowCountStrategy.SOURCE);
+            return fallback.count(conn, table, dialect);
+        }
+        return new RowCount(estimate, false, getSource());
+    }
+}
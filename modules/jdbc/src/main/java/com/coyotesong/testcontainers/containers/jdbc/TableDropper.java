@@ -0,0 +1,206 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Drops tables using the fastest mechanism the database supports.
+ * <p>
+ * The SQL and the capabilities of the database are provided by the container's {@link Dialect}.
+ * <p>
+ * In batched mode the tables are dropped with a single multi-table DROP statement for
+ * databases that accept one, otherwise with a JDBC batch if the driver supports batch
+ * updates. If the multi-table DROP fails the tables are dropped one at a time to
+ * determine which table caused the failure.
+ * <p>
+ * In transactional mode all tables are dropped in a single transaction if DDL is
+ * transactional, and the transaction is rolled back if any table could not be dropped
+ * or an unexpected error occurs.
+ */
+public final class TableDropper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableDropper.class);
+
+    private TableDropper() {}
+
+    /**
+     * Drop tables
+     *
+     * @param conn database connection
+     * @param dialect database dialect
+     * @param tables fully-qualified table names
+     * @param options drop options
+     * @return per-table outcome
+     * @throws SQLException unable to create statement or manage the transaction
+     */
+    public static DropResult drop(Connection conn, Dialect dialect, List<String> tables, DropOptions options)
+        throws SQLException {
+        final DropResult result = new DropResult();
+        if (tables.isEmpty()) {
+            return result;
+        }
+
+        final boolean cascade = options.isCascade();
+        final boolean transactional = options.isTransactional() && dialect.supportsTransactionalDdl();
+
+        final boolean autoCommit = conn.getAutoCommit();
+        if (transactional) {
+            conn.setAutoCommit(false);
+        }
+        try (Statement stmt = conn.createStatement()) {
+            boolean done = false;
+            if (options.isBatched() && tables.size() > 1 && dialect.supportsMultiTableDrop()) {
+                done = dropAll(stmt, dialect, tables, cascade, result);
+                if (!done && transactional) {
+                    // some databases, e.g., PostgreSQL, reject every statement after an error
+                    conn.rollback();
+                }
+            }
+            if (!done && options.isBatched() && dialect.supportsBatchUpdates()) {
+                done = dropBatch(stmt, dialect, tables, cascade, result);
+                if (!done && transactional) {
+                    conn.rollback();
+                }
+            }
+            if (!done) {
+                dropEach(stmt, dialect, tables, cascade, transactional, result);
+            }
+
+            if (transactional) {
+                if (result.isSuccess()) {
+                    conn.commit();
+                } else {
+                    conn.rollback();
+                    for (String table : tables) {
+                        if (result.getStatuses().get(table) == DropResult.Status.DROPPED) {
+                            result.record(table, DropResult.Status.ROLLED_BACK, null);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            // restoring autocommit would commit the tables dropped so far
+            if (transactional) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+            }
+            throw e;
+        } finally {
+            if (transactional) {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Drop all tables with a single statement
+     *
+     * @return 'true' if the statement succeeded
+     */
+    private static boolean dropAll(
+        Statement stmt,
+        Dialect dialect,
+        List<String> tables,
+        boolean cascade,
+        DropResult result
+    ) {
+        try {
+            stmt.execute(dialect.getDropTableSql(tables, cascade));
+            for (String table : tables) {
+                result.record(table, DropResult.Status.DROPPED, null);
+            }
+            return true;
+        } catch (SQLException e) {
+            // the statement is atomic - retry one table at a time to find the culprit
+            LOG.debug("multi-table DROP failed, dropping tables individually: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drop all tables with a JDBC batch
+     *
+     * @return 'false' if the driver did not identify the failed statement
+     */
+    private static boolean dropBatch(
+        Statement stmt,
+        Dialect dialect,
+        List<String> tables,
+        boolean cascade,
+        DropResult result
+    ) throws SQLException {
+        for (String table : tables) {
+            stmt.addBatch(dialect.getDropTableSql(Collections.singletonList(table), cascade));
+        }
+        try {
+            stmt.executeBatch();
+            for (String table : tables) {
+                result.record(table, DropResult.Status.DROPPED, null);
+            }
+            return true;
+        } catch (BatchUpdateException e) {
+            // drivers either report every statement or stop at the first failure
+            final int[] counts = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+            if (counts.length >= tables.size() && Arrays.stream(counts).noneMatch(c -> c == Statement.EXECUTE_FAILED)) {
+                // e.g., sqlite-jdbc - the update counts do not identify the culprit
+                LOG.debug("batch DROP failed, dropping tables individually: {}", e.getMessage());
+                return false;
+            }
+            for (int i = 0; i < tables.size(); i++) {
+                final String table = tables.get(i);
+                if (i < counts.length) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        result.record(table, DropResult.Status.FAILED, e.getMessage());
+                    } else {
+                        result.record(table, DropResult.Status.DROPPED, null);
+                    }
+                } else if (i == counts.length) {
+                    result.record(table, DropResult.Status.FAILED, e.getMessage());
+                } else {
+                    result.record(table, DropResult.Status.NOT_ATTEMPTED, null);
+                }
+            }
+            return true;
+        } finally {
+            stmt.clearBatch();
+        }
+    }
+
+    private static void dropEach(
+        Statement stmt,
+        Dialect dialect,
+        List<String> tables,
+        boolean cascade,
+        boolean transactional,
+        DropResult result
+    ) {
+        boolean failed = false;
+        for (String table : tables) {
+            if (failed && transactional) {
+                // the transaction will be rolled back
+                result.record(table, DropResult.Status.NOT_ATTEMPTED, null);
+                continue;
+            }
+            try {
+                stmt.execute(dialect.getDropTableSql(Collections.singletonList(table), cascade));
+                result.record(table, DropResult.Status.DROPPED, null);
+            } catch (SQLException e) {
+                result.record(table, DropResult.Status.FAILED, e.getMessage());
+                failed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.util.Objects;
+
+/**
+ * Order-independent fingerprint of the rows in a table or part of a table.
+ * <p>
+ * Fingerprints are only comparable if they were computed with the same algorithm.
+ * Fingerprints computed on the database are not comparable with fingerprints
+ * computed on the client.
+ */
+public final class TableFingerprint {
+
+    private final String algorithm;
+
+    private final long rowCount;
+
+    private final String digest;
+
+    /**
+     * Constructor
+     *
+     * @param algorithm name of the algorithm used to compute the digest
+     * @param rowCount number of rows
+     * @param digest order-independent digest of the rows
+     */
+    public TableFingerprint(String algorithm, long rowCount, String digest) {
+        this.algorithm = Objects.requireNonNull(algorithm, "algorithm");
+        this.rowCount = rowCount;
+        this.digest = Objects.requireNonNull(digest, "digest");
+    }
+
+    /**
+     * Get name of the algorithm used to compute the digest
+     *
+     * @return algorithm name
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Get number of rows
+     *
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get digest
+     *
+     * @return order-independent digest of the rows
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Do the fingerprints describe the same rows?
+     *
+     * @param other fingerprint of the other table
+     * @return 'true' if the row counts and digests are the same
+     * @throws IllegalArgumentException the fingerprints were computed with different algorithms
+     */
+    public boolean matches(TableFingerprint other) {
+        if (!algorithm.equals(other.algorithm)) {
+            throw new IllegalArgumentException(
+                String.format("fingerprints use different algorithms: %s vs %s", algorithm, other.algorithm)
+            );
+        }
+        return rowCount == other.rowCount && digest.equals(other.digest);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableFingerprint)) {
+            return false;
+        }
+        final TableFingerprint that = (TableFingerprint) o;
+        return algorithm.equals(that.algorithm) && rowCount == that.rowCount && digest.equals(that.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(algorithm, rowCount, digest);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TableFingerprint[%s, rows=%d, digest=%s]", algorithm, rowCount, digest);
+    }
+}
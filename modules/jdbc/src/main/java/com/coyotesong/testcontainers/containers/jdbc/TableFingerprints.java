@@ -0,0 +1,175 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Compare tables via fingerprints.
+ * <p>
+ * The tables are compared by fingerprint first. If the fingerprints differ and the
+ * tables have an integer key, the key range is bisected to find the ranges that
+ * differ. A range is reported once it holds no more than CompareOptions.getFetchSize()
+ * keys, i.e., once the rows could be read in a single round trip. The ranges are closed,
+ * so the whole range of a BIGINT key can be bisected. Each step fingerprints
+ * both halves of a differing range, so a single differing row is found with about
+ * 4 * log2(keys / fetchSize) small queries.
+ * <p>
+ * The bisection only pays off if the fingerprints are computed on the database. With
+ * client-side fingerprints every step reads the rows again, and an ORDERED comparison
+ * is cheaper.
+ */
+public final class TableFingerprints {
+
+    private TableFingerprints() {}
+
+    /**
+     * Compare two tables
+     *
+     * @param conn database connection
+     * @param dialect database dialect, used to quote the key column
+     * @param strategy fingerprint strategy
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param keyColumn integer key column used to narrow down the differences, may be null
+     * @param options comparison options. The mode is ignored.
+     * @return result. The differences are the mismatched key ranges, if known.
+     * @throws SQLException an error occurred
+     */
+    public static CompareResult compare(
+        Connection conn,
+        Dialect dialect,
+        FingerprintStrategy strategy,
+        String actualTable,
+        String expectedTable,
+        String keyColumn,
+        CompareOptions options
+    ) throws SQLException {
+        final CompareResult result = new CompareResult();
+        final TableFingerprint[] fingerprints = fingerprint(conn, strategy, actualTable, expectedTable, null, options);
+        final TableFingerprint actual = fingerprints[0];
+        final TableFingerprint expected = fingerprints[1];
+        result.setRows(actual.getRowCount(), expected.getRowCount());
+        if (actual.matches(expected)) {
+            return result;
+        }
+        if (keyColumn == null) {
+            result.addDifference(
+                String.format("fingerprint %s, expected %s", actual.getDigest(), expected.getDigest())
+            );
+            return result;
+        }
+
+        final List<KeyRange> ranges = findMismatchedRanges(
+            conn,
+            dialect,
+            strategy,
+            actualTable,
+            expectedTable,
+            keyColumn,
+            options
+        );
+        for (KeyRange range : ranges) {
+            result.addDifference(keyColumn + " in " + range);
+        }
+        if (ranges.isEmpty()) {
+            // e.g., rows with a NULL key
+            result.addDifference(String.format("rows outside the %s ranges differ", keyColumn));
+        }
+        result.setTruncated(ranges.size() >= options.getMaxDifferences());
+        return result;
+    }
+
+    /**
+     * Find the key ranges where the tables differ
+     *
+     * @param conn database connection
+     * @param dialect database dialect, used to quote the key column
+     * @param strategy fingerprint strategy
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param keyColumn integer key column, quoted or unquoted
+     * @param options comparison options. At most CompareOptions.getMaxDifferences() ranges are returned.
+     * @return mismatched key ranges, in key order
+     * @throws SQLException an error occurred
+     */
+    public static List<KeyRange> findMismatchedRanges(
+        Connection conn,
+        Dialect dialect,
+        FingerprintStrategy strategy,
+        String actualTable,
+        String expectedTable,
+        String keyColumn,
+        CompareOptions options
+    ) throws SQLException {
+        final List<KeyRange> ranges = new ArrayList<>();
+        final String column = dialect.quote(dialect.getIdentifiers().normalize(keyColumn));
+        final long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+        updateBounds(conn, actualTable, column, bounds);
+        updateBounds(conn, expectedTable, column, bounds);
+        if (bounds[0] > bounds[1]) {
+            return ranges;
+        }
+
+        // closed ranges - the upper bound may be Long.MAX_VALUE
+        final Deque<long[]> pending = new ArrayDeque<>();
+        pending.push(new long[] { bounds[0], bounds[1] });
+        while (!pending.isEmpty() && ranges.size() < options.getMaxDifferences()) {
+            final long[] range = pending.pop();
+            final String condition = String.format("%s >= %d AND %s <= %d", column, range[0], column, range[1]);
+            final TableFingerprint[] fingerprints = fingerprint(conn, strategy, actualTable, expectedTable, condition, options);
+            final TableFingerprint actual = fingerprints[0];
+            final TableFingerprint expected = fingerprints[1];
+            if (actual.matches(expected)) {
+                continue;
+            }
+            // the difference is the number of keys less one. It may exceed Long.MAX_VALUE.
+            final long span = range[1] - range[0];
+            if (Long.compareUnsigned(span, options.getFetchSize()) < 0) {
+                ranges.add(new KeyRange(range[0], range[1], actual.getRowCount(), expected.getRowCount()));
+                continue;
+            }
+            final long middle = range[0] + (span >>> 1);
+            // depth-first, lower half first, so the ranges are found in key order
+            pending.push(new long[] { middle + 1, range[1] });
+            pending.push(new long[] { range[0], middle });
+        }
+        return ranges;
+    }
+
+    /**
+     * Compute the fingerprints of both tables with the same algorithm. The actual
+     * table is recomputed if the strategy fell back to another algorithm midway.
+     */
+    private static TableFingerprint[] fingerprint(
+        Connection conn,
+        FingerprintStrategy strategy,
+        String actualTable,
+        String expectedTable,
+        String condition,
+        CompareOptions options
+    ) throws SQLException {
+        TableFingerprint actual = strategy.fingerprint(conn, actualTable, condition, options.getFetchSize());
+        final TableFingerprint expected = strategy.fingerprint(conn, expectedTable, condition, options.getFetchSize());
+        if (!actual.getAlgorithm().equals(expected.getAlgorithm())) {
+            actual = strategy.fingerprint(conn, actualTable, condition, options.getFetchSize());
+        }
+        return new TableFingerprint[] { actual, expected };
+    }
+
+    private static void updateBounds(Connection conn, String table, String column, long[] bounds)
+        throws SQLException {
+        final String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s", column, column, table);
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next() && rs.getObject(1) != null) {
+                bounds[0] = Math.min(bounds[0], rs.getLong(1));
+                bounds[1] = Math.max(bounds[1], rs.getLong(2));
+            }
+        }
+    }
+}
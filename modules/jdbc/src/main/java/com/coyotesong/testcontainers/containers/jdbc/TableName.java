@@ -0,0 +1,163 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * Table name, as reported by DatabaseMetaData.getTables()
+ * <p>
+ * The qualified names are computed on first use and cached. Table names read from the
+ * catalog are interned by {@link Identifiers}, so the cached names survive reloads.
+ */
+public final class TableName {
+
+    private final String catalogName;
+
+    private final String schemaName;
+
+    private final String tableName;
+
+    private final int hash;
+
+    // racy single-check caches - like String.hash, a race only recomputes the same value
+    private String qualifiedName;
+
+    private Rendered rendered;
+
+    /**
+     * Constructor
+     *
+     * @param catalogName catalog name, may be null
+     * @param schemaName schema name, may be null
+     * @param tableName table name
+     */
+    public TableName(String catalogName, String schemaName, String tableName) {
+        this.catalogName = catalogName;
+        this.schemaName = schemaName;
+        this.tableName = tableName;
+        this.hash = 31 * (31 * Objects.hashCode(catalogName) + Objects.hashCode(schemaName)) + Objects.hashCode(tableName);
+    }
+
+    /**
+     * Get catalog name
+     *
+     * @return catalog name, may be null
+     */
+    public String getCatalogName() {
+        return catalogName;
+    }
+
+    /**
+     * Get schema name
+     *
+     * @return schema name, may be null
+     */
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    /**
+     * Get table name
+     *
+     * @return table name
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Get qualified name, e.g., 'schema.table', using '.' as the catalog separator
+     *
+     * @return qualified name
+     */
+    public String getQualifiedName() {
+        String name = qualifiedName;
+        if (name == null) {
+            name = qualify(catalogName, schemaName, tableName);
+            qualifiedName = name;
+        }
+        return name;
+    }
+
+    /**
+     * Get qualified name for use in SQL, using the dialect's catalog separator and quoting
+     * any component that is not a regular identifier
+     *
+     * @param dialect database dialect
+     * @return qualified name
+     */
+    public String getQualifiedName(Dialect dialect) {
+        final Rendered r = rendered;
+        if (r != null && r.dialect == dialect) {
+            return r.name;
+        }
+        final String name = dialect.qualify(
+            dialect.quoteIfNeeded(catalogName),
+            dialect.quoteIfNeeded(schemaName),
+            dialect.quoteIfNeeded(tableName)
+        );
+        rendered = new Rendered(dialect, name);
+        return name;
+    }
+
+    /**
+     * Build a qualified name, e.g., 'schema.table', using '.' as the catalog separator
+     *
+     * @param catalogName catalog name, may be null or blank
+     * @param schemaName schema name, may be null or blank
+     * @param tableName table name
+     * @return qualified name
+     */
+    public static String qualify(String catalogName, String schemaName, String tableName) {
+        if (StringUtils.isNotBlank(schemaName)) {
+            tableName = schemaName + "." + tableName;
+        }
+        if (StringUtils.isNotBlank(catalogName)) {
+            tableName = catalogName + "." + tableName;
+        }
+        return tableName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableName)) {
+            return false;
+        }
+        final TableName that = (TableName) o;
+        return (
+            hash == that.hash &&
+            Objects.equals(catalogName, that.catalogName) &&
+            Objects.equals(schemaName, that.schemaName) &&
+            Objects.equals(tableName, that.tableName)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "TableName[" + catalogName + ", " + schemaName + ", " + tableName + "]";
+    }
+
+    /**
+     * Qualified name rendered for a dialect
+     */
+    private static final class Rendered {
+
+        private final Dialect dialect;
+
+        private final String name;
+
+        private Rendered(Dialect dialect, String name) {
+            this.dialect = dialect;
+            this.name = name;
+        }
+    }
+}
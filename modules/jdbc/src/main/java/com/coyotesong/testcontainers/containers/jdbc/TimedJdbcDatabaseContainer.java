@@ -0,0 +1,209 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import com.coyotesong.testcontainers.containers.matchers.JdbcDatabaseContainerMatcher;
+import com.coyotesong.testcontainers.containers.reuse.ContainerFingerprint;
+import com.coyotesong.testcontainers.containers.startup.StartupListener;
+import com.coyotesong.testcontainers.containers.startup.StartupPhase;
+import com.coyotesong.testcontainers.containers.startup.StartupTimer;
+import com.coyotesong.testcontainers.containers.startup.StartupTimings;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * JDBC database container that records the duration of each startup phase.
+ * <p>
+ * The GenericContainer lifecycle hooks report the phases to a {@link StartupTimer}.
+ * The container waits with its wait strategy, then makes a single attempt at the test
+ * query. FIRST_QUERY is only recorded if that attempt succeeds, so a wait strategy
+ * that is satisfied by a log message does not make startup any slower.
+ * <p>
+ * The matchers' resources, e.g., the connection pool, are released when the container
+ * is stopped.
+ * <p>
+ * The connection properties are added to the container's {@link ContainerFingerprint}.
+ * <p>
+ * The JDBC driver is cached by {@link JdbcDrivers}, optionally in an isolated class loader.
+ *
+ * @param <SELF> this class
+ */
+public abstract class TimedJdbcDatabaseContainer<SELF extends TimedJdbcDatabaseContainer<SELF>>
+    extends JdbcDatabaseContainer<SELF>
+    implements JdbcDatabaseContainerMatcher<SELF>, ContainerFingerprint.Contributor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimedJdbcDatabaseContainer.class);
+
+    private final StartupTimer startupTimer;
+
+    private boolean isolatedDriver = false;
+
+    /**
+     * Constructor
+     *
+     * @param dockerImageName image name
+     * @param name container name reported to the startup listeners
+     */
+    protected TimedJdbcDatabaseContainer(final DockerImageName dockerImageName, final String name) {
+        super(dockerImageName);
+        this.startupTimer = new StartupTimer(name);
+    }
+
+    /**
+     * Get the startup timer, e.g., to time an in-process start
+     *
+     * @return startup timer
+     */
+    protected StartupTimer getStartupTimer() {
+        return startupTimer;
+    }
+
+    /**
+     * Get timings of the current or most recent startup
+     *
+     * @return startup timings
+     */
+    public StartupTimings getStartupTimings() {
+        return startupTimer.getTimings();
+    }
+
+    /**
+     * Add a listener for this container's startup timings
+     *
+     * @param listener startup listener
+     * @return this object
+     */
+    public SELF withStartupListener(final StartupListener listener) {
+        startupTimer.addListener(listener);
+        return self();
+    }
+
+    /**
+     * Add a log consumer. A consumer that is also a {@link StartupListener}, e.g., a
+     * SelectiveLogConsumer at the SOME logging level, is notified of this container's startup.
+     *
+     * @param consumer log consumer
+     * @return this object
+     */
+    @Override
+    public SELF withLogConsumer(final Consumer<OutputFrame> consumer) {
+        if (consumer instanceof StartupListener) {
+            startupTimer.addListener((StartupListener) consumer);
+        }
+        return super.withLogConsumer(consumer);
+    }
+
+    /**
+     * Is the JDBC driver loaded by an isolated class loader?
+     *
+     * @return 'true' if the driver is isolated
+     */
+    public boolean isIsolatedDriver() {
+        return isolatedDriver;
+    }
+
+    /**
+     * Specify whether the JDBC driver is loaded by an isolated class loader. Either way
+     * the driver instance is shared by all containers - see {@link JdbcDrivers}.
+     *
+     * @param isolatedDriver 'true' to isolate the driver
+     * @return this object
+     */
+    public SELF withIsolatedDriver(final boolean isolatedDriver) {
+        this.isolatedDriver = isolatedDriver;
+        return self();
+    }
+
+    @Override
+    public Driver getJdbcDriverInstance() throws NoDriverFoundException {
+        return JdbcDrivers.get(getDriverClassName(), isolatedDriver);
+    }
+
+    /**
+     * Add connection properties to the fingerprint used by the WarmContainerRegistry.
+     * They are not visible to GenericContainer.
+     *
+     * @param builder fingerprint builder
+     */
+    @Override
+    public void contributeTo(ContainerFingerprint.Builder builder) {
+        builder
+            .add("urlParameters", urlParameters)
+            .add("databaseName", getDatabaseName())
+            .add("username", getUsername())
+            .add("password", getPassword());
+    }
+
+    @Override
+    protected void configure() {
+        super.configure();
+
+        // resolve (and pull) the image now so the time is not attributed to creating the container
+        startupTimer.time(StartupPhase.PULL, this::getDockerImageName);
+    }
+
+    @Override
+    public void start() {
+        if (getContainerId() != null) {
+            return;
+        }
+        startupTimer.begin();
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            startupTimer.failed(e);
+            throw e;
+        }
+        startupTimer.completed();
+    }
+
+    @Override
+    protected void containerIsCreated(String containerId) {
+        super.containerIsCreated(containerId);
+        startupTimer.phaseCompleted(StartupPhase.CREATE);
+    }
+
+    @Override
+    public void copyFileToContainer(Transferable transferable, String containerPath) {
+        startupTimer.timeNested(StartupPhase.COPY, () -> super.copyFileToContainer(transferable, containerPath));
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo) {
+        super.containerIsStarting(containerInfo);
+        startupTimer.phaseCompleted(StartupPhase.START);
+    }
+
+    @Override
+    protected void waitUntilContainerStarted() {
+        getWaitStrategy().waitUntilReady(this);
+        startupTimer.phaseCompleted(StartupPhase.WAIT);
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        if (startupTimer.isActive()) {
+            // the wait strategy has succeeded - don't delay the start by retrying
+            try {
+                executeTestQuery();
+                startupTimer.phaseCompleted(StartupPhase.FIRST_QUERY);
+            } catch (SQLException | RuntimeException e) {
+                LOG.debug("{}: first query failed: {}", startupTimer.getContainerName(), e.getMessage());
+            }
+        }
+        super.containerIsStarted(containerInfo);
+    }
+
+    @Override
+    public void stop() {
+        releaseMatcherResources();
+        super.stop();
+    }
+}
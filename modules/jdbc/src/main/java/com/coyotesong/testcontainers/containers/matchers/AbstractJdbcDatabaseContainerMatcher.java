@@ -1,7 +1,18 @@
 package com.coyotesong.testcontainers.containers.matchers;
 
+import com.coyotesong.testcontainers.containers.jdbc.CatalogCache;
+import com.coyotesong.testcontainers.containers.jdbc.CatalogCaches;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPools;
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.Dialects;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.jdbc.DropResult;
+import com.coyotesong.testcontainers.containers.jdbc.Identifiers;
+import com.coyotesong.testcontainers.containers.jdbc.TableDropper;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
 import junit.framework.AssertionFailedError;
-import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
 
 import java.sql.Connection;
@@ -10,15 +21,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * Precondition: trop a table if it exists
+ * Base class for JdbcDatabaseContainer matchers.
+ *
+ * The matchers do not examine the item being matched - they examine the container.
+ * They extend BaseMatcher, not TypeSafeMatcher, since TypeSafeMatcher rejects the
+ * null item passed to a {@code Matcher<Void>} without calling matchesSafely().
  */
 public abstract class AbstractJdbcDatabaseContainerMatcher<
     SELF extends org.testcontainers.containers.JdbcDatabaseContainer<SELF> & JdbcDatabaseContainerMatcher<SELF>
 >
-    extends TypeSafeMatcher<Void> {
+    extends BaseMatcher<Void> {
 
     private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(
         AbstractJdbcDatabaseContainerMatcher.class
@@ -26,6 +42,8 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
 
     private final SELF container;
 
+    private Connection connection;
+
     private DatabaseMetaData metadata;
 
     /** List of tables found by 'listTables' */
@@ -40,6 +58,41 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
         this.container = container;
     }
 
+    /**
+     * Does the container satisfy this matcher?
+     *
+     * @param v ignored
+     * @return 'true' if the container satisfies the matcher
+     */
+    public abstract boolean matchesSafely(Void v);
+
+    /**
+     * Describe the reason the container did not satisfy this matcher
+     *
+     * @param v ignored
+     * @param description mismatch description
+     */
+    public abstract void describeMismatchSafely(Void v, Description description);
+
+    @Override
+    public boolean matches(Object item) {
+        return matchesSafely(null);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        describeMismatchSafely(null, description);
+    }
+
+    /**
+     * Get container
+     *
+     * @return JdbcDatabaseContainer
+     */
+    protected SELF getContainer() {
+        return container;
+    }
+
     /**
      * Get JDBC URL
      *
@@ -60,25 +113,36 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
      * @return fully-qualified table name
      */
     protected String normalizeTableName(String catalogName, String schemaName, String tableName) {
-        // FIXME - get catalog separator from metadata!
-        final StringBuilder sb = new StringBuilder();
-        if (StringUtils.isNotBlank(catalogName)) {
-            sb.append(catalogName);
-            sb.append(".");
+        // descriptions may be requested before the dialect is known - don't connect just for them
+        final Dialect dialect = Dialects.peek(container);
+        if (dialect != null) {
+            return dialect.qualify(catalogName, schemaName, tableName);
         }
-        if (StringUtils.isNotBlank(schemaName)) {
-            sb.append(schemaName);
-            sb.append(".");
-        }
-        sb.append(tableName);
+        return TableName.qualify(catalogName, schemaName, tableName);
+    }
 
-        return sb.toString();
+    /**
+     * Get the container's dialect. A pooled connection is leased the first time.
+     *
+     * @return dialect
+     */
+    protected Dialect getDialect() {
+        try {
+            if (connection != null && !connection.isClosed()) {
+                return Dialects.get(container, metadata);
+            }
+            return Dialects.get(container);
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to read database metadata at '%s': %s", container.getJdbcUrl(), e.getMessage())
+            );
+        }
     }
 
     /**
-     * Create new database connection
+     * Lease database connection from the container's connection pool
      *
-     * @return new database connection
+     * @return database connection. It is returned to the pool when closed.
      * @throws SQLException an error occurred
      */
     protected Connection createConnection() throws SQLException {
@@ -86,42 +150,59 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
     }
 
     /**
-     * Create new database connection
+     * Create database connection
+     *
+     * Connections without additional properties are leased from the container's
+     * connection pool. Connections with additional properties are always new
+     * physical connections.
      *
      * @param query connection properties
-     * @return new database connection
+     * @return database connection
      * @throws SQLException an error occurred
      */
     protected Connection createConnection(String query) throws SQLException {
-        final Connection conn = container.createConnection(query);
+        final Connection conn;
+        if (StringUtils.isEmpty(query)) {
+            conn = ConnectionPools.get(container).lease();
+        } else {
+            conn = container.createConnection(query);
+        }
+        this.connection = conn;
         this.metadata = conn.getMetaData();
 
         return conn;
     }
 
     /**
-     * Strip quotes from component of table name
-     * @param name component of table name
+     * Strip quotes from component of table name. Unquoted components are converted
+     * to the case stored in the catalog, e.g., 'orders' is 'ORDERS' in H2.
+     *
+     * @param name component of table name. May be null.
      * @return stripped component
      */
     protected String stripQuotes(String name) {
-        // FIXME - use metadata!
-        return name.matches("(\"|'|`).*(\"|'|`)") ? name.substring(1, name.length() - 1) : name;
+        if (name == null) {
+            return null;
+        }
+        return getDialect().getIdentifiers().normalize(name);
     }
 
     /**
      * Drop tables.
      *
+     * The container's catalog cache is invalidated afterwards.
+     *
      * @param conn database connection
      * @param tables list of fully-qualified table names
      */
     protected void dropTables(Connection conn, List<String> tables) {
         if (!tables.isEmpty()) {
+            final Dialect dialect = getDialect();
             try (Statement stmt = conn.createStatement()) {
                 for (String fqn : tables) {
                     try {
-                        // FIXME: add 'CASCADE' ?
-                        stmt.execute(String.format("DROP TABLE IF EXISTS %s", fqn));
+                        // use dropTables(conn, tables, options) for CASCADE
+                        stmt.execute(dialect.getDropTableSql(Collections.singletonList(fqn), false));
                     } catch (SQLException e) {
                         throw new AssertionFailedError(
                             String.format(
@@ -137,6 +218,32 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
                 throw new AssertionFailedError(
                     String.format("Unable to create statement at '%s': %s", container.getJdbcUrl(), e.getMessage())
                 );
+            } finally {
+                CatalogCaches.get(container).invalidate();
+            }
+        }
+    }
+
+    /**
+     * Drop tables, reporting the outcome for each table instead of failing.
+     *
+     * The container's catalog cache is invalidated afterwards.
+     *
+     * @param conn database connection
+     * @param tables list of fully-qualified table names
+     * @param options drop options, e.g., batching
+     * @return per-table outcome
+     */
+    protected DropResult dropTables(Connection conn, List<String> tables, DropOptions options) {
+        try {
+            return TableDropper.drop(conn, getDialect(), tables, options);
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to drop tables at '%s': %s", container.getJdbcUrl(), e.getMessage())
+            );
+        } finally {
+            if (!tables.isEmpty()) {
+                CatalogCaches.get(container).invalidate();
             }
         }
     }
@@ -144,6 +251,9 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
     /**
      * List matching tables
      *
+     * The tables are found in the container's catalog cache. The catalog is only
+     * read, using the current connection or a pooled connection, on a cache miss.
+     *
      * @param catalogName catalog name. May be null
      * @param schemaName schema name or pattern. May be null.
      * @param tableName table name or pattern. Must not be null.
@@ -151,16 +261,17 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
      */
     protected void listTables(String catalogName, String schemaName, String tableName) throws SQLException {
         tables.clear();
-        try (
-            ResultSet rs = metadata.getTables(
+        try {
+            final CatalogCache cache = CatalogCaches.get(container);
+            final List<TableName> found = cache.getTables(
                 stripQuotes(catalogName),
                 stripQuotes(schemaName),
                 stripQuotes(tableName),
-                null
-            )
-        ) {
-            while (rs.next()) {
-                tables.add(normalizeTableName(rs.getString(1), rs.getString(2), rs.getString(3)));
+                this::loadTables
+            );
+            final Dialect dialect = getDialect();
+            for (TableName table : found) {
+                tables.add(table.getQualifiedName(dialect));
             }
         } catch (SQLException e) {
             throw new AssertionFailedError(
@@ -173,4 +284,38 @@ public abstract class AbstractJdbcDatabaseContainerMatcher<
             );
         }
     }
+
+    /**
+     * Load all tables in catalog and schema
+     *
+     * @param catalogName catalog name. May be null.
+     * @param schemaName schema name or pattern. May be null.
+     * @return tables
+     * @throws SQLException an error occurred
+     */
+    private List<TableName> loadTables(String catalogName, String schemaName) throws SQLException {
+        if (connection != null && !connection.isClosed()) {
+            return loadTables(metadata, catalogName, schemaName);
+        }
+        try (Connection conn = createConnection()) {
+            return loadTables(conn.getMetaData(), catalogName, schemaName);
+        }
+    }
+
+    private List<TableName> loadTables(DatabaseMetaData metadata, String catalogName, String schemaName)
+        throws SQLException {
+        final CatalogCache cache = CatalogCaches.get(container);
+        final Dialect dialect = Dialects.get(container, metadata);
+        cache.setSearchStringEscape(dialect.getSearchStringEscape());
+        cache.setCaseInsensitive(dialect.isCatalogCaseInsensitive());
+        final Identifiers identifiers = dialect.getIdentifiers();
+        cache.setIdentifiers(identifiers);
+        final List<TableName> results = new ArrayList<>();
+        try (ResultSet rs = metadata.getTables(catalogName, schemaName, "%", null)) {
+            while (rs.next()) {
+                results.add(identifiers.intern(rs.getString(1), rs.getString(2), rs.getString(3)));
+            }
+        }
+        return results;
+    }
 }
@@ -1,8 +1,9 @@
 package com.coyotesong.testcontainers.containers.matchers;
 
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.jdbc.DropResult;
 import junit.framework.AssertionFailedError;
 import org.hamcrest.Description;
-import org.hamcrest.internal.SelfDescribingValue;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -26,6 +27,10 @@ public class DropTableIfExistsMatcher<
 
     private final boolean strict;
 
+    private final DropOptions options;
+
+    private DropResult result = new DropResult();
+
     /**
      * Constructor
      *
@@ -41,23 +46,58 @@ public class DropTableIfExistsMatcher<
         String schemaName,
         String tableName,
         boolean strict
+    ) {
+        this(container, catalogName, schemaName, tableName, strict, DropOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param catalogName catalog name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param strict if true then throw exception if more than one table matches
+     * @param options drop options, e.g., batching
+     */
+    protected DropTableIfExistsMatcher(
+        SELF container,
+        String catalogName,
+        String schemaName,
+        String tableName,
+        boolean strict,
+        DropOptions options
     ) {
         super(container);
         this.catalogName = catalogName;
         this.schemaName = schemaName;
         this.tableName = tableName;
         this.strict = strict;
+        this.options = options;
+    }
+
+    /**
+     * Get outcome of the most recent match
+     *
+     * @return per-table outcome
+     */
+    public DropResult getResult() {
+        return result;
     }
 
     @Override
     public void describeMismatchSafely(Void v, Description description) {
         if (strict && (tables.size() > 1)) {
             description.appendText("Too many matches " + tables.size());
-            description.appendList(
+            description.appendValueList(" - ", "\n - ", "\n", tables);
+        }
+        if (!result.isSuccess()) {
+            description.appendText("Unable to drop tables at '" + getJdbcUrl() + "'");
+            description.appendValueList(
                 " - ",
                 "\n - ",
                 "\n",
-                tables.stream().map(SelfDescribingValue::new).collect(Collectors.toList())
+                result.getStatuses().keySet().stream().map(result::describe).collect(Collectors.toList())
             );
         }
     }
@@ -70,10 +110,12 @@ public class DropTableIfExistsMatcher<
     @Override
     public boolean matchesSafely(Void v) {
         boolean success = true;
+        result = new DropResult();
         try (Connection conn = createConnection()) {
             listTables(catalogName, schemaName, tableName);
             if ((tables.size() == 1) || (tables.size() > 1 && !strict)) {
-                dropTables(conn, tables);
+                result = dropTables(conn, tables, options);
+                success = result.isSuccess();
             }
         } catch (SQLException e) {
             throw new AssertionFailedError(
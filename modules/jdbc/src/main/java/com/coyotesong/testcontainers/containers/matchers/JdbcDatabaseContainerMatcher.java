@@ -1,7 +1,38 @@
 package com.coyotesong.testcontainers.containers.matchers;
 
+import com.coyotesong.testcontainers.containers.jdbc.BatchInsertLoader;
+import com.coyotesong.testcontainers.containers.jdbc.BulkLoader;
+import com.coyotesong.testcontainers.containers.jdbc.CompareOptions;
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.Dialects;
+import com.coyotesong.testcontainers.containers.jdbc.CatalogCaches;
+import com.coyotesong.testcontainers.containers.jdbc.ClientFingerprintStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPool;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPools;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.jdbc.ExactRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.FingerprintStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.LoadResult;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountOptions;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStore;
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStores;
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableFingerprint;
 import org.hamcrest.Matcher;
 
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
 /**
  * Interface that adds Hamcrest matchers to JdbcDatabaseContainers
  */
@@ -23,6 +54,325 @@ public interface JdbcDatabaseContainerMatcher<
         return container;
     }
 
+    /**
+     * Get the query used to validate database connections.
+     *
+     * This is a protected method in JdbcDatabaseContainer.
+     *
+     * @return test query, e.g., 'SELECT 1'
+     */
+    String getTestQueryString();
+
+    /**
+     * Execute the test query on a new physical connection.
+     *
+     * This makes a single attempt. JdbcDatabaseContainer.createConnection() retries until
+     * the connect timeout expires, which defeats readiness probes. It does not use the
+     * connection pool since the pool may not exist yet.
+     *
+     * @throws SQLException an error occurred
+     */
+    default void executeTestQuery() throws SQLException {
+        final SELF container = getContainer();
+        final Properties info = new Properties();
+        if (container.getUsername() != null) {
+            info.put("user", container.getUsername());
+        }
+        if (container.getPassword() != null) {
+            info.put("password", container.getPassword());
+        }
+        final Connection conn = container.getJdbcDriverInstance().connect(container.getJdbcUrl(), info);
+        if (conn == null) {
+            throw new SQLException("driver does not accept URL: " + container.getJdbcUrl());
+        }
+        try (Connection c = conn; Statement stmt = c.createStatement()) {
+            stmt.execute(getTestQueryString());
+        }
+    }
+
+    /**
+     * Specify settings for the connection pool shared by the matchers.
+     *
+     * This must be called before the first matcher is used. The settings
+     * are discarded when the container is stopped.
+     *
+     * @param settings connection pool settings
+     * @return this object
+     */
+    default SELF withConnectionPoolSettings(ConnectionPoolSettings settings) {
+        ConnectionPools.configure(this, settings);
+        return getContainer();
+    }
+
+    /**
+     * Get the connection pool shared by the matchers, creating it if necessary.
+     *
+     * @return connection pool
+     */
+    default ConnectionPool getConnectionPool() {
+        return ConnectionPools.get(this);
+    }
+
+    /**
+     * Close the connection pool shared by the matchers.
+     */
+    default void closeConnectionPool() {
+        ConnectionPools.close(this);
+    }
+
+    /**
+     * Create the dialect used by the matchers to generate SQL.
+     *
+     * Containers override this method to report the capabilities that
+     * are not available from DatabaseMetaData, e.g., multi-table DROP.
+     *
+     * @param metadata database metadata
+     * @return dialect
+     * @throws SQLException unable to read metadata
+     */
+    default Dialect createDialect(DatabaseMetaData metadata) throws SQLException {
+        return new Dialect(metadata);
+    }
+
+    /**
+     * Get the dialect shared by the matchers, creating it if necessary.
+     *
+     * @return dialect
+     * @throws SQLException unable to read metadata
+     */
+    default Dialect getDialect() throws SQLException {
+        return Dialects.get(this);
+    }
+
+    /**
+     * Specify how long the matchers may use a cached copy of the table catalog.
+     *
+     * @param ttl time-to-live. Use Duration.ZERO to disable the cache.
+     * @return this object
+     */
+    default SELF withCatalogCacheTtl(Duration ttl) {
+        CatalogCaches.get(this).setTtl(ttl);
+        return getContainer();
+    }
+
+    /**
+     * Discard the cached copy of the table catalog. This is required after
+     * the test drops tables without using a matcher.
+     */
+    default void invalidateCatalogCache() {
+        CatalogCaches.get(this).invalidate();
+    }
+
+    /**
+     * Get the database-specific snapshot strategy.
+     *
+     * Containers that support snapshots override this method.
+     *
+     * @return snapshot strategy, or null if snapshots are not supported
+     */
+    default SnapshotStrategy getDefaultSnapshotStrategy() {
+        return null;
+    }
+
+    /**
+     * Specify the snapshot strategy. This replaces the container's default strategy.
+     *
+     * @param strategy snapshot strategy
+     * @return this object
+     */
+    default SELF withSnapshotStrategy(SnapshotStrategy strategy) {
+        SnapshotStores.get(this).setStrategy(strategy);
+        return getContainer();
+    }
+
+    /**
+     * Capture the current state of the database, e.g., after the schema
+     * has been created and the seed data loaded. An existing snapshot
+     * with the same name is replaced.
+     *
+     * @param name snapshot name
+     * @throws SQLException unable to create snapshot
+     */
+    default void takeSnapshot(String name) throws SQLException {
+        final SnapshotStore store = SnapshotStores.get(this);
+        final SnapshotStrategy strategy = getSnapshotStrategy();
+        try (Connection conn = getConnectionPool().lease()) {
+            strategy.snapshot(conn, store.getFile(name));
+        } catch (SQLException | RuntimeException e) {
+            store.delete(name);
+            throw e;
+        }
+    }
+
+    /**
+     * Replace the current state of the database with a snapshot. This
+     * is much faster than dropping the tables and rerunning the DDL and
+     * seed scripts between tests.
+     *
+     * @param name snapshot name
+     * @throws SQLException unable to restore snapshot
+     */
+    default void restoreSnapshot(String name) throws SQLException {
+        final SnapshotStore store = SnapshotStores.get(this);
+        if (!store.contains(name)) {
+            throw new IllegalArgumentException("unknown snapshot: " + name);
+        }
+        final SnapshotStrategy strategy = getSnapshotStrategy();
+        try (Connection conn = getConnectionPool().lease()) {
+            strategy.restore(conn, store.getFile(name));
+        } finally {
+            invalidateCatalogCache();
+        }
+    }
+
+    /**
+     * Does a snapshot exist?
+     *
+     * @param name snapshot name
+     * @return 'true' if the snapshot exists
+     */
+    default boolean hasSnapshot(String name) {
+        return SnapshotStores.get(this).contains(name);
+    }
+
+    /**
+     * Delete a snapshot
+     *
+     * @param name snapshot name
+     */
+    default void deleteSnapshot(String name) {
+        SnapshotStores.get(this).delete(name);
+    }
+
+    /**
+     * Get the snapshot strategy in effect for this container
+     *
+     * @return snapshot strategy
+     * @throws UnsupportedOperationException snapshots are not supported
+     */
+    default SnapshotStrategy getSnapshotStrategy() {
+        final SnapshotStrategy configured = SnapshotStores.get(this).getStrategy();
+        final SnapshotStrategy strategy = (configured != null) ? configured : getDefaultSnapshotStrategy();
+        if (strategy == null) {
+            throw new UnsupportedOperationException(
+                "snapshots are not supported by " + getClass().getSimpleName()
+            );
+        }
+        return strategy;
+    }
+
+    /**
+     * Get the loader used for bulk loads.
+     *
+     * Containers override this method to use a faster database-specific
+     * mechanism, e.g., COPY.
+     *
+     * @return bulk loader
+     */
+    default BulkLoader getBulkLoader() {
+        return new BatchInsertLoader();
+    }
+
+    /**
+     * Load rows into a table. The rows are streamed - the data set is
+     * never held in memory.
+     *
+     * @param table fully-qualified table name
+     * @param columns column names
+     * @param rows rows. Each row has one value per column, in column order.
+     * @return load statistics, including rows/sec
+     * @throws SQLException unable to load rows
+     */
+    default LoadResult bulkLoad(String table, List<String> columns, Iterator<Object[]> rows) throws SQLException {
+        try (Connection conn = getConnectionPool().lease()) {
+            return getBulkLoader().load(conn, table, columns, rows);
+        }
+    }
+
+    /**
+     * Load rows into a table. The rows are streamed - the data set is
+     * never held in memory. The stream is closed afterwards.
+     *
+     * @param table fully-qualified table name
+     * @param columns column names
+     * @param rows rows. Each row has one value per column, in column order.
+     * @return load statistics, including rows/sec
+     * @throws SQLException unable to load rows
+     */
+    default LoadResult bulkLoad(String table, List<String> columns, Stream<Object[]> rows) throws SQLException {
+        try (Stream<Object[]> stream = rows) {
+            return bulkLoad(table, columns, stream.iterator());
+        }
+    }
+
+    /**
+     * Load a RFC 4180 CSV file into a table.
+     *
+     * @param table fully-qualified table name
+     * @param columns column names, in the order of the values in each record
+     * @param file UTF-8 CSV file
+     * @param header if true then the first record is a header and is skipped
+     * @return load statistics, including rows/sec
+     * @throws SQLException unable to load rows
+     */
+    default LoadResult bulkLoadCsv(String table, List<String> columns, Path file, boolean header)
+        throws SQLException {
+        try (Connection conn = getConnectionPool().lease()) {
+            return getBulkLoader().loadCsv(conn, table, columns, file, header);
+        }
+    }
+
+    /**
+     * Get the strategy used to compute table fingerprints.
+     *
+     * Containers override this method to compute the fingerprint
+     * on the database. The default reads every row.
+     *
+     * @return fingerprint strategy
+     */
+    default FingerprintStrategy getFingerprintStrategy() {
+        return new ClientFingerprintStrategy();
+    }
+
+    /**
+     * Compute the fingerprint of a table, or of the rows that satisfy
+     * a condition. Fingerprints of tables in the same container can be
+     * compared with TableFingerprint.matches().
+     *
+     * @param table fully-qualified table name
+     * @param condition SQL condition, e.g., a partition key. May be null.
+     * @return fingerprint
+     * @throws SQLException unable to compute fingerprint
+     */
+    default TableFingerprint getTableFingerprint(String table, String condition) throws SQLException {
+        try (Connection conn = getConnectionPool().lease()) {
+            return getFingerprintStrategy().fingerprint(conn, table, condition, CompareOptions.DEFAULT_FETCH_SIZE);
+        }
+    }
+
+    /**
+     * Get the strategy used to estimate the number of rows in a table.
+     *
+     * Containers override this method to read the catalog statistics.
+     * The default counts every row.
+     *
+     * @return row count strategy
+     */
+    default RowCountStrategy getRowCountStrategy() {
+        return new ExactRowCountStrategy();
+    }
+
+    /**
+     * Release the resources shared by the matchers. This is called
+     * when the container is stopped.
+     */
+    default void releaseMatcherResources() {
+        ConnectionPools.remove(this);
+        CatalogCaches.remove(this);
+        SnapshotStores.remove(this);
+        Dialects.remove(this);
+    }
+
     /**
      * Get TableExists matcher
      *
@@ -36,6 +386,186 @@ public interface JdbcDatabaseContainerMatcher<
         return matcher;
     }
 
+    /**
+     * Verify that a query returns the expected rows, in order.
+     *
+     * The query results are streamed and compared row by row. The
+     * comparison stops after the first CompareOptions.DEFAULT_MAX_DIFFERENCES
+     * differences.
+     *
+     * @param sql query
+     * @param expected expected rows, in order
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> queryReturns(String sql, Iterable<? extends List<?>> expected) {
+        return queryReturns(sql, expected, CompareOptions.ORDERED);
+    }
+
+    /**
+     * Verify that a query returns the expected rows.
+     *
+     * The query results are streamed using the fetch size in the
+     * options. The expected rows are read as they are needed so
+     * they may be generated lazily.
+     *
+     * @param sql query
+     * @param expected expected rows
+     * @param options comparison options, e.g., CompareOptions.UNORDERED
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> queryReturns(String sql, Iterable<? extends List<?>> expected, CompareOptions options) {
+        final Matcher<Void> matcher = new QueryReturnsMatcher<SELF>(getContainer(), sql, expected, options);
+        return matcher;
+    }
+
+    /**
+     * Verify that two tables contain the same rows, in any order.
+     *
+     * The tables are compared via the container's fingerprint
+     * strategy. Only the fingerprints are transferred if the
+     * database computes them.
+     *
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> tablesHaveSameContent(String actualTable, String expectedTable) {
+        return tablesHaveSameContent(actualTable, expectedTable, CompareOptions.UNORDERED);
+    }
+
+    /**
+     * Verify that two tables contain the same rows.
+     *
+     * Use CompareOptions.ORDERED to get the differing rows at the
+     * cost of sorting both tables.
+     *
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param options comparison options
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> tablesHaveSameContent(String actualTable, String expectedTable, CompareOptions options) {
+        final Matcher<Void> matcher = new TablesHaveSameContentMatcher<SELF>(
+            getContainer(),
+            actualTable,
+            expectedTable,
+            options
+        );
+        return matcher;
+    }
+
+    /**
+     * Verify that two tables contain the same rows, in any order.
+     *
+     * The tables are compared via fingerprints. If they differ, the
+     * key ranges are bisected to find the ranges that differ. This
+     * requires an integer key column.
+     *
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param keyColumn integer key column
+     * @param options comparison options. The fetch size is also the size of the reported key ranges.
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> tablesHaveSameContent(
+        String actualTable,
+        String expectedTable,
+        String keyColumn,
+        CompareOptions options
+    ) {
+        final Matcher<Void> matcher = new TablesHaveSameContentMatcher<SELF>(
+            getContainer(),
+            actualTable,
+            expectedTable,
+            keyColumn,
+            options.withMode(CompareOptions.Mode.UNORDERED)
+        );
+        return matcher;
+    }
+
+    /**
+     * Verify the exact number of rows in a table
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param tableName tableName
+     * @param expected number of rows
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> rowCountIs(String catalogName, String schemaName, String tableName, long expected) {
+        return rowCountIsBetween(catalogName, schemaName, tableName, expected, expected, RowCountOptions.EXACT);
+    }
+
+    /**
+     * Verify that a table has at least the specified number of rows
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param tableName tableName
+     * @param min minimum number of rows
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> rowCountIsAtLeast(String catalogName, String schemaName, String tableName, long min) {
+        return rowCountIsBetween(catalogName, schemaName, tableName, min, Long.MAX_VALUE, RowCountOptions.EXACT);
+    }
+
+    /**
+     * Verify that a table has at least the specified number of rows
+     *
+     * With RowCountOptions.ESTIMATE the number of rows is read from
+     * the catalog statistics and checked with a tolerance.
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param tableName tableName
+     * @param min minimum number of rows
+     * @param options counting options
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> rowCountIsAtLeast(
+        String catalogName,
+        String schemaName,
+        String tableName,
+        long min,
+        RowCountOptions options
+    ) {
+        return rowCountIsBetween(catalogName, schemaName, tableName, min, Long.MAX_VALUE, options);
+    }
+
+    /**
+     * Verify that the number of rows in a table is within bounds
+     *
+     * With RowCountOptions.ESTIMATE the number of rows is read from
+     * the catalog statistics and checked with a tolerance.
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param tableName tableName
+     * @param min minimum number of rows, inclusive
+     * @param max maximum number of rows, inclusive
+     * @param options counting options
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> rowCountIsBetween(
+        String catalogName,
+        String schemaName,
+        String tableName,
+        long min,
+        long max,
+        RowCountOptions options
+    ) {
+        final Matcher<Void> matcher = new RowCountMatcher<SELF>(
+            getContainer(),
+            catalogName,
+            schemaName,
+            tableName,
+            min,
+            max,
+            options
+        );
+        return matcher;
+    }
+
     /**
      * Precondition: drop table if it exists
      *
@@ -58,6 +588,86 @@ public interface JdbcDatabaseContainerMatcher<
         return matcher;
     }
 
+    /**
+     * Precondition: drop table if it exists
+     *
+     * Drop a table if it exists. It is not an error if more than one
+     * table matches the criteria. The options determine whether the
+     * tables are dropped in a batch, with CASCADE, and in a single
+     * transaction. The mismatch description lists the outcome for
+     * each table.
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param tableName tableName, may be null
+     * @param options drop options, e.g., DropOptions.BATCHED
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> dropTableifExists(
+        String catalogName,
+        String schemaName,
+        String tableName,
+        DropOptions options
+    ) {
+        final Matcher<Void> matcher = new DropTableIfExistsMatcher<SELF>(
+            getContainer(),
+            catalogName,
+            schemaName,
+            tableName,
+            false,
+            options
+        );
+        return matcher;
+    }
+
+    /**
+     * Precondition: drop every table in a schema
+     *
+     * The tables are dropped in foreign-key order. Independent tables
+     * are dropped concurrently using the connection pool shared by
+     * the matchers. The matcher succeeds if no tables remain.
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> schemaIsEmptyAfterDrop(String catalogName, String schemaName) {
+        return schemaIsEmptyAfterDrop(
+            catalogName,
+            schemaName,
+            ConnectionPools.getSettings(this).getMaxSize(),
+            DropOptions.BATCHED
+        );
+    }
+
+    /**
+     * Precondition: drop every table in a schema
+     *
+     * The tables are dropped in foreign-key order. Independent tables
+     * are dropped concurrently. The matcher succeeds if no tables remain.
+     *
+     * @param catalogName catalogName, may be null
+     * @param schemaName schemaName, may be null
+     * @param parallelism maximum number of concurrent connections
+     * @param options drop options, e.g., DropOptions.BATCHED
+     * @return Hamcrest matcher
+     */
+    default Matcher<Void> schemaIsEmptyAfterDrop(
+        String catalogName,
+        String schemaName,
+        int parallelism,
+        DropOptions options
+    ) {
+        final Matcher<Void> matcher = new SchemaIsEmptyAfterDropMatcher<SELF>(
+            getContainer(),
+            catalogName,
+            schemaName,
+            parallelism,
+            options
+        );
+        return matcher;
+    }
+
     /**
      * Precondition: drop table if it exists
      *
@@ -0,0 +1,111 @@
+package com.coyotesong.testcontainers.containers.matchers;
+
+import com.coyotesong.testcontainers.containers.jdbc.CompareOptions;
+import com.coyotesong.testcontainers.containers.jdbc.CompareResult;
+import com.coyotesong.testcontainers.containers.jdbc.ResultComparator;
+import junit.framework.AssertionFailedError;
+import org.hamcrest.Description;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Verify that a query returns the expected rows
+ * <p>
+ * The query results are streamed using the JDBC fetch size and compared with the
+ * expected rows as they are read. Neither side is held in memory, so the expected
+ * rows may be a lazily generated sequence.
+ */
+public class QueryReturnsMatcher<
+    SELF extends org.testcontainers.containers.JdbcDatabaseContainer<SELF> & JdbcDatabaseContainerMatcher<SELF>
+>
+    extends AbstractJdbcDatabaseContainerMatcher<SELF> {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(QueryReturnsMatcher.class);
+
+    private final String sql;
+
+    private final Iterable<? extends List<?>> expected;
+
+    private final CompareOptions options;
+
+    private CompareResult result;
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param sql query
+     * @param expected expected rows, in order if the options are ORDERED
+     * @param options comparison options
+     */
+    protected QueryReturnsMatcher(
+        SELF container,
+        String sql,
+        Iterable<? extends List<?>> expected,
+        CompareOptions options
+    ) {
+        super(container);
+        this.sql = sql;
+        this.expected = expected;
+        this.options = options;
+    }
+
+    /**
+     * Get outcome of the most recent match
+     *
+     * @return comparison result, or null if the matcher has not been used
+     */
+    public CompareResult getResult() {
+        return result;
+    }
+
+    @Override
+    public void describeMismatchSafely(Void v, Description description) {
+        description.appendText("Query '" + sql + "' at '" + getJdbcUrl() + "' returned ");
+        describeResult(result, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("Query '" + sql + "' returns the expected rows (" + options.getMode() + ")");
+    }
+
+    @Override
+    public boolean matchesSafely(Void v) {
+        try (
+            Connection conn = createConnection();
+            Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+        ) {
+            stmt.setFetchSize(options.getFetchSize());
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                result = ResultComparator.compare(rs, expected, options);
+            }
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to execute query at '%s': %s", getJdbcUrl(), e.getMessage())
+            );
+        }
+        LOG.debug("{}: {}", sql, result);
+        return result.isMatch();
+    }
+
+    /**
+     * Append the differences to a mismatch description
+     *
+     * @param result comparison result
+     * @param description mismatch description
+     */
+    static void describeResult(CompareResult result, Description description) {
+        description.appendText(
+            String.format("%,d rows, expected %,d", result.getActualRows(), result.getExpectedRows())
+        );
+        description.appendValueList(" - ", "\n - ", "\n", result.getDifferences());
+        if (result.isTruncated()) {
+            description.appendText("(stopped after " + result.getDifferences().size() + " differences)");
+        }
+    }
+}
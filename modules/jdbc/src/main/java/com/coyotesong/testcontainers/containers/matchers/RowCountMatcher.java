@@ -0,0 +1,129 @@
+package com.coyotesong.testcontainers.containers.matchers;
+
+import com.coyotesong.testcontainers.containers.jdbc.ExactRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.RowCount;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountOptions;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+import junit.framework.AssertionFailedError;
+import org.hamcrest.Description;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Verify the number of rows in a table
+ * <p>
+ * In ESTIMATE mode the number of rows is read from the catalog statistics, where
+ * available, and the bounds are checked with a tolerance.
+ */
+public class RowCountMatcher<
+    SELF extends org.testcontainers.containers.JdbcDatabaseContainer<SELF> & JdbcDatabaseContainerMatcher<SELF>
+>
+    extends AbstractJdbcDatabaseContainerMatcher<SELF> {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(RowCountMatcher.class);
+
+    private final String catalogName;
+
+    private final String schemaName;
+
+    private final String tableName;
+
+    private final long min;
+
+    private final long max;
+
+    private final RowCountOptions options;
+
+    private RowCount rowCount;
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param catalogName catalog name, may be null
+     * @param schemaName schema name, may be null
+     * @param tableName table name
+     * @param min minimum number of rows, inclusive
+     * @param max maximum number of rows, inclusive
+     * @param options counting options
+     */
+    protected RowCountMatcher(
+        SELF container,
+        String catalogName,
+        String schemaName,
+        String tableName,
+        long min,
+        long max,
+        RowCountOptions options
+    ) {
+        super(container);
+        this.catalogName = catalogName;
+        this.schemaName = schemaName;
+        this.tableName = tableName;
+        this.min = min;
+        this.max = max;
+        this.options = options;
+    }
+
+    /**
+     * Get outcome of the most recent match
+     *
+     * @return number of rows, or null if the matcher has not been used
+     */
+    public RowCount getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void describeMismatchSafely(Void v, Description description) {
+        description.appendText(
+            String.format(
+                "Table %s at '%s' has %s",
+                normalizeTableName(catalogName, schemaName, tableName),
+                getJdbcUrl(),
+                rowCount
+            )
+        );
+        if (!rowCount.isExact()) {
+            description.appendText(String.format(" with tolerance %.0f%%", 100.0 * options.getTolerance()));
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        final String bounds;
+        if (min == max) {
+            bounds = String.format("%,d rows", min);
+        } else if (max == Long.MAX_VALUE) {
+            bounds = String.format("at least %,d rows", min);
+        } else if (min == 0L) {
+            bounds = String.format("at most %,d rows", max);
+        } else {
+            bounds = String.format("between %,d and %,d rows", min, max);
+        }
+        description.appendText("Table " + normalizeTableName(catalogName, schemaName, tableName) + " has " + bounds);
+    }
+
+    @Override
+    public boolean matchesSafely(Void v) {
+        final TableName table = new TableName(stripQuotes(catalogName), stripQuotes(schemaName), stripQuotes(tableName));
+        try (Connection conn = createConnection()) {
+            rowCount = getStrategy().count(conn, table, getDialect());
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to count rows at '%s': %s", getJdbcUrl(), e.getMessage())
+            );
+        }
+        LOG.debug("{}: {}", table.getQualifiedName(), rowCount);
+        return rowCount.isWithin(min, max, options.getTolerance());
+    }
+
+    private RowCountStrategy getStrategy() {
+        if (options.getMode() == RowCountOptions.Mode.EXACT) {
+            return new ExactRowCountStrategy();
+        }
+        return (options.getStrategy() != null) ? options.getStrategy() : getContainer().getRowCountStrategy();
+    }
+}
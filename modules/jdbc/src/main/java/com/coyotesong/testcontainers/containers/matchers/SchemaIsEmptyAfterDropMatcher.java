@@ -0,0 +1,132 @@
+package com.coyotesong.testcontainers.containers.matchers;
+
+import com.coyotesong.testcontainers.containers.jdbc.CatalogCaches;
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPools;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import com.coyotesong.testcontainers.containers.jdbc.DropResult;
+import com.coyotesong.testcontainers.containers.jdbc.SchemaTeardown;
+import junit.framework.AssertionFailedError;
+import org.hamcrest.Description;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Precondition: drop every table in a schema
+ * <p>
+ * The tables are dropped in foreign-key order, concurrently where possible. The
+ * matcher succeeds if no tables remain afterwards.
+ */
+public class SchemaIsEmptyAfterDropMatcher<
+    SELF extends org.testcontainers.containers.JdbcDatabaseContainer<SELF> & JdbcDatabaseContainerMatcher<SELF>
+>
+    extends AbstractJdbcDatabaseContainerMatcher<SELF> {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SchemaIsEmptyAfterDropMatcher.class);
+
+    private static final String[] TABLE_TYPES = { "TABLE" };
+
+    private final String catalogName;
+
+    private final String schemaName;
+
+    private final int parallelism;
+
+    private final DropOptions options;
+
+    private DropResult result = new DropResult();
+
+    private final List<String> remaining = new ArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param catalogName catalog name
+     * @param schemaName schema name
+     * @param parallelism maximum number of concurrent connections
+     * @param options drop options
+     */
+    protected SchemaIsEmptyAfterDropMatcher(
+        SELF container,
+        String catalogName,
+        String schemaName,
+        int parallelism,
+        DropOptions options
+    ) {
+        super(container);
+        this.catalogName = catalogName;
+        this.schemaName = schemaName;
+        this.parallelism = parallelism;
+        this.options = options;
+    }
+
+    /**
+     * Get outcome of the most recent match
+     *
+     * @return per-table outcome
+     */
+    public DropResult getResult() {
+        return result;
+    }
+
+    @Override
+    public void describeMismatchSafely(Void v, Description description) {
+        if (!remaining.isEmpty()) {
+            description.appendText("Tables remain in '" + normalizeTableName(catalogName, schemaName, "") + "' at '" + getJdbcUrl() + "'");
+            description.appendValueList(" - ", "\n - ", "\n", remaining);
+        }
+        if (!result.isSuccess()) {
+            description.appendText("Unable to drop tables at '" + getJdbcUrl() + "'");
+            description.appendValueList(
+                " - ",
+                "\n - ",
+                "\n",
+                result.getStatuses().keySet().stream().filter(t -> result.getStatuses().get(t) != DropResult.Status.DROPPED).map(result::describe).collect(Collectors.toList())
+            );
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("Empty schema " + normalizeTableName(catalogName, schemaName, ""));
+    }
+
+    @Override
+    public boolean matchesSafely(Void v) {
+        remaining.clear();
+        try {
+            final SchemaTeardown teardown = new SchemaTeardown(
+                ConnectionPools.get(getContainer()),
+                getDialect(),
+                parallelism,
+                options
+            );
+            try {
+                result = teardown.drop(stripQuotes(catalogName), stripQuotes(schemaName));
+            } finally {
+                // also discards the dropped tables' interned names
+                CatalogCaches.get(getContainer()).invalidate();
+            }
+
+            try (
+                Connection conn = createConnection();
+                ResultSet rs = conn.getMetaData().getTables(stripQuotes(catalogName), stripQuotes(schemaName), "%", TABLE_TYPES)
+            ) {
+                while (rs.next()) {
+                    remaining.add(normalizeTableName(rs.getString(1), rs.getString(2), rs.getString(3)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to drop tables at '%s': %s", getJdbcUrl(), e.getMessage())
+            );
+        }
+        LOG.debug("dropped {} tables, {} remain", result.getStatuses().size(), remaining.size());
+        return remaining.isEmpty() && result.isSuccess();
+    }
+}
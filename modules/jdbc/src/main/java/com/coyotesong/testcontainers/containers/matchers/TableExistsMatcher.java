@@ -3,7 +3,6 @@ package com.coyotesong.testcontainers.containers.matchers;
 import junit.framework.AssertionFailedError;
 import org.hamcrest.Description;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 
 /**
@@ -39,7 +38,7 @@ public class TableExistsMatcher<
 
     @Override
     public void describeMismatchSafely(Void v, Description description) {
-        if (!matches(tableName)) {
+        if (tables.isEmpty()) {
             description.appendText(
                 String.format(
                     "No tables match '%s' at '%s'",
@@ -57,14 +56,14 @@ public class TableExistsMatcher<
 
     @Override
     public boolean matchesSafely(Void v) {
-        boolean found = false;
-        try (Connection conn = createConnection()) {
+        try {
+            // a connection is only leased if the catalog cache must be reloaded
             listTables(catalogName, schemaName, tableName);
         } catch (SQLException e) {
             throw new AssertionFailedError(
                 String.format("Unable to connect to database '%s': %s", getJdbcUrl(), e.getMessage())
             );
         }
-        return found;
+        return !tables.isEmpty();
     }
 }
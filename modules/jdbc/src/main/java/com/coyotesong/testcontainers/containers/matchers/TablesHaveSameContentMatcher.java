@@ -0,0 +1,197 @@
+package com.coyotesong.testcontainers.containers.matchers;
+
+import com.coyotesong.testcontainers.containers.jdbc.CompareOptions;
+import com.coyotesong.testcontainers.containers.jdbc.CompareResult;
+import com.coyotesong.testcontainers.containers.jdbc.ResultComparator;
+import com.coyotesong.testcontainers.containers.jdbc.TableFingerprints;
+import junit.framework.AssertionFailedError;
+import org.hamcrest.Description;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+/**
+ * Verify that two tables contain the same rows
+ * <p>
+ * In ORDERED mode both tables are streamed concurrently using the JDBC fetch size,
+ * sorted on every column that can be sorted, and compared row by row. Both queries
+ * use a single connection, so the driver must support two open result sets per
+ * connection. LOB columns can't be sorted, so rows that differ only in their LOB
+ * columns may be compared in either order.
+ * <p>
+ * In UNORDERED mode the tables are compared via the container's FingerprintStrategy.
+ * This avoids the sort and, if the fingerprint is computed on the database, the
+ * transfer of the rows. If the fingerprints differ and a key column is known, the
+ * key ranges that differ are reported.
+ */
+public class TablesHaveSameContentMatcher<
+    SELF extends org.testcontainers.containers.JdbcDatabaseContainer<SELF> & JdbcDatabaseContainerMatcher<SELF>
+>
+    extends AbstractJdbcDatabaseContainerMatcher<SELF> {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(TablesHaveSameContentMatcher.class);
+
+    private final String actualTable;
+
+    private final String expectedTable;
+
+    private final String keyColumn;
+
+    private final CompareOptions options;
+
+    private CompareResult result;
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param options comparison options
+     */
+    protected TablesHaveSameContentMatcher(
+        SELF container,
+        String actualTable,
+        String expectedTable,
+        CompareOptions options
+    ) {
+        this(container, actualTable, expectedTable, null, options);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param container JdbcDatabaseContainer
+     * @param actualTable fully-qualified name of the table being verified
+     * @param expectedTable fully-qualified name of the table with the expected content
+     * @param keyColumn integer key column used to find the differing rows, may be null
+     * @param options comparison options
+     */
+    protected TablesHaveSameContentMatcher(
+        SELF container,
+        String actualTable,
+        String expectedTable,
+        String keyColumn,
+        CompareOptions options
+    ) {
+        super(container);
+        this.actualTable = actualTable;
+        this.expectedTable = expectedTable;
+        this.keyColumn = keyColumn;
+        this.options = options;
+    }
+
+    /**
+     * Get outcome of the most recent match
+     *
+     * @return comparison result, or null if the matcher has not been used
+     */
+    public CompareResult getResult() {
+        return result;
+    }
+
+    @Override
+    public void describeMismatchSafely(Void v, Description description) {
+        description.appendText("Table " + actualTable + " at '" + getJdbcUrl() + "' has ");
+        QueryReturnsMatcher.describeResult(result, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("Table " + actualTable + " has the same content as " + expectedTable + " (" + options.getMode() + ")");
+    }
+
+    @Override
+    public boolean matchesSafely(Void v) {
+        if (options.getMode() == CompareOptions.Mode.UNORDERED) {
+            try (Connection conn = createConnection()) {
+                result = TableFingerprints.compare(
+                    conn,
+                    getContainer().getDialect(),
+                    getContainer().getFingerprintStrategy(),
+                    actualTable,
+                    expectedTable,
+                    keyColumn,
+                    options
+                );
+            } catch (SQLException e) {
+                throw new AssertionFailedError(
+                    String.format("Unable to compare tables at '%s': %s", getJdbcUrl(), e.getMessage())
+                );
+            }
+            LOG.debug("{} vs {}: {}", actualTable, expectedTable, result);
+            return result.isMatch();
+        }
+
+        // a single connection - a pool with a maximum size of one must not deadlock
+        try (
+            Connection conn = createConnection();
+            Statement actualStmt = createStatement(conn);
+            Statement expectedStmt = createStatement(conn);
+            ResultSet actual = actualStmt.executeQuery(query(conn, actualTable));
+            ResultSet expected = expectedStmt.executeQuery(query(conn, expectedTable))
+        ) {
+            result = ResultComparator.compare(actual, expected, options);
+        } catch (SQLException e) {
+            throw new AssertionFailedError(
+                String.format("Unable to compare tables at '%s': %s", getJdbcUrl(), e.getMessage())
+            );
+        }
+        LOG.debug("{} vs {}: {}", actualTable, expectedTable, result);
+        return result.isMatch();
+    }
+
+    private Statement createStatement(Connection conn) throws SQLException {
+        final Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(options.getFetchSize());
+        return stmt;
+    }
+
+    /**
+     * Build the query for an ORDERED comparison. It sorts on every column, except
+     * LOB and other unsortable columns, so that the comparison does not depend on
+     * the physical order of the rows.
+     *
+     * @param conn database connection
+     * @param table fully-qualified table name
+     * @return query
+     * @throws SQLException an error occurred
+     */
+    private String query(Connection conn, String table) throws SQLException {
+        final String sql = "SELECT * FROM " + table;
+        final StringBuilder sb = new StringBuilder(sql);
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql + " WHERE 1=0")) {
+            final ResultSetMetaData md = rs.getMetaData();
+            String separator = " ORDER BY ";
+            for (int i = 1; i <= md.getColumnCount(); i++) {
+                if (isSortable(md.getColumnType(i))) {
+                    sb.append(separator).append(i);
+                    separator = ", ";
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSortable(int sqlType) {
+        switch (sqlType) {
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.LONGVARBINARY:
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.SQLXML:
+            case Types.ARRAY:
+            case Types.STRUCT:
+            case Types.JAVA_OBJECT:
+                return false;
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvRowIteratorTest {
+
+    @Test
+    public void quotedFieldsAndNulls() {
+        final List<Object[]> records = parse("1,\"a,\"\"b\"\"\",\r\n2,\"\",x\n");
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("1", "a,\"b\"", null);
+        assertThat(records.get(1)).containsExactly("2", "", "x");
+    }
+
+    @Test
+    public void emptyTrailingLinesAreSkipped() {
+        assertThat(parse("1,a\n2,b\n\n\r\n")).hasSize(2);
+    }
+
+    @Test
+    public void characterAfterClosingQuoteIsRejected() {
+        assertThatThrownBy(() -> parse("\"a\"b,c\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("closing quote");
+    }
+
+    private static List<Object[]> parse(String csv) {
+        final List<Object[]> records = new ArrayList<>();
+        new CsvRowIterator(new StringReader(csv)).forEachRemaining(records::add);
+        return records;
+    }
+}
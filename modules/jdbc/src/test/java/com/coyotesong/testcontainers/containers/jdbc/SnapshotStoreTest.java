@@ -0,0 +1,23 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapshotStoreTest {
+
+    @Test
+    public void fileIsNotReusedAfterDelete() {
+        try (SnapshotStore store = new SnapshotStore()) {
+            final Path first = store.getFile("first");
+            final Path second = store.getFile("second");
+            store.delete("first");
+
+            final Path third = store.getFile("third");
+            assertThat(third).isNotEqualTo(first).isNotEqualTo(second);
+            assertThat(store.getFile("second")).isEqualTo(second);
+        }
+    }
+}
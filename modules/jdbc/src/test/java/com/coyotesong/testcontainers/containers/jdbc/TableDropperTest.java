@@ -0,0 +1,256 @@
+package com.coyotesong.testcontainers.containers.jdbc;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TableDropperTest {
+
+    /**
+     * The multi-table DROP fails. The stub connection then rejects every statement until
+     * the transaction is rolled back, like PostgreSQL.
+     */
+    @Test
+    public void transactionIsRolledBackBeforeDroppingTablesIndividually() throws SQLException {
+        final AbortingConnection stub = new AbortingConnection("T2");
+        final DropOptions options = DropOptions.DEFAULT.withBatched(true).withTransactional(true);
+
+        final DropResult result = TableDropper.drop(
+            stub.connection(),
+            new MultiTableDialect(stub.metadata()),
+            Arrays.asList("T1", "T2", "T3"),
+            options
+        );
+
+        assertThat(stub.events).startsWith("DROP TABLE IF EXISTS T1, T2, T3", "rollback", "DROP TABLE IF EXISTS T1");
+        assertThat(result.getStatuses())
+            .containsEntry("T1", DropResult.Status.ROLLED_BACK)
+            .containsEntry("T2", DropResult.Status.FAILED)
+            .containsEntry("T3", DropResult.Status.NOT_ATTEMPTED);
+    }
+
+    /**
+     * The JDBC batch fails midway with an error that is not a BatchUpdateException,
+     * e.g., a lost connection. The tables dropped before the failure must not be
+     * committed when autocommit is restored.
+     */
+    @Test
+    public void unexpectedErrorRollsBackBeforeRestoringAutoCommit() throws SQLException {
+        final TransactionalConnection stub = new TransactionalConnection(2);
+        final DropOptions options = DropOptions.DEFAULT.withBatched(true).withTransactional(true);
+
+        assertThatThrownBy(
+            () -> TableDropper.drop(
+                stub.connection(),
+                new BatchDialect(stub.metadata()),
+                Arrays.asList("T1", "T2", "T3"),
+                options
+            )
+        ).isInstanceOf(SQLException.class).hasMessageContaining("connection reset");
+
+        assertThat(stub.committed).isEmpty();
+        assertThat(stub.pending).isEmpty();
+        assertThat(stub.autoCommit).isTrue();
+    }
+
+    private static final class BatchDialect extends Dialect {
+
+        private BatchDialect(DatabaseMetaData metadata) throws SQLException {
+            super(metadata);
+        }
+
+        @Override
+        public boolean supportsBatchUpdates() {
+            return true;
+        }
+    }
+
+    private static final class MultiTableDialect extends Dialect {
+
+        private MultiTableDialect(DatabaseMetaData metadata) throws SQLException {
+            super(metadata);
+        }
+
+        @Override
+        public boolean supportsMultiTableDrop() {
+            return true;
+        }
+    }
+
+    /**
+     * Stub connection with transactional DDL and no batch updates
+     */
+    private static final class AbortingConnection {
+
+        private final String culprit;
+
+        private final List<String> events = new ArrayList<>();
+
+        private boolean aborted;
+
+        private AbortingConnection(String culprit) {
+            this.culprit = culprit;
+        }
+
+        private DatabaseMetaData metadata() {
+            return stub(DatabaseMetaData.class, (name, args) -> {
+                switch (name) {
+                    case "getDatabaseProductName":
+                        return "Stub";
+                    case "getIdentifierQuoteString":
+                        return "\"";
+                    case "getCatalogSeparator":
+                        return ".";
+                    case "getSearchStringEscape":
+                        return "\\";
+                    case "getSQLKeywords":
+                        return "";
+                    case "supportsDataDefinitionAndDataManipulationTransactions":
+                        return true;
+                    default:
+                        return false;
+                }
+            });
+        }
+
+        private Connection connection() {
+            final boolean[] autoCommit = { true };
+            return stub(Connection.class, (name, args) -> {
+                switch (name) {
+                    case "getAutoCommit":
+                        return autoCommit[0];
+                    case "setAutoCommit":
+                        autoCommit[0] = (Boolean) args[0];
+                        return null;
+                    case "createStatement":
+                        return statement();
+                    case "rollback":
+                        events.add("rollback");
+                        aborted = false;
+                        return null;
+                    case "commit":
+                        events.add("commit");
+                        return null;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        private Statement statement() {
+            return stub(Statement.class, (name, args) -> {
+                if ("execute".equals(name)) {
+                    final String sql = (String) args[0];
+                    events.add(sql);
+                    if (aborted) {
+                        throw new SQLException("current transaction is aborted", "25P02");
+                    }
+                    if (sql.contains(culprit)) {
+                        aborted = true;
+                        throw new SQLException("cannot drop " + culprit, "2BP01");
+                    }
+                    return false;
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Stub connection that tracks which drops are committed. Like a real driver,
+     * enabling autocommit commits the pending statements.
+     */
+    private static final class TransactionalConnection {
+
+        private final int failAfter;
+
+        private final List<String> pending = new ArrayList<>();
+
+        private final List<String> committed = new ArrayList<>();
+
+        private boolean autoCommit = true;
+
+        private TransactionalConnection(int failAfter) {
+            this.failAfter = failAfter;
+        }
+
+        private DatabaseMetaData metadata() {
+            return new AbortingConnection(null).metadata();
+        }
+
+        private Connection connection() {
+            return stub(Connection.class, (name, args) -> {
+                switch (name) {
+                    case "getAutoCommit":
+                        return autoCommit;
+                    case "setAutoCommit":
+                        if (!autoCommit && (Boolean) args[0]) {
+                            committed.addAll(pending);
+                            pending.clear();
+                        }
+                        autoCommit = (Boolean) args[0];
+                        return null;
+                    case "createStatement":
+                        return statement();
+                    case "rollback":
+                        pending.clear();
+                        return null;
+                    case "commit":
+                        committed.addAll(pending);
+                        pending.clear();
+                        return null;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        private Statement statement() {
+            final List<String> batch = new ArrayList<>();
+            return stub(Statement.class, (name, args) -> {
+                switch (name) {
+                    case "addBatch":
+                        batch.add((String) args[0]);
+                        return null;
+                    case "clearBatch":
+                        batch.clear();
+                        return null;
+                    case "executeBatch":
+                        for (int i = 0; i < batch.size(); i++) {
+                            if (i == failAfter) {
+                                throw new SQLException("connection reset", "08006");
+                            }
+                            pending.add(batch.get(i));
+                        }
+                        return new int[batch.size()];
+                    default:
+                        return null;
+                }
+            });
+        }
+    }
+
+    private interface Handler {
+        Object invoke(String name, Object[] args) throws SQLException;
+    }
+
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return type.cast(
+            Proxy.newProxyInstance(
+                TableDropperTest.class.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> handler.invoke(method.getName(), args)
+            )
+        );
+    }
+}
@@ -1,13 +1,26 @@
 package com.coyotesong.testcontainers.containers;
 
+import com.coyotesong.testcontainers.containers.jdbc.BatchInsertLoader;
+import com.coyotesong.testcontainers.containers.jdbc.BulkLoader;
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.FingerprintStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.JdbcProbeWaitStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TimedJdbcDatabaseContainer;
+import com.coyotesong.testcontainers.containers.output.LogFormat;
+import com.coyotesong.testcontainers.containers.output.LogFormats;
+import com.coyotesong.testcontainers.containers.reuse.ContainerFingerprint;
+import com.coyotesong.testcontainers.containers.output.PatternFrameClassifier;
+import com.coyotesong.testcontainers.containers.wait.FirstReadyWaitStrategy;
+import com.coyotesong.testcontainers.containers.wait.StreamingLogWaitStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testcontainers.containers.JdbcDatabaseContainer;
-import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.time.Duration;
 
 /**
@@ -42,7 +55,8 @@ import java.time.Duration;
  *
  * @param <SELF> this class
  */
-public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcDatabaseContainer<SELF> {
+public class SapHanaContainer<SELF extends SapHanaContainer<SELF>>
+    extends TimedJdbcDatabaseContainer<SELF> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SapHanaContainer.class);
 
@@ -57,6 +71,22 @@ public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcD
 
     private static final DockerImageName DEFAULT_IMAGE_NAME = DockerImageName.parse(IMAGE);
 
+    /** Rows per array insert */
+    private static final int HANA_BATCH_SIZE = 10_000;
+
+    /**
+     * Noise markers for SelectiveLogConsumer - HANA trace file debug and info statements.
+     * Registered by SapHanaFrameClassifierProvider.
+     */
+    public static final PatternFrameClassifier LOG_CLASSIFIER =
+        new PatternFrameClassifier(" d Basis ", " i Basis ", " i Service_", " i Memory ", " i TraceContext ");
+
+    /**
+     * Log format for SelectiveLogConsumer structured mode - HANA trace file statements.
+     * Registered by SapHanaLogFormatProvider.
+     */
+    public static final LogFormat LOG_FORMAT = LogFormats.HANA;
+
     // this is specific to the docker image
     private static final int INSTANCE_ID = 90;
 
@@ -206,7 +236,7 @@ public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcD
      * @param tenantId tenant id, from 1 to 5(?) inclusive
      */
     protected SapHanaContainer(final DockerImageName dockerImageName, Integer instanceId, Integer tenantId) {
-        super(dockerImageName);
+        super(dockerImageName, NAME);
         dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME);
 
         this.instanceId = instanceId;
@@ -224,9 +254,12 @@ public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcD
         // must set permission to 600, ownership to 12000:79
         this.withCopyToContainer(Transferable.of("{ \"master_password\": \"" + password + "\" }"), passwordUrl);
 
+        // the database often accepts queries before the log message appears
         this.waitStrategy =
-            new LogMessageWaitStrategy()
-                .withRegEx(".*Startup finished!.*\\s")
+            new FirstReadyWaitStrategy(
+                new StreamingLogWaitStrategy().withMarker("Startup finished!"),
+                new JdbcProbeWaitStrategy()
+            )
                 .withStartupTimeout(Duration.ofMinutes(5));
         // LOG.info("command parts: {}", String.join(",", this.getCommandParts()));
         this.setCommand("--passwords-url file://" + passwordUrl + " --agree-to-sap-license");
@@ -288,6 +321,8 @@ public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcD
 
     @Override
     protected void configure() {
+        super.configure();
+
         // this is just a few of the options
         // see https://help.sap.com/docs/SAP_HANA_PLATFORM/0eec0d68141541d1b07893a39944924e/109397c2206a4ab2a5386d494f4cf75e.html
         if (StringUtils.isNotBlank(databaseName)) {
@@ -354,8 +389,53 @@ public class SapHanaContainer<SELF extends SapHanaContainer<SELF>> extends JdbcD
         return tenantId;
     }
 
+    /**
+     * Get bulk loader.
+     *
+     * The HANA driver sends a batched prepared statement as a single
+     * array insert so the only tuning required is a large batch size.
+     *
+     * @return bulk loader
+     */
+    @Override
+    public BulkLoader getBulkLoader() {
+        return new BatchInsertLoader(HANA_BATCH_SIZE, 0L);
+    }
+
+    /**
+     * Get fingerprint strategy.
+     *
+     * The rows are hashed on the server with HASH_SHA256(). Releases
+     * without HEXTONUM() fall back to hashing on the client.
+     *
+     * @return fingerprint strategy
+     */
+    @Override
+    public FingerprintStrategy getFingerprintStrategy() {
+        return new SapHanaFingerprintStrategy();
+    }
+
+    @Override
+    public RowCountStrategy getRowCountStrategy() {
+        return new SapHanaRowCountStrategy();
+    }
+
+    @Override
+    public Dialect createDialect(DatabaseMetaData metadata) throws SQLException {
+        return new SapHanaDialect(metadata);
+    }
+
+    /**
+     * Add the instance and tenant to the fingerprint
+     *
+     * @param builder fingerprint builder
+     */
     @Override
-    protected void waitUntilContainerStarted() {
-        getWaitStrategy().waitUntilReady(this);
+    public void contributeTo(ContainerFingerprint.Builder builder) {
+        super.contributeTo(builder);
+        builder
+            .add("instanceId", instanceId)
+            .add("tenantId", tenantId);
     }
+
 }
@@ -0,0 +1,25 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * SAP HANA dialect
+ * <p>
+ * HANA drops one table per statement, with optional CASCADE. The driver sends a JDBC
+ * batch in a single round trip so batched drops are still fast.
+ */
+public class SapHanaDialect extends Dialect {
+
+    /**
+     * Constructor
+     *
+     * @param metadata database metadata
+     * @throws SQLException unable to read metadata
+     */
+    public SapHanaDialect(DatabaseMetaData metadata) throws SQLException {
+        super(metadata);
+    }
+}
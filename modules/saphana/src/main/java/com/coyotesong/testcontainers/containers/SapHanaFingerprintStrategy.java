@@ -0,0 +1,43 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.AggregateFingerprintStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SAP HANA table fingerprint using the HASH_SHA256() function
+ * <p>
+ * HANA does not have a hash aggregate. Each row is converted to a delimited string,
+ * hashed with HASH_SHA256(), and two 32-bit slices of the hash are summed as integers.
+ * <p>
+ * This has not been verified against every HANA release - HEXTONUM() in particular
+ * is not available in older releases. If the query is rejected the fingerprint is
+ * computed on the client instead.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://help.sap.com/docs/SAP_HANA_PLATFORM/4fe29514fd584807ac9f2a04f6754767/hash_sha256-function-miscellaneous
+ */
+public class SapHanaFingerprintStrategy extends AggregateFingerprintStrategy {
+
+    @Override
+    protected String getAlgorithm() {
+        return "hana-sha256";
+    }
+
+    @Override
+    protected List<String> getAggregates(List<String> columns) {
+        final List<String> values = new ArrayList<>();
+        for (String column : columns) {
+            // CHAR(0) is unlikely to appear in real data
+            values.add("IFNULL(TO_NVARCHAR(" + column + "), CHAR(0))");
+        }
+        final String hash = "BINTOHEX(HASH_SHA256(TO_BINARY(" + String.join(" || CHAR(31) || ", values) + ")))";
+        return Arrays.asList(
+            "SUM(HEXTONUM(SUBSTRING(" + hash + ", 1, 8)))",
+            "SUM(HEXTONUM(SUBSTRING(" + hash + ", 9, 8)))"
+        );
+    }
+}
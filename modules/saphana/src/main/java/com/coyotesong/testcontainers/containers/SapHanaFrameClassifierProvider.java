@@ -0,0 +1,23 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.output.FrameClassifier;
+import com.coyotesong.testcontainers.containers.output.FrameClassifierProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registers the SAP HANA noise markers with FrameClassifiers
+ */
+public class SapHanaFrameClassifierProvider implements FrameClassifierProvider {
+
+    @Override
+    public List<String> getNames() {
+        return Arrays.asList(SapHanaContainer.IMAGE, SapHanaContainer.NAME);
+    }
+
+    @Override
+    public FrameClassifier getClassifier() {
+        return SapHanaContainer.LOG_CLASSIFIER;
+    }
+}
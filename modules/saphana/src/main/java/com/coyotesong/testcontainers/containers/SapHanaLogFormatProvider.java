@@ -0,0 +1,23 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.output.LogFormat;
+import com.coyotesong.testcontainers.containers.output.LogFormatProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registers the SAP HANA log format with LogFormats
+ */
+public class SapHanaLogFormatProvider implements LogFormatProvider {
+
+    @Override
+    public List<String> getNames() {
+        return Arrays.asList(SapHanaContainer.IMAGE, SapHanaContainer.NAME);
+    }
+
+    @Override
+    public LogFormat getFormat() {
+        return SapHanaContainer.LOG_FORMAT;
+    }
+}
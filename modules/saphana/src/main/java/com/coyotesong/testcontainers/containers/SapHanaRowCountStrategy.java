@@ -0,0 +1,29 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.StatisticsRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+
+/**
+ * SAP HANA row count from SYS.M_TABLES.RECORD_COUNT
+ * <p>
+ * The monitoring view is maintained by the server for both row and column tables,
+ * so no ANALYZE is required. Uncommitted changes by other transactions may or may
+ * not be included.
+ */
+public class SapHanaRowCountStrategy extends StatisticsRowCountStrategy {
+
+    private static final String QUERY =
+        "SELECT RECORD_COUNT FROM SYS.M_TABLES " +
+        "WHERE SCHEMA_NAME = IFNULL(CAST(? AS NVARCHAR(256)), CURRENT_SCHEMA) AND TABLE_NAME = ?";
+
+    @Override
+    protected String getQuery(TableName table, Dialect dialect) {
+        return QUERY;
+    }
+
+    @Override
+    protected String getSource() {
+        return "M_TABLES";
+    }
+}
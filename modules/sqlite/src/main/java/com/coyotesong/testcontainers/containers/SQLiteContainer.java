@@ -1,12 +1,16 @@
 package com.coyotesong.testcontainers.containers;
 
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.EmbeddedJdbcDatabaseContainer;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.utility.DockerImageName;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.SQLException;
 import java.time.Duration;
@@ -49,7 +53,8 @@ import java.util.Properties;
  *
  * @param <SELF> this class
  */
-public class SQLiteContainer<SELF extends SQLiteContainer<SELF>> extends JdbcDatabaseContainer<SELF> {
+public class SQLiteContainer<SELF extends SQLiteContainer<SELF>>
+    extends EmbeddedJdbcDatabaseContainer<SELF> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SQLiteContainer.class);
 
@@ -83,7 +88,7 @@ public class SQLiteContainer<SELF extends SQLiteContainer<SELF>> extends JdbcDat
      * Default constructor
      */
     public SQLiteContainer() {
-        super(DEFAULT_IMAGE_NAME.withTag(DEFAULT_TAG));
+        super(DEFAULT_IMAGE_NAME.withTag(DEFAULT_TAG), NAME);
         this.waitStrategy = new LogMessageWaitStrategy().withStartupTimeout(Duration.ofMinutes(2));
     }
 
@@ -104,7 +109,7 @@ public class SQLiteContainer<SELF extends SQLiteContainer<SELF>> extends JdbcDat
     @Override
     public String getJdbcUrl() {
         if (inMemoryDatabase) {
-            return "jdbc:sqlite::memory:";
+            return "jdbc:sqlite:file:" + getInMemoryDatabaseName() + "?mode=memory&cache=shared";
         }
         return "jdbc:sqlite:" + getDatabaseName();
     }
@@ -143,6 +148,7 @@ public class SQLiteContainer<SELF extends SQLiteContainer<SELF>> extends JdbcDat
      *
      * @return 'true' if an in-memory database
      */
+    @Override
     public boolean isInMemoryDatabase() {
         return inMemoryDatabase;
     }
@@ -185,7 +191,18 @@ public class SQLiteContainer<SELF extends SQLiteContainer<SELF>> extends JdbcDat
     }
 
     @Override
-    protected void waitUntilContainerStarted() {
-        getWaitStrategy().waitUntilReady(this);
+    public SnapshotStrategy getDefaultSnapshotStrategy() {
+        return new SQLiteSnapshotStrategy();
+    }
+
+    @Override
+    public RowCountStrategy getRowCountStrategy() {
+        return new SQLiteRowCountStrategy();
     }
+
+    @Override
+    public Dialect createDialect(DatabaseMetaData metadata) throws SQLException {
+        return new SQLiteDialect(metadata);
+    }
+
 }
@@ -0,0 +1,86 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SQLite dialect
+ * <p>
+ * SQLite does not support 'DROP TABLE ... CASCADE' or dropping a foreign key. It needs
+ * neither: a table that is still referenced can be dropped unless rows refer to it. SQLite
+ * serializes all writers with a database lock, so DDL is not run concurrently. The driver
+ * claims to support mixed case identifiers but its catalog queries use LIKE, which ignores case.
+ */
+public class SQLiteDialect extends Dialect {
+
+    private static final String FOREIGN_KEYS =
+        "SELECT m.name, p.\"table\" FROM sqlite_master m JOIN pragma_foreign_key_list(m.name) p WHERE m.type = 'table'";
+
+    /**
+     * Constructor
+     *
+     * @param metadata database metadata
+     * @throws SQLException unable to read metadata
+     */
+    public SQLiteDialect(DatabaseMetaData metadata) throws SQLException {
+        super(metadata);
+    }
+
+    @Override
+    public boolean supportsDropCascade() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsDropForeignKey() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsConcurrentDdl() {
+        return false;
+    }
+
+    @Override
+    public boolean isCatalogCaseInsensitive() {
+        return true;
+    }
+
+    /**
+     * Read every foreign key with a single query. sqlite-jdbc implements getImportedKeys()
+     * with several queries per table, which takes seconds for a few thousand tables.
+     *
+     * @param conn database connection
+     * @param references map of table to the tables it references
+     * @return 'true'
+     * @throws SQLException unable to read the catalog
+     */
+    @Override
+    public boolean loadReferences(Connection conn, Map<TableName, Set<TableName>> references) throws SQLException {
+        // SQLite identifiers are case-insensitive and the referenced table is reported as written in the DDL
+        final Map<String, TableName> byName = new HashMap<>();
+        for (TableName table : references.keySet()) {
+            byName.put(table.getTableName().toUpperCase(Locale.ROOT), table);
+        }
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(FOREIGN_KEYS)) {
+            while (rs.next()) {
+                final TableName table = byName.get(rs.getString(1).toUpperCase(Locale.ROOT));
+                final TableName parent = byName.get(rs.getString(2).toUpperCase(Locale.ROOT));
+                if (table != null && parent != null && !parent.equals(table)) {
+                    references.get(table).add(parent);
+                }
+            }
+        }
+        return true;
+    }
+}
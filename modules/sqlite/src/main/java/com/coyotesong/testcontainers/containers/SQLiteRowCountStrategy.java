@@ -0,0 +1,40 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.StatisticsRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * SQLite row count estimate from sqlite_stat1
+ * <p>
+ * The first integer in the 'stat' column is the number of rows in the table. The
+ * statistics are only collected by ANALYZE, so tables that have not been analyzed
+ * are counted with 'SELECT COUNT(*)'. Beware that the statistics are not updated
+ * afterwards.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://www.sqlite.org/fileformat2.html#stat1tab
+ */
+public class SQLiteRowCountStrategy extends StatisticsRowCountStrategy {
+
+    @Override
+    protected String getQuery(TableName table, Dialect dialect) {
+        // CAST() converts the leading integer and ignores the per-index statistics that follow it
+        final String schema = (table.getSchemaName() == null) ? "" : (dialect.quote(table.getSchemaName()) + ".");
+        return "SELECT CAST(stat AS INTEGER) FROM " + schema + "sqlite_stat1 WHERE tbl = ? LIMIT 1";
+    }
+
+    @Override
+    protected void setParameters(PreparedStatement stmt, TableName table) throws SQLException {
+        stmt.setString(1, table.getTableName());
+    }
+
+    @Override
+    protected String getSource() {
+        return "sqlite_stat1";
+    }
+}
@@ -0,0 +1,47 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.SnapshotStrategy;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQLite snapshots
+ * <p>
+ * The snapshot is a copy of the database file made with the SQLite online backup
+ * API. The sqlite-jdbc driver exposes it via the 'backup to' and 'restore from'
+ * pseudo-statements. This copies database pages so it does not depend on the size
+ * of the schema or the number of rows.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://www.sqlite.org/backup.html
+ * - https://github.com/xerial/sqlite-jdbc/blob/master/USAGE.md#how-to-use-online-backup-and-restore-feature
+ */
+public class SQLiteSnapshotStrategy implements SnapshotStrategy {
+
+    @Override
+    public void snapshot(Connection conn, Path file) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("backup to " + quoted(file));
+        }
+    }
+
+    @Override
+    public void restore(Connection conn, Path file) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("restore from " + quoted(file));
+        }
+    }
+
+    private static String quoted(Path file) {
+        // the driver strips the quotes but does not support escaped quotes
+        final String path = file.toAbsolutePath().toString();
+        if (path.contains("\"")) {
+            throw new IllegalArgumentException("unsupported snapshot filename: " + path);
+        }
+        return "\"" + path + "\"";
+    }
+}
@@ -0,0 +1,95 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.JdbcProbeWaitStrategy;
+import com.coyotesong.testcontainers.containers.wait.FirstReadyWaitStrategy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.WaitStrategy;
+import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The probe runs against an embedded SQLite database. SQLiteContainer is used as the
+ * wait strategy target but it is never started.
+ */
+public class JdbcProbeWaitStrategyTest {
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jdbc-probe");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("probe.db"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void probeSucceedsOnFirstAttempt() {
+        final SQLiteContainer<?> container = new SQLiteContainer<>().withDatabaseName(directory.resolve("probe.db").toString());
+        final JdbcProbeWaitStrategy probe = new JdbcProbeWaitStrategy();
+
+        probe.waitUntilReady(container);
+
+        assertThat(probe.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    public void probeRetriesUntilTimeout() {
+        // the parent directory does not exist so the database can't be opened
+        final SQLiteContainer<?> container = new SQLiteContainer<>()
+            .withDatabaseName(directory.resolve("missing").resolve("probe.db").toString());
+        final JdbcProbeWaitStrategy probe = new JdbcProbeWaitStrategy()
+            .withInitialInterval(Duration.ofMillis(10))
+            .withMaxInterval(Duration.ofMillis(50));
+        probe.withStartupTimeout(Duration.ofMillis(500));
+
+        assertThatThrownBy(() -> probe.waitUntilReady(container))
+            .isInstanceOf(ContainerLaunchException.class)
+            .hasMessageContaining("test query");
+        assertThat(probe.getAttempts()).isGreaterThan(1);
+    }
+
+    @Test
+    public void probeWinsOverBlockedLogStrategy() {
+        final SQLiteContainer<?> container = new SQLiteContainer<>().withDatabaseName(directory.resolve("probe.db").toString());
+        final JdbcProbeWaitStrategy probe = new JdbcProbeWaitStrategy();
+        final FirstReadyWaitStrategy strategy = new FirstReadyWaitStrategy(new NeverReady(), probe);
+
+        strategy.waitUntilReady(container);
+
+        assertThat(strategy.getWinner()).isSameAs(probe);
+    }
+
+    /**
+     * Stand-in for a log strategy whose message never appears
+     */
+    private static final class NeverReady implements WaitStrategy {
+
+        @Override
+        public void waitUntilReady(WaitStrategyTarget waitStrategyTarget) {
+            try {
+                Thread.sleep(Duration.ofMinutes(1).toMillis());
+            } catch (InterruptedException e) {
+                throw new ContainerLaunchException("interrupted", e);
+            }
+        }
+
+        @Override
+        public WaitStrategy withStartupTimeout(Duration startupTimeout) {
+            return this;
+        }
+    }
+}
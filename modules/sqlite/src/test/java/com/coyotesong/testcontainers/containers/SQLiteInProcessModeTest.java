@@ -0,0 +1,71 @@
+package com.coyotesong.testcontainers.containers;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SQLiteInProcessModeTest {
+
+    private static int countRows(SQLiteContainer<?> container) throws SQLException {
+        try (
+            Connection conn = container.createConnection("");
+            Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM t")
+        ) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    public void inMemoryDatabaseIsSharedUntilStopped() throws SQLException {
+        final SQLiteContainer<?> container = new SQLiteContainer<>().withInProcessMode();
+        container.start();
+        try {
+            try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE t (id INTEGER)");
+                stmt.execute("INSERT INTO t VALUES (1)");
+            }
+            // every connection was closed - the anchor keeps the database
+            assertThat(countRows(container)).isEqualTo(1);
+        } finally {
+            container.stop();
+        }
+        assertThat(container.isRunning()).isFalse();
+
+        container.start();
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE t (id INTEGER)");
+            assertThat(countRows(container)).isZero();
+        } finally {
+            container.stop();
+        }
+    }
+
+    @Test
+    public void containersHaveSeparateInMemoryDatabases() throws SQLException {
+        final SQLiteContainer<?> first = new SQLiteContainer<>().withInProcessMode();
+        final SQLiteContainer<?> second = new SQLiteContainer<>().withInProcessMode();
+        first.start();
+        second.start();
+        try {
+            assertThat(first.getJdbcUrl()).isNotEqualTo(second.getJdbcUrl());
+            try (Connection conn = first.createConnection(""); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE t (id INTEGER)");
+                stmt.execute("INSERT INTO t VALUES (1)");
+            }
+            try (Connection conn = second.createConnection(""); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE t (id INTEGER)");
+            }
+            assertThat(countRows(second)).isZero();
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+}
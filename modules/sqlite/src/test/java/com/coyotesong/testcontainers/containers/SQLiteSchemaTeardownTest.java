@@ -0,0 +1,90 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.ConnectionPoolSettings;
+import com.coyotesong.testcontainers.containers.jdbc.DropOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQLite only enforces foreign keys when 'PRAGMA foreign_keys' is enabled on the connection.
+ * A referenced table can then be dropped only after the rows that refer to it are gone.
+ */
+
+public class SQLiteSchemaTeardownTest {
+
+    private static final int TABLE_COUNT = 1200;
+
+    private Path directory;
+
+    private ForeignKeyContainer container;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("sqlite-schema-teardown");
+        container = new ForeignKeyContainer()
+            .withDatabaseName(directory.resolve("teardown.db").toString())
+            .withConnectionPoolSettings(ConnectionPoolSettings.DEFAULT.withSize(0, 4));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        container.releaseMatcherResources();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void dropsTreeAndCycleWithoutCascade() throws SQLException {
+        try (Connection conn = container.createConnection(""); Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt(1)).isEqualTo(1);
+            }
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                final String parent = (i == 0) ? "" : ", parent INTEGER REFERENCES TREE_" + ((i - 1) / 2) + "(id)";
+                stmt.execute("CREATE TABLE TREE_" + i + " (id INTEGER PRIMARY KEY" + parent + ")");
+                stmt.execute("INSERT INTO TREE_" + i + " VALUES (1" + ((i == 0) ? "" : ", 1") + ")");
+            }
+            // a reference cycle that also references the tree. SQLite resolves the reference to CYCLE_B lazily.
+            stmt.execute("CREATE TABLE CYCLE_A (id INTEGER PRIMARY KEY, b INTEGER REFERENCES CYCLE_B(id), tree INTEGER REFERENCES TREE_0(id))");
+            stmt.execute("CREATE TABLE CYCLE_B (id INTEGER PRIMARY KEY, a INTEGER REFERENCES CYCLE_A(id))");
+            stmt.execute("INSERT INTO CYCLE_A VALUES (1, NULL, 1)");
+
+            // catalog order drops the root while the rest of the tree still refers to it
+            assertThatThrownBy(() -> stmt.execute("DROP TABLE TREE_0"))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("FOREIGN KEY constraint failed");
+        }
+
+        assertThat(container.schemaIsEmptyAfterDrop(null, null, 4, DropOptions.BATCHED).matches(null)).isTrue();
+    }
+
+    /**
+     * Enables foreign keys on every connection, including the pooled ones used by the teardown
+     */
+    private static final class ForeignKeyContainer extends SQLiteContainer<ForeignKeyContainer> {
+
+        @Override
+        public Connection createConnection(String queryString, Properties info) throws SQLException {
+            info.setProperty("foreign_keys", "true");
+            return super.createConnection(queryString, info);
+        }
+    }
+}
@@ -1,12 +1,25 @@
 package com.coyotesong.testcontainers.containers;
 
+import com.coyotesong.testcontainers.containers.jdbc.BulkLoader;
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.FingerprintStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.JdbcProbeWaitStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.RowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TimedJdbcDatabaseContainer;
+import com.coyotesong.testcontainers.containers.output.FrameClassifiers;
+import com.coyotesong.testcontainers.containers.output.LogFormat;
+import com.coyotesong.testcontainers.containers.output.LogFormats;
+import com.coyotesong.testcontainers.containers.reuse.ContainerFingerprint;
+import com.coyotesong.testcontainers.containers.output.PatternFrameClassifier;
+import com.coyotesong.testcontainers.containers.wait.FirstReadyWaitStrategy;
+import com.coyotesong.testcontainers.containers.wait.StreamingLogWaitStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testcontainers.containers.JdbcDatabaseContainer;
-import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
 import org.testcontainers.utility.DockerImageName;
 
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.time.Duration;
 
 /**
@@ -20,9 +33,22 @@ import java.time.Duration;
  *     // https://www.vertica.com/
  *     // https://www.microfocus.com/en-us/legal/software-licensing
  *
+ * The container is ready as soon as either the log message 'Vertica is now running'
+ * appears or the test query succeeds. The image loads the VMart example database
+ * after the server starts accepting queries, so VMart may still be empty or partially
+ * loaded when start() returns. Tests that read VMart should wait for the log message
+ * alone:
+ *
+ *     container.waitingFor(
+ *         new StreamingLogWaitStrategy()
+ *             .withMarker("Vertica is now running")
+ *             .withStartupTimeout(Duration.ofMinutes(5))
+ *     );
+ *
  * @param <SELF> this class
  */
-public class VerticaContainer<SELF extends VerticaContainer<SELF>> extends JdbcDatabaseContainer<SELF> {
+public class VerticaContainer<SELF extends VerticaContainer<SELF>>
+    extends TimedJdbcDatabaseContainer<SELF> {
 
     private static final Logger LOG = LoggerFactory.getLogger(VerticaContainer.class);
 
@@ -37,6 +63,19 @@ public class VerticaContainer<SELF extends VerticaContainer<SELF>> extends JdbcD
 
     private static final DockerImageName DEFAULT_IMAGE_NAME = DockerImageName.parse(IMAGE);
 
+    /**
+     * Noise markers for SelectiveLogConsumer - embedded vertica.log statements.
+     * Registered by VerticaFrameClassifierProvider.
+     */
+    public static final PatternFrameClassifier LOG_CLASSIFIER =
+        FrameClassifiers.DEFAULT.withMarkers(" <INFO> ", " <DEBUG> ", " <LOG> ", " <NOTICE> ");
+
+    /**
+     * Log format for SelectiveLogConsumer structured mode - vertica.log statements.
+     * Registered by VerticaLogFormatProvider.
+     */
+    public static final LogFormat LOG_FORMAT = LogFormats.VERTICA;
+
     private static final Integer VERTICA_DATABASE_PORT = 5433;
 
     private static final Integer[] VERTICA_PORTS = { VERTICA_DATABASE_PORT, 5444 };
@@ -76,11 +115,14 @@ public class VerticaContainer<SELF extends VerticaContainer<SELF>> extends JdbcD
      * @param dockerImageName image name
      */
     public VerticaContainer(final DockerImageName dockerImageName) {
-        super(dockerImageName);
+        super(dockerImageName, NAME);
         dockerImageName.assertCompatibleWith(DEFAULT_IMAGE_NAME);
+        // the database often accepts queries before the log message appears
         this.waitStrategy =
-            new LogMessageWaitStrategy()
-                .withRegEx(".*Vertica is now running.*\\s")
+            new FirstReadyWaitStrategy(
+                new StreamingLogWaitStrategy().withMarker("Vertica is now running"),
+                new JdbcProbeWaitStrategy()
+            )
                 .withStartupTimeout(Duration.ofMinutes(5));
         // this.setCommand("...");
 
@@ -91,6 +133,8 @@ public class VerticaContainer<SELF extends VerticaContainer<SELF>> extends JdbcD
 
     @Override
     protected void configure() {
+        super.configure();
+
         // no effect?...
 
         // addEnv("VERTICA_DB_USER", username);
@@ -271,7 +315,54 @@ public class VerticaContainer<SELF extends VerticaContainer<SELF>> extends JdbcD
     }
 
     @Override
-    protected void waitUntilContainerStarted() {
-        getWaitStrategy().waitUntilReady(this);
+    public BulkLoader getBulkLoader() {
+        return new VerticaCopyLoader();
+    }
+
+    @Override
+    public FingerprintStrategy getFingerprintStrategy() {
+        return new VerticaFingerprintStrategy();
+    }
+
+    @Override
+    public RowCountStrategy getRowCountStrategy() {
+        return new VerticaRowCountStrategy();
+    }
+
+    @Override
+    public Dialect createDialect(DatabaseMetaData metadata) throws SQLException {
+        return new VerticaDialect(metadata);
+    }
+
+    /**
+     * Add the login timeout and TLS stores to the fingerprint
+     *
+     * @param builder fingerprint builder
+     */
+    @Override
+    public void contributeTo(ContainerFingerprint.Builder builder) {
+        super.contributeTo(builder);
+        builder
+            .add("loginTimeout", loginTimeout)
+            .add("keyStorePath", keyStorePath)
+            .add("keyStorePassword", keyStorePassword)
+            .add("trustStorePath", trustStorePath)
+            .add("trustStorePassword", trustStorePassword);
+    }
+
+    /**
+     * The driver can't be isolated: the COPY bulk loader unwraps its connections to
+     * VerticaConnection, which is not visible to an isolated driver's class loader.
+     *
+     * @param isolatedDriver must be 'false'
+     * @return this object
+     * @throws UnsupportedOperationException isolatedDriver is 'true'
+     */
+    @Override
+    public SELF withIsolatedDriver(final boolean isolatedDriver) {
+        if (isolatedDriver) {
+            throw new UnsupportedOperationException("the Vertica driver can't be isolated - COPY needs VerticaConnection");
+        }
+        return super.withIsolatedDriver(false);
     }
 }
@@ -0,0 +1,77 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.BulkLoader;
+import com.coyotesong.testcontainers.containers.jdbc.CsvInputStream;
+import com.coyotesong.testcontainers.containers.jdbc.LoadResult;
+import com.vertica.jdbc.VerticaConnection;
+import com.vertica.jdbc.VerticaCopyStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Vertica bulk loader using 'COPY ... FROM STDIN'
+ * <p>
+ * The rows are encoded as CSV on demand and streamed to the server with the driver's
+ * VerticaCopyStream. CSV files are streamed as-is. Both are parsed on the server by
+ * the RFC 4180 'fcsvparser'. An unquoted empty field is loaded as NULL.
+ * <p>
+ * The load is aborted on the first rejected row so errors are not silently ignored.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://docs.vertica.com/23.3.x/en/connecting-to/client-libraries/accessing/java/loading-data-through-jdbc/streaming-data-via-jdbc/
+ * - https://docs.vertica.com/23.3.x/en/sql-reference/functions/data-type-specific-functions/flex-functions/flex-parsers/fcsvparser/
+ */
+public class VerticaCopyLoader implements BulkLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VerticaCopyLoader.class);
+
+    @Override
+    public LoadResult load(Connection conn, String table, List<String> columns, Iterator<Object[]> rows)
+        throws SQLException {
+        return copy(conn, table, columns, new CsvInputStream(rows), false);
+    }
+
+    @Override
+    public LoadResult loadCsv(Connection conn, String table, List<String> columns, Path file, boolean header)
+        throws SQLException {
+        try (InputStream is = Files.newInputStream(file)) {
+            return copy(conn, table, columns, is, header);
+        } catch (IOException e) {
+            throw new SQLException("unable to read '" + file + "': " + e.getMessage(), e);
+        }
+    }
+
+    private LoadResult copy(Connection conn, String table, List<String> columns, InputStream is, boolean header)
+        throws SQLException {
+        final long start = System.nanoTime();
+        final String sql = String.format(
+            "COPY %s (%s) FROM STDIN PARSER fcsvparser(header='%s') ABORT ON ERROR",
+            table,
+            String.join(", ", columns),
+            header
+        );
+
+        final VerticaCopyStream stream = new VerticaCopyStream(conn.unwrap(VerticaConnection.class), sql);
+        stream.start();
+        stream.addStream(is);
+        stream.execute();
+        final long count = stream.finish();
+        if (!conn.getAutoCommit()) {
+            conn.commit();
+        }
+
+        final LoadResult result = new LoadResult(table, count, System.nanoTime() - start);
+        LOG.debug("{}", result);
+        return result;
+    }
+}
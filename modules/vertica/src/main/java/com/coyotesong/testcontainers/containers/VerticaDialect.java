@@ -0,0 +1,42 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Vertica dialect
+ * <p>
+ * Vertica accepts a list of tables in 'DROP TABLE'. The statement is atomic, which also
+ * avoids one catalog lock per table.
+ * <p>
+ * Identifiers are stored as written and compared without regard to case. The driver's
+ * DatabaseMetaData answer depends on connection properties so it is not used.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://docs.vertica.com/23.3.x/en/sql-reference/statements/drop-statements/drop-table/
+ */
+public class VerticaDialect extends Dialect {
+
+    /**
+     * Constructor
+     *
+     * @param metadata database metadata
+     * @throws SQLException unable to read metadata
+     */
+    public VerticaDialect(DatabaseMetaData metadata) throws SQLException {
+        super(metadata);
+    }
+
+    @Override
+    public IdentifierCase getIdentifierCase() {
+        return IdentifierCase.MIXED;
+    }
+
+    @Override
+    public boolean supportsMultiTableDrop() {
+        return true;
+    }
+}
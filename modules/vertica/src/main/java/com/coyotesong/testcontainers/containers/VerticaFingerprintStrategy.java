@@ -0,0 +1,36 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.AggregateFingerprintStrategy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Vertica table fingerprint using the HASH() function
+ * <p>
+ * HASH() accepts any number of arguments of any type, including NULL, and returns a
+ * non-negative 64-bit integer. The fingerprint is the sum of two independent row
+ * hashes, each reduced modulo a 31-bit prime so that the sums cannot overflow an
+ * INTEGER for up to 2^32 rows.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://docs.vertica.com/23.3.x/en/sql-reference/functions/mathematical-functions/hash/
+ */
+public class VerticaFingerprintStrategy extends AggregateFingerprintStrategy {
+
+    @Override
+    protected String getAlgorithm() {
+        return "vertica-hash";
+    }
+
+    @Override
+    protected List<String> getAggregates(List<String> columns) {
+        final String list = String.join(", ", columns);
+        return Arrays.asList(
+            "SUM(MOD(HASH(" + list + "), 2147483647))",
+            // a leading constant gives an independent hash of the same row
+            "SUM(MOD(HASH(0, " + list + "), 2147483629))"
+        );
+    }
+}
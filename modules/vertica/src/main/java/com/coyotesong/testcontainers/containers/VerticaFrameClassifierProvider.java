@@ -0,0 +1,23 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.output.FrameClassifier;
+import com.coyotesong.testcontainers.containers.output.FrameClassifierProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registers the Vertica noise markers with FrameClassifiers
+ */
+public class VerticaFrameClassifierProvider implements FrameClassifierProvider {
+
+    @Override
+    public List<String> getNames() {
+        return Arrays.asList(VerticaContainer.IMAGE, VerticaContainer.NAME);
+    }
+
+    @Override
+    public FrameClassifier getClassifier() {
+        return VerticaContainer.LOG_CLASSIFIER;
+    }
+}
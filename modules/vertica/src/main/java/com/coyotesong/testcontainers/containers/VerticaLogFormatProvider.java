@@ -0,0 +1,23 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.output.LogFormat;
+import com.coyotesong.testcontainers.containers.output.LogFormatProvider;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registers the Vertica log format with LogFormats
+ */
+public class VerticaLogFormatProvider implements LogFormatProvider {
+
+    @Override
+    public List<String> getNames() {
+        return Arrays.asList(VerticaContainer.IMAGE, VerticaContainer.NAME);
+    }
+
+    @Override
+    public LogFormat getFormat() {
+        return VerticaContainer.LOG_FORMAT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.jdbc.Dialect;
+import com.coyotesong.testcontainers.containers.jdbc.StatisticsRowCountStrategy;
+import com.coyotesong.testcontainers.containers.jdbc.TableName;
+
+/**
+ * Vertica row count estimate from v_monitor.projection_storage
+ * <p>
+ * Every super projection holds every row, split across the nodes, so the number of
+ * rows is the largest per-projection total. The count includes deleted rows that
+ * have not been purged yet.
+ * <p>
+ * For more information see:
+ * <p>
+ * - https://docs.vertica.com/23.3.x/en/sql-reference/system-tables/v-monitor-schema/projection-storage/
+ */
+public class VerticaRowCountStrategy extends StatisticsRowCountStrategy {
+
+    // Vertica identifiers are case-insensitive
+    private static final String QUERY =
+        "SELECT MAX(row_count) FROM (" +
+        "SELECT projection_name, SUM(row_count) AS row_count FROM v_monitor.projection_storage " +
+        "WHERE LOWER(anchor_table_schema) = LOWER(COALESCE(CAST(? AS VARCHAR), CURRENT_SCHEMA())) " +
+        "AND LOWER(anchor_table_name) = LOWER(?) " +
+        "GROUP BY projection_name) p";
+
+    @Override
+    protected String getQuery(TableName table, Dialect dialect) {
+        return QUERY;
+    }
+
+    @Override
+    protected String getSource() {
+        return "v_monitor.projection_storage";
+    }
+}
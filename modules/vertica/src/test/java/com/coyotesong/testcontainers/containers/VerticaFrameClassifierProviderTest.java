@@ -0,0 +1,28 @@
+package com.coyotesong.testcontainers.containers;
+
+import com.coyotesong.testcontainers.containers.output.FrameClassifiers;
+import com.coyotesong.testcontainers.containers.output.LogFormats;
+import com.coyotesong.testcontainers.containers.output.SelectiveLogConsumer;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerticaFrameClassifierProviderTest {
+
+    @Test
+    public void consumerCreatedBeforeContainerFindsClassifier() {
+        // VerticaContainer.NAME is a compile-time constant - this does not initialize VerticaContainer
+        final SelectiveLogConsumer consumer = new SelectiveLogConsumer(VerticaContainer.NAME);
+        assertThat(consumer.getClassifier()).isSameAs(VerticaContainer.LOG_CLASSIFIER);
+        assertThat(FrameClassifiers.lookup(VerticaContainer.IMAGE + ":" + VerticaContainer.DEFAULT_TAG))
+            .isSameAs(VerticaContainer.LOG_CLASSIFIER);
+    }
+
+    @Test
+    public void formatIsRegisteredBeforeContainerIsInitialized() {
+        // compares with LogFormats.VERTICA since reading VerticaContainer.LOG_FORMAT initializes VerticaContainer
+        assertThat(LogFormats.lookup(VerticaContainer.NAME)).isSameAs(LogFormats.VERTICA);
+        assertThat(LogFormats.lookup(VerticaContainer.IMAGE + ":" + VerticaContainer.DEFAULT_TAG))
+            .isSameAs(LogFormats.VERTICA);
+    }
+}